@@ -11,14 +11,54 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_COUNT_SIZE_ENV = "MESH_CACHE_COUNT_SIZE";
+
+	public static final String MESH_CACHE_SEARCH_DOCUMENT_SIZE_ENV = "MESH_CACHE_SEARCH_DOCUMENT_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV = "MESH_CACHE_GRAPHQL_SCHEMA_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_QUERY_SIZE_ENV = "MESH_CACHE_GRAPHQL_QUERY_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_COUNT_CACHE_SIZE = 10_000;
+
+	private static final long DEFAULT_SEARCH_DOCUMENT_CACHE_SIZE = 5_000;
+
+	private static final long DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE = 100;
+
+	private static final long DEFAULT_GRAPHQL_QUERY_CACHE_SIZE = 1_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the count cache which stores the total counts of lists for the estimate count strategy. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_COUNT_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_COUNT_SIZE_ENV, description = "Override the count cache size.")
+	private long countCacheSize = DEFAULT_COUNT_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the search document cache which stores transformed node documents for the search index. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_SEARCH_DOCUMENT_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_SEARCH_DOCUMENT_SIZE_ENV, description = "Override the search document cache size.")
+	private long searchDocumentCacheSize = DEFAULT_SEARCH_DOCUMENT_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the GraphQL schema cache which stores the built GraphQL schemas per project, branch and API version. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV, description = "Override the GraphQL schema cache size.")
+	private long graphQLSchemaCacheSize = DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the GraphQL query cache which stores parsed and validated GraphQL queries. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_QUERY_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_QUERY_SIZE_ENV, description = "Override the GraphQL query cache size.")
+	private long graphQLQueryCacheSize = DEFAULT_GRAPHQL_QUERY_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -32,6 +72,42 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getCountCacheSize() {
+		return countCacheSize;
+	}
+
+	public CacheConfig setCountCacheSize(long countCacheSize) {
+		this.countCacheSize = countCacheSize;
+		return this;
+	}
+
+	public long getSearchDocumentCacheSize() {
+		return searchDocumentCacheSize;
+	}
+
+	public CacheConfig setSearchDocumentCacheSize(long searchDocumentCacheSize) {
+		this.searchDocumentCacheSize = searchDocumentCacheSize;
+		return this;
+	}
+
+	public long getGraphQLSchemaCacheSize() {
+		return graphQLSchemaCacheSize;
+	}
+
+	public CacheConfig setGraphQLSchemaCacheSize(long graphQLSchemaCacheSize) {
+		this.graphQLSchemaCacheSize = graphQLSchemaCacheSize;
+		return this;
+	}
+
+	public long getGraphQLQueryCacheSize() {
+		return graphQLQueryCacheSize;
+	}
+
+	public CacheConfig setGraphQLQueryCacheSize(long graphQLQueryCacheSize) {
+		this.graphQLQueryCacheSize = graphQLQueryCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
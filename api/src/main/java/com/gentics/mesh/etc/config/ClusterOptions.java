@@ -23,6 +23,7 @@ public class ClusterOptions implements Option {
 	public static final int DEFAULT_VERTX_PORT = 4848;
 	public static final long DEFAULT_TOPOLOGY_LOCK_TIMEOUT = 0;
 	public static final long DEFAULT_TOPOLOGY_LOCK_DELAY = 20_000; // 20 seconds
+	public static final int DEFAULT_TOPOLOGY_LOCK_MAX_WAITERS = 1000;
 
 	public static final String MESH_CLUSTER_NETWORK_HOST_ENV = "MESH_CLUSTER_NETWORK_HOST";
 	public static final String MESH_CLUSTER_ENABLED_ENV = "MESH_CLUSTER_ENABLED";
@@ -32,6 +33,7 @@ public class ClusterOptions implements Option {
 	public static final String MESH_CLUSTER_COORDINATOR_REGEX_ENV = "MESH_CLUSTER_COORDINATOR_REGEX";
 	public static final String MESH_CLUSTER_TOPOLOGY_LOCK_TIMEOUT_ENV = "MESH_CLUSTER_TOPOLOGY_LOCK_TIMEOUT";
 	public static final String MESH_CLUSTER_TOPOLOGY_LOCK_DELAY_ENV = "MESH_CLUSTER_TOPOLOGY_LOCK_DELAY";
+	public static final String MESH_CLUSTER_TOPOLOGY_LOCK_MAX_WAITERS_ENV = "MESH_CLUSTER_TOPOLOGY_LOCK_MAX_WAITERS";
 	public static final String MESH_CLUSTER_COORDINATOR_TOPOLOGY_ENV = "MESH_CLUSTER_COORDINATOR_TOPOLOGY";
 
 	@JsonProperty(required = false)
@@ -80,6 +82,12 @@ public class ClusterOptions implements Option {
 	@EnvironmentVariable(name = MESH_CLUSTER_TOPOLOGY_LOCK_DELAY_ENV, description = "Override the cluster topology lock delay in ms.")
 	private long topologyLockDelay = DEFAULT_TOPOLOGY_LOCK_DELAY;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Define the maximum amount of write requests which wait for the release of the topology lock. Further write requests will be rejected with 503 Service Unavailable. Default: "
+		+ DEFAULT_TOPOLOGY_LOCK_MAX_WAITERS + ". A value of 0 will reject all write requests while the topology is locked.")
+	@EnvironmentVariable(name = MESH_CLUSTER_TOPOLOGY_LOCK_MAX_WAITERS_ENV, description = "Override the maximum amount of requests which wait for the cluster topology lock.")
+	private int topologyLockMaxWaiters = DEFAULT_TOPOLOGY_LOCK_MAX_WAITERS;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The coordinator topology setting controls whether the coordinator should manage the cluster topology. By default no cluster topology management will be done.")
 	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_TOPOLOGY_ENV, description = "Override the cluster coordinator topology management mode.")
@@ -166,6 +174,15 @@ public class ClusterOptions implements Option {
 		return this;
 	}
 
+	public int getTopologyLockMaxWaiters() {
+		return topologyLockMaxWaiters;
+	}
+
+	public ClusterOptions setTopologyLockMaxWaiters(int topologyLockMaxWaiters) {
+		this.topologyLockMaxWaiters = topologyLockMaxWaiters;
+		return this;
+	}
+
 	/**
 	 * Validate the options.
 	 * 
@@ -176,6 +193,9 @@ public class ClusterOptions implements Option {
 			Objects.requireNonNull(getClusterName(), "No cluster.clusterName was specified within mesh options.");
 			Objects.requireNonNull(meshOptions.getNodeName(), "No nodeName was specified within mesh options.");
 		}
+		if (getTopologyLockMaxWaiters() < 0) {
+			throw new IllegalArgumentException("topologyLockMaxWaiters must not be negative.");
+		}
 	}
 
 }
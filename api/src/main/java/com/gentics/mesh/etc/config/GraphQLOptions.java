@@ -0,0 +1,170 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+@GenerateDocumentation
+public class GraphQLOptions implements Option {
+
+	public static final String MESH_GRAPHQL_PERSISTED_QUERIES_ENV = "MESH_GRAPHQL_PERSISTED_QUERIES";
+
+	public static final String MESH_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE_ENV = "MESH_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE";
+
+	public static final String MESH_GRAPHQL_MAX_QUERY_DEPTH_ENV = "MESH_GRAPHQL_MAX_QUERY_DEPTH";
+
+	public static final String MESH_GRAPHQL_MAX_QUERY_COST_ENV = "MESH_GRAPHQL_MAX_QUERY_COST";
+
+	public static final String MESH_GRAPHQL_ESTIMATED_PAGE_SIZE_ENV = "MESH_GRAPHQL_ESTIMATED_PAGE_SIZE";
+
+	public static final String MESH_GRAPHQL_QUERY_TIMEOUT_ENV = "MESH_GRAPHQL_QUERY_TIMEOUT";
+
+	public static final String MESH_GRAPHQL_SLOW_QUERY_THRESHOLD_ENV = "MESH_GRAPHQL_SLOW_QUERY_THRESHOLD";
+
+	private static final boolean DEFAULT_PERSISTED_QUERIES = false;
+
+	private static final long DEFAULT_PERSISTED_QUERY_CACHE_SIZE = 10_000;
+
+	private static final int DEFAULT_MAX_QUERY_DEPTH = 0;
+
+	private static final long DEFAULT_MAX_QUERY_COST = 0;
+
+	private static final long DEFAULT_ESTIMATED_PAGE_SIZE = 100;
+
+	private static final long DEFAULT_QUERY_TIMEOUT = 0;
+
+	private static final long DEFAULT_SLOW_QUERY_THRESHOLD = 10_000;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables persisted queries. Clients may send the SHA-256 hash of a previously registered query instead of the query itself. Default: "
+		+ DEFAULT_PERSISTED_QUERIES)
+	@EnvironmentVariable(name = MESH_GRAPHQL_PERSISTED_QUERIES_ENV, description = "Override the GraphQL persisted queries flag.")
+	private boolean persistedQueries = DEFAULT_PERSISTED_QUERIES;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of persisted queries which are kept per instance. Least recently used queries will be evicted and need to be registered again. Default: "
+		+ DEFAULT_PERSISTED_QUERY_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE_ENV, description = "Override the GraphQL persisted query cache size.")
+	private long persistedQueryCacheSize = DEFAULT_PERSISTED_QUERY_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum nesting depth of fields in a query. Deeper queries will be rejected before they get executed. Use 0 to disable the limit. Default: "
+		+ DEFAULT_MAX_QUERY_DEPTH)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_QUERY_DEPTH_ENV, description = "Override the maximum GraphQL query depth.")
+	private int maxQueryDepth = DEFAULT_MAX_QUERY_DEPTH;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum estimated cost of a query. The cost is the amount of fields which need to be resolved, assuming that every page contains the requested amount of elements. More expensive queries will be rejected before they get executed. Use 0 to disable the limit. Default: "
+		+ DEFAULT_MAX_QUERY_COST)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_QUERY_COST_ENV, description = "Override the maximum GraphQL query cost.")
+	private long maxQueryCost = DEFAULT_MAX_QUERY_COST;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the amount of elements which is assumed when estimating the cost of paged fields without a perPage argument. These fields return all elements. Default: "
+		+ DEFAULT_ESTIMATED_PAGE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_ESTIMATED_PAGE_SIZE_ENV, description = "Override the estimated GraphQL page size.")
+	private long estimatedPageSize = DEFAULT_ESTIMATED_PAGE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the timeout in milliseconds for the execution of a query. Fields which are resolved after the timeout will fail and the query will be aborted. Use 0 to disable the timeout. Default: "
+		+ DEFAULT_QUERY_TIMEOUT)
+	@EnvironmentVariable(name = MESH_GRAPHQL_QUERY_TIMEOUT_ENV, description = "Override the GraphQL query timeout.")
+	private long queryTimeout = DEFAULT_QUERY_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the threshold in milliseconds after which a query is considered to be slow. Slow queries will be logged and counted. Use 0 to disable the slow query tracking. Default: "
+		+ DEFAULT_SLOW_QUERY_THRESHOLD)
+	@EnvironmentVariable(name = MESH_GRAPHQL_SLOW_QUERY_THRESHOLD_ENV, description = "Override the GraphQL slow query threshold.")
+	private long slowQueryThreshold = DEFAULT_SLOW_QUERY_THRESHOLD;
+
+	public GraphQLOptions() {
+
+	}
+
+	public boolean isPersistedQueries() {
+		return persistedQueries;
+	}
+
+	public GraphQLOptions setPersistedQueries(boolean persistedQueries) {
+		this.persistedQueries = persistedQueries;
+		return this;
+	}
+
+	public long getPersistedQueryCacheSize() {
+		return persistedQueryCacheSize;
+	}
+
+	public GraphQLOptions setPersistedQueryCacheSize(long persistedQueryCacheSize) {
+		this.persistedQueryCacheSize = persistedQueryCacheSize;
+		return this;
+	}
+
+	public int getMaxQueryDepth() {
+		return maxQueryDepth;
+	}
+
+	public GraphQLOptions setMaxQueryDepth(int maxQueryDepth) {
+		this.maxQueryDepth = maxQueryDepth;
+		return this;
+	}
+
+	public long getMaxQueryCost() {
+		return maxQueryCost;
+	}
+
+	public GraphQLOptions setMaxQueryCost(long maxQueryCost) {
+		this.maxQueryCost = maxQueryCost;
+		return this;
+	}
+
+	public long getEstimatedPageSize() {
+		return estimatedPageSize;
+	}
+
+	public GraphQLOptions setEstimatedPageSize(long estimatedPageSize) {
+		this.estimatedPageSize = estimatedPageSize;
+		return this;
+	}
+
+	public long getQueryTimeout() {
+		return queryTimeout;
+	}
+
+	public GraphQLOptions setQueryTimeout(long queryTimeout) {
+		this.queryTimeout = queryTimeout;
+		return this;
+	}
+
+	public long getSlowQueryThreshold() {
+		return slowQueryThreshold;
+	}
+
+	public GraphQLOptions setSlowQueryThreshold(long slowQueryThreshold) {
+		this.slowQueryThreshold = slowQueryThreshold;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions options) {
+		if (getPersistedQueryCacheSize() < 0) {
+			throw new IllegalArgumentException("persistedQueryCacheSize must not be negative.");
+		}
+		if (getMaxQueryDepth() < 0) {
+			throw new IllegalArgumentException("maxQueryDepth must not be negative.");
+		}
+		if (getMaxQueryCost() < 0) {
+			throw new IllegalArgumentException("maxQueryCost must not be negative.");
+		}
+		if (getEstimatedPageSize() < 1) {
+			throw new IllegalArgumentException("estimatedPageSize must be at least 1.");
+		}
+		if (getQueryTimeout() < 0) {
+			throw new IllegalArgumentException("queryTimeout must not be negative.");
+		}
+		if (getSlowQueryThreshold() < 0) {
+			throw new IllegalArgumentException("slowQueryThreshold must not be negative.");
+		}
+	}
+}
@@ -24,6 +24,9 @@ public class GraphStorageOptions implements Option {
 	public static final long DEFAULT_SYNC_WRITES_TIMEOUT = 60_000;
 	public static final int DEFAULT_TX_RETRY_DELAY = 10;
 	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
+	public static final int DEFAULT_TX_RETRY_MAX_DELAY = 1000;
+	public static final long DEFAULT_TX_RETRY_BUDGET = 0;
+	public static final int DEFAULT_TX_CONFLICT_LOCK_STRIPES = 0;
 	public static final long DEFAULT_TX_COMMIT_TIMEOUT = 0;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
@@ -34,6 +37,9 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV = "MESH_GRAPH_SYNC_WRITES_TIMEOUT";
 	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
 	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
+	public static final String MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV = "MESH_GRAPH_TX_RETRY_MAX_DELAY";
+	public static final String MESH_GRAPH_TX_RETRY_BUDGET_ENV = "MESH_GRAPH_TX_RETRY_BUDGET";
+	public static final String MESH_GRAPH_TX_CONFLICT_LOCK_STRIPES_ENV = "MESH_GRAPH_TX_CONFLICT_LOCK_STRIPES";
 	public static final String MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV = "MESH_GRAPH_TX_COMMIT_TIMEOUT";
 
 	@JsonProperty(required = true)
@@ -78,6 +84,24 @@ public class GraphStorageOptions implements Option {
 		+ DEFAULT_TX_RETRY_LIMIT)
 	private int txRetryLimit = DEFAULT_TX_RETRY_LIMIT;
 
+	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_MAX_DELAY + "ms")
+	@JsonPropertyDescription("The maximum delay in milliseconds between two retries of a transaction. The retry delay doubles with every retry until this value is reached.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV, description = "Override the maximum transaction retry delay. Default: "
+		+ DEFAULT_TX_RETRY_MAX_DELAY)
+	private int txRetryMaxDelay = DEFAULT_TX_RETRY_MAX_DELAY;
+
+	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_BUDGET + "ms")
+	@JsonPropertyDescription("The maximum time in milliseconds which a transaction may spend on retries. A value of zero means that only the retry limit applies.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_BUDGET_ENV, description = "Override the transaction retry budget. Default: "
+		+ DEFAULT_TX_RETRY_BUDGET)
+	private long txRetryBudget = DEFAULT_TX_RETRY_BUDGET;
+
+	@JsonProperty(defaultValue = DEFAULT_TX_CONFLICT_LOCK_STRIPES + "")
+	@JsonPropertyDescription("Amount of lock stripes which are used to serialize the retries of transactions that conflicted on the same element. A value of zero disables the lock.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_CONFLICT_LOCK_STRIPES_ENV, description = "Override the amount of transaction conflict lock stripes. Default: "
+		+ DEFAULT_TX_CONFLICT_LOCK_STRIPES)
+	private int txConflictLockStripes = DEFAULT_TX_CONFLICT_LOCK_STRIPES;
+
 	@JsonProperty(defaultValue = DEFAULT_TX_COMMIT_TIMEOUT + " ms")
 	@JsonPropertyDescription("The transaction commit timeout in milliseconds. A timeout value of zero means that transaction commit operations will never timeout.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV, description = "Override the transaction commit timeout. Default: "
@@ -182,6 +206,33 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getTxRetryMaxDelay() {
+		return txRetryMaxDelay;
+	}
+
+	public GraphStorageOptions setTxRetryMaxDelay(int txRetryMaxDelay) {
+		this.txRetryMaxDelay = txRetryMaxDelay;
+		return this;
+	}
+
+	public long getTxRetryBudget() {
+		return txRetryBudget;
+	}
+
+	public GraphStorageOptions setTxRetryBudget(long txRetryBudget) {
+		this.txRetryBudget = txRetryBudget;
+		return this;
+	}
+
+	public int getTxConflictLockStripes() {
+		return txConflictLockStripes;
+	}
+
+	public GraphStorageOptions setTxConflictLockStripes(int txConflictLockStripes) {
+		this.txConflictLockStripes = txConflictLockStripes;
+		return this;
+	}
+
 	public long getTxCommitTimeout() {
 		return this.txCommitTimeout;
 	}
@@ -196,6 +247,15 @@ public class GraphStorageOptions implements Option {
 			throw new NullPointerException(
 				"You have not specified a data directory and enabled the graph server. It is not possible to run Gentics Mesh in memory mode and start the graph server.");
 		}
+		if (getTxRetryMaxDelay() < 0) {
+			throw new IllegalArgumentException("txRetryMaxDelay must not be negative.");
+		}
+		if (getTxRetryBudget() < 0) {
+			throw new IllegalArgumentException("txRetryBudget must not be negative.");
+		}
+		if (getTxConflictLockStripes() < 0) {
+			throw new IllegalArgumentException("txConflictLockStripes must not be negative.");
+		}
 	}
 
 }
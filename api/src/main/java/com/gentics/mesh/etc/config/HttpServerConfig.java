@@ -37,6 +37,7 @@ public class HttpServerConfig implements Option {
 	public static final String DEFAULT_KEY_PATH = "config/key.pem";
 	public static final ClientAuth DEFAULT_CLIENT_AUTH_MODE = ClientAuth.NONE;
 	public static final boolean DEFAULT_SERVER_TOKENS = true;
+	public static final boolean DEFAULT_MINIFY_JSON = true;
 
 	public static final String MESH_HTTP_PORT_ENV = "MESH_HTTP_PORT";
 	public static final String MESH_HTTPS_PORT_ENV = "MESH_HTTPS_PORT";
@@ -53,6 +54,7 @@ public class HttpServerConfig implements Option {
 	public static final String MESH_HTTP_SSL_TRUSTED_CERTS_ENV = "MESH_HTTP_SSL_TRUSTED_CERTS";
 	public static final String MESH_HTTP_CORS_ALLOW_CREDENTIALS_ENV = "MESH_HTTP_CORS_ALLOW_CREDENTIALS";
 	public static final String MESH_HTTP_SERVER_TOKENS_ENV = "MESH_HTTP_SERVER_TOKENS";
+	public static final String MESH_HTTP_SERVER_MINIFY_JSON_ENV = "MESH_HTTP_SERVER_MINIFY_JSON";
 
 	public static final int DEFAULT_VERTICLE_AMOUNT = 2 * Runtime.getRuntime().availableProcessors();
 
@@ -126,6 +128,12 @@ public class HttpServerConfig implements Option {
 	@EnvironmentVariable(name = MESH_HTTP_SERVER_TOKENS_ENV, description = "Override the http server tokens flag.")
 	private boolean serverTokens = DEFAULT_SERVER_TOKENS;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the flag which controls whether the JSON of REST and GraphQL responses should be minified. Pretty printed JSON can still be requested via the pretty query parameter. Default is "
+		+ DEFAULT_MINIFY_JSON)
+	@EnvironmentVariable(name = MESH_HTTP_SERVER_MINIFY_JSON_ENV, description = "Override the http server JSON minification flag.")
+	private boolean minifyJson = DEFAULT_MINIFY_JSON;
+
 	public HttpServerConfig() {
 	}
 
@@ -260,6 +268,15 @@ public class HttpServerConfig implements Option {
 		return this;
 	}
 
+	public boolean isMinifyJson() {
+		return minifyJson;
+	}
+
+	public HttpServerConfig setMinifyJson(boolean flag) {
+		this.minifyJson = flag;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 		if (ssl && (isEmpty(getCertPath()) || isEmpty(getKeyPath()))) {
 			throw new IllegalStateException("SSL is enabled but either the server key or the cert path was not specified.");
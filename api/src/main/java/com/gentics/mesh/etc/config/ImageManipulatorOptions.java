@@ -19,19 +19,37 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
 	public static final String MESH_IMAGE_CACHE_DIRECTORY_ENV = "MESH_IMAGE_CACHE_DIRECTORY";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
+	public static final String MESH_IMAGE_SUBSAMPLING_ENV = "MESH_IMAGE_SUBSAMPLING";
+	public static final String MESH_IMAGE_MAX_CONCURRENT_OPERATIONS_ENV = "MESH_IMAGE_MAX_CONCURRENT_OPERATIONS";
+	public static final String MESH_IMAGE_MAX_QUEUED_OPERATIONS_ENV = "MESH_IMAGE_MAX_QUEUED_OPERATIONS";
+	public static final String MESH_IMAGE_OPERATION_TIMEOUT_ENV = "MESH_IMAGE_OPERATION_TIMEOUT";
+	public static final String MESH_IMAGE_MAX_OPERATION_MEMORY_ENV = "MESH_IMAGE_MAX_OPERATION_MEMORY";
 
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
 	public static final float DEFAULT_JPEG_QUALITY = 0.95f;
 	public static final String DEFAULT_IMAGE_CACHE_DIRECTORY = "data" + File.separator + "binaryImageCache";
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 0;
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
+	public static final boolean DEFAULT_SUBSAMPLING = true;
+	public static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 5;
+	public static final int DEFAULT_MAX_QUEUED_OPERATIONS = 100;
+	public static final long DEFAULT_OPERATION_TIMEOUT = 60_000;
+	public static final long DEFAULT_MAX_OPERATION_MEMORY = 0;
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the path for image cache directory. Default: data/binaryImageCache")
 	@EnvironmentVariable(name = MESH_IMAGE_CACHE_DIRECTORY_ENV, description = "Override the path for image cache directory.")
 	private String imageCacheDirectory = DEFAULT_IMAGE_CACHE_DIRECTORY;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum size of the image cache directory in bytes. The least recently used image variants will be removed when the size is exceeded. Setting this to 0 disables the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the maximum size of the image cache directory.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the maximum allowed image resize width. Resizing is a memory intensive operation and thus this limit can help avoid memory issues. Default: "
 		+ DEFAULT_MAX_WIDTH)
@@ -55,6 +73,36 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_RESAMPLE_FILTER_ENV, description = "Override the sample filter for image resize operations.")
 	private ResampleFilter resampleFilter = DEFAULT_RESAMPLE_FILTER;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure whether large images are subsampled while being decoded for resize operations and for determining the dominant color. This reduces the memory and CPU usage of image processing. Default: "
+		+ DEFAULT_SUBSAMPLING)
+	@EnvironmentVariable(name = MESH_IMAGE_SUBSAMPLING_ENV, description = "Override the subsampling flag for image processing.")
+	private boolean subsampling = DEFAULT_SUBSAMPLING;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum amount of image operations which are executed at the same time. Default: "
+		+ DEFAULT_MAX_CONCURRENT_OPERATIONS)
+	@EnvironmentVariable(name = MESH_IMAGE_MAX_CONCURRENT_OPERATIONS_ENV, description = "Override the maximum amount of concurrent image operations.")
+	private int maxConcurrentOperations = DEFAULT_MAX_CONCURRENT_OPERATIONS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum amount of image operations which may wait for execution. Further requests will be rejected. Default: "
+		+ DEFAULT_MAX_QUEUED_OPERATIONS)
+	@EnvironmentVariable(name = MESH_IMAGE_MAX_QUEUED_OPERATIONS_ENV, description = "Override the maximum amount of queued image operations.")
+	private int maxQueuedOperations = DEFAULT_MAX_QUEUED_OPERATIONS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the timeout in milliseconds for image operations. The time an operation waits for execution is included. Setting this to 0 disables the timeout. Default: "
+		+ DEFAULT_OPERATION_TIMEOUT)
+	@EnvironmentVariable(name = MESH_IMAGE_OPERATION_TIMEOUT_ENV, description = "Override the timeout for image operations.")
+	private long operationTimeout = DEFAULT_OPERATION_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum estimated memory in bytes which may be used by the running and queued image operations. Further requests will be rejected. Setting this to 0 uses a quarter of the maximum heap size. Default: "
+		+ DEFAULT_MAX_OPERATION_MEMORY)
+	@EnvironmentVariable(name = MESH_IMAGE_MAX_OPERATION_MEMORY_ENV, description = "Override the maximum estimated memory of image operations.")
+	private long maxOperationMemory = DEFAULT_MAX_OPERATION_MEMORY;
+
 	public String getImageCacheDirectory() {
 		return imageCacheDirectory;
 	}
@@ -64,6 +112,15 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
 	public Integer getMaxHeight() {
 		return maxHeight;
 	}
@@ -100,6 +157,66 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	public boolean isSubsampling() {
+		return subsampling;
+	}
+
+	public ImageManipulatorOptions setSubsampling(boolean subsampling) {
+		this.subsampling = subsampling;
+		return this;
+	}
+
+	public int getMaxConcurrentOperations() {
+		return maxConcurrentOperations;
+	}
+
+	public ImageManipulatorOptions setMaxConcurrentOperations(int maxConcurrentOperations) {
+		this.maxConcurrentOperations = maxConcurrentOperations;
+		return this;
+	}
+
+	public int getMaxQueuedOperations() {
+		return maxQueuedOperations;
+	}
+
+	public ImageManipulatorOptions setMaxQueuedOperations(int maxQueuedOperations) {
+		this.maxQueuedOperations = maxQueuedOperations;
+		return this;
+	}
+
+	public long getOperationTimeout() {
+		return operationTimeout;
+	}
+
+	public ImageManipulatorOptions setOperationTimeout(long operationTimeout) {
+		this.operationTimeout = operationTimeout;
+		return this;
+	}
+
+	public long getMaxOperationMemory() {
+		return maxOperationMemory;
+	}
+
+	public ImageManipulatorOptions setMaxOperationMemory(long maxOperationMemory) {
+		this.maxOperationMemory = maxOperationMemory;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
+		if (getImageCacheMaxSize() < 0) {
+			throw new IllegalArgumentException("imageCacheMaxSize must not be negative.");
+		}
+		if (getMaxConcurrentOperations() < 1) {
+			throw new IllegalArgumentException("maxConcurrentOperations must be at least 1.");
+		}
+		if (getMaxQueuedOperations() < 0) {
+			throw new IllegalArgumentException("maxQueuedOperations must not be negative.");
+		}
+		if (getOperationTimeout() < 0) {
+			throw new IllegalArgumentException("operationTimeout must not be negative.");
+		}
+		if (getMaxOperationMemory() < 0) {
+			throw new IllegalArgumentException("maxOperationMemory must not be negative.");
+		}
 	}
 }
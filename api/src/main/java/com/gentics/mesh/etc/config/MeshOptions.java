@@ -103,6 +103,10 @@ public class MeshOptions implements Option {
 	@JsonPropertyDescription("Debug info options.")
 	private DebugInfoOptions debugInfoOptions = new DebugInfoOptions();
 
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("GraphQL options.")
+	private GraphQLOptions graphQLOptions = new GraphQLOptions();
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Path to the central tmp directory.")
 	@EnvironmentVariable(name = MESH_TEMP_DIR_ENV, description = "Override the configured temp directory.")
@@ -328,6 +332,16 @@ public class MeshOptions implements Option {
 		return this;
 	}
 
+	@JsonProperty("graphQL")
+	public GraphQLOptions getGraphQLOptions() {
+		return graphQLOptions;
+	}
+
+	public MeshOptions setGraphQLOptions(GraphQLOptions graphQLOptions) {
+		this.graphQLOptions = graphQLOptions;
+		return this;
+	}
+
 	@JsonProperty("updateCheck")
 	public boolean isUpdateCheckEnabled() {
 		return updateCheck;
@@ -454,6 +468,9 @@ public class MeshOptions implements Option {
 		if (getContentOptions() != null) {
 			getContentOptions().validate(this);
 		}
+		if (getGraphQLOptions() != null) {
+			getGraphQLOptions().validate(this);
+		}
 		Objects.requireNonNull(getNodeName(), "The node name must be specified.");
 		if (getVersionPurgeMaxBatchSize() <= 0) {
 			throw new IllegalArgumentException("versionPurgeMaxBatchSize must be positive.");
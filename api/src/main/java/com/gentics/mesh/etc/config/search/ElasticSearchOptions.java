@@ -24,6 +24,8 @@ public class ElasticSearchOptions implements Option {
 
 	public static final int DEFAULT_BULK_LIMIT = 100;
 	public static final int DEFAULT_BULK_LENGTH_LIMIT = 5_000_000;
+	public static final int DEFAULT_BULK_CONCURRENCY = 1;
+	public static final int DEFAULT_SYNC_CONCURRENCY = 1;
 
 	public static final int DEFAULT_EVENT_BUFFER_SIZE = 1000;
 	public static final int DEFAULT_BULK_DEBOUNCE_TIME = 2000;
@@ -53,6 +55,8 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_PREFIX_ENV = "MESH_ELASTICSEARCH_PREFIX";
 	public static final String MESH_ELASTICSEARCH_BULK_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LIMIT";
 	public static final String MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT";
+	public static final String MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_BULK_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_SYNC_CONCURRENCY";
 	public static final String MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE_ENV = "MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE";
 	public static final String MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME";
 	public static final String MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME";
@@ -130,6 +134,20 @@ public class ElasticSearchOptions implements Option {
 		+ DEFAULT_BULK_LENGTH_LIMIT)
 	private long bulkLengthLimit = DEFAULT_BULK_LENGTH_LIMIT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of requests which are sent concurrently to Elasticsearch. Requests which modify the same document are still sent in order. Default: "
+		+ DEFAULT_BULK_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV, description = "Override the bulk concurrency. Default: "
+		+ DEFAULT_BULK_CONCURRENCY)
+	private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of indices which are compared in parallel during the index sync. Default: "
+		+ DEFAULT_SYNC_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV, description = "Override the sync concurrency. Default: "
+		+ DEFAULT_SYNC_CONCURRENCY)
+	private int syncConcurrency = DEFAULT_SYNC_CONCURRENCY;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Upper limit for mesh events that are to be mapped to elastic search requests. Default: "
 		+ DEFAULT_EVENT_BUFFER_SIZE)
@@ -327,6 +345,24 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public int getBulkConcurrency() {
+		return bulkConcurrency;
+	}
+
+	public ElasticSearchOptions setBulkConcurrency(int bulkConcurrency) {
+		this.bulkConcurrency = bulkConcurrency;
+		return this;
+	}
+
+	public int getSyncConcurrency() {
+		return syncConcurrency;
+	}
+
+	public ElasticSearchOptions setSyncConcurrency(int syncConcurrency) {
+		this.syncConcurrency = syncConcurrency;
+		return this;
+	}
+
 	public String getPrefix() {
 		return prefix;
 	}
@@ -418,7 +454,12 @@ public class ElasticSearchOptions implements Option {
 	}
 
 	public void validate(MeshOptions meshOptions) {
-
+		if (bulkConcurrency < 1) {
+			throw new IllegalArgumentException("bulkConcurrency must be positive.");
+		}
+		if (syncConcurrency < 1) {
+			throw new IllegalArgumentException("syncConcurrency must be positive.");
+		}
 	}
 
 	@JsonIgnore
@@ -1,5 +1,6 @@
 package com.gentics.mesh.cache;
 
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import javax.annotation.Nonnull;
@@ -26,6 +27,13 @@ public interface EventAwareCache<K, V> {
 	 */
 	void invalidate(K key);
 
+	/**
+	 * Invalidate all cache entries which match the filter.
+	 * 
+	 * @param filter
+	 */
+	void invalidate(BiPredicate<K, V> filter);
+
 	/**
 	 * Add the given entry to the cache.
 	 * 
@@ -0,0 +1,33 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache which stores the total counts of paged lists. The counts are used by the
+ * {@link com.gentics.mesh.core.rest.common.CountStrategy#ESTIMATE} count strategy and are kept per user since the count depends on the permissions of the
+ * user.
+ */
+public interface ListCountCache extends MeshCache<String, Long> {
+
+	/**
+	 * Create the cache key for the list.
+	 * 
+	 * @param projectUuid
+	 *            Uuid of the project to which the list elements belong
+	 * @param userUuid
+	 *            Uuid of the user which loaded the list
+	 * @param list
+	 *            Identifier of the list (e.g. list type and filter parameters)
+	 * @return
+	 */
+	static String createKey(String projectUuid, String userUuid, String list) {
+		return projectUuid + ":" + userUuid + ":" + list;
+	}
+
+	/**
+	 * Store the count of the list.
+	 * 
+	 * @param key
+	 * @param count
+	 */
+	void store(String key, long count);
+
+}
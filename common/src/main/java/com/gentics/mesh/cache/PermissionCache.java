@@ -1,35 +1,87 @@
 package com.gentics.mesh.cache;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 
-public interface PermissionCache extends MeshCache<String, Boolean> {
+public interface PermissionCache extends MeshCache<Object, PermissionCacheEntry> {
 
 	/**
 	 * Clear the local cache and send an event to inform other instances to also clear their caches.
-	 * 
+	 *
 	 * @param notify
 	 */
 	void clear(boolean notify);
 
+	/**
+	 * Invalidate the cached permissions of the element. Other instances will be informed about the invalidation.
+	 *
+	 * @param elementId
+	 */
+	void invalidateElement(Object elementId);
+
+	/**
+	 * Invalidate the cached permissions of the given users. Other instances will be informed about the invalidation.
+	 *
+	 * @param userIds
+	 */
+	void invalidateUsers(Collection<?> userIds);
+
+	/**
+	 * Invalidate the cached permissions of the given user. Other instances will be informed about the invalidation.
+	 *
+	 * @param userId
+	 */
+	default void invalidateUser(Object userId) {
+		invalidateUsers(Collections.singleton(userId));
+	}
+
 	/**
 	 * Check whether the element with the given id has the permission.
-	 * 
+	 *
 	 * @param userId
 	 *            User id
 	 * @param permission
 	 * @param elementId
 	 * @return
 	 */
-	boolean hasPermission(Object userId, GraphPermission permission, Object elementId);
+	default boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
+		return Boolean.TRUE.equals(getPermission(userId, permission, elementId));
+	}
+
+	/**
+	 * Return the cached permission state of the element.
+	 *
+	 * @param userId
+	 *            User id
+	 * @param permission
+	 * @param elementId
+	 * @return True if the permission is granted, false if it is denied or null if the state is not cached
+	 */
+	Boolean getPermission(Object userId, GraphPermission permission, Object elementId);
 
 	/**
 	 * Store the granting permission in the perm store.
-	 * 
+	 *
+	 * @param userId
+	 *            User id
+	 * @param permission
+	 * @param elementId
+	 */
+	default void store(Object userId, GraphPermission permission, Object elementId) {
+		store(userId, permission, elementId, true);
+	}
+
+	/**
+	 * Store the granting or denied permission in the perm store.
+	 *
 	 * @param userId
 	 *            User id
 	 * @param permission
 	 * @param elementId
+	 * @param granted
 	 */
-	void store(Object userId, GraphPermission permission, Object elementId);
+	void store(Object userId, GraphPermission permission, Object elementId, boolean granted);
 
 }
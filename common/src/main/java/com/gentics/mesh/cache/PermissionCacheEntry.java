@@ -0,0 +1,101 @@
+package com.gentics.mesh.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+
+/**
+ * Entry of the {@link PermissionCache} which holds the cached permissions of a single element. The granted and denied permissions of each user are packed
+ * into a single int mask. The native ids of the users are used as keys and the masks are updated in place, so that neither lookups nor repeated stores
+ * allocate objects.
+ */
+public final class PermissionCacheEntry {
+
+	private static final int DENIED_SHIFT = 16;
+
+	private final ConcurrentHashMap<Object, AtomicInteger> userMasks = new ConcurrentHashMap<>(4);
+
+	/**
+	 * Return the cached permission state of the user.
+	 * 
+	 * @param userId
+	 * @param permission
+	 * @return True if the permission is granted, false if it is denied or null if the state is not cached
+	 */
+	public Boolean get(Object userId, GraphPermission permission) {
+		AtomicInteger userMask = userMasks.get(userId);
+		if (userMask == null) {
+			return null;
+		}
+		int mask = userMask.get();
+		int bit = 1 << permission.ordinal();
+		if ((mask & bit) != 0) {
+			return true;
+		}
+		if ((mask & (bit << DENIED_SHIFT)) != 0) {
+			return false;
+		}
+		return null;
+	}
+
+	/**
+	 * Store the permission state of the user.
+	 * 
+	 * @param userId
+	 * @param permission
+	 * @param granted
+	 * @return true if the entry did not contain permissions of the user before
+	 */
+	public boolean store(Object userId, GraphPermission permission, boolean granted) {
+		int bit = 1 << permission.ordinal();
+		int flag = granted ? bit : bit << DENIED_SHIFT;
+		boolean added = false;
+		AtomicInteger userMask = userMasks.get(userId);
+		if (userMask == null) {
+			AtomicInteger newMask = new AtomicInteger();
+			userMask = userMasks.putIfAbsent(userId, newMask);
+			if (userMask == null) {
+				userMask = newMask;
+				added = true;
+			}
+		}
+		userMask.accumulateAndGet(flag, (a, b) -> a | b);
+		return added;
+	}
+
+	/**
+	 * Return the amount of users for which permissions are cached.
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return userMasks.size();
+	}
+
+	/**
+	 * Check whether the entry contains permissions of any of the given users.
+	 * 
+	 * @param userIds
+	 *            Native ids of the users
+	 * @return
+	 */
+	public boolean containsAnyUser(Set<?> userIds) {
+		if (userIds.size() <= userMasks.size()) {
+			for (Object userId : userIds) {
+				if (userMasks.containsKey(userId)) {
+					return true;
+				}
+			}
+		} else {
+			for (Object userId : userMasks.keySet()) {
+				if (userIds.contains(userId)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.gentics.mesh.cache;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Cache which stores the branch independent parts of transformed node search documents. The cache is content-addressed: The keys contain the element
+ * versions of all graph elements which contribute to the cached document. Modifications of these elements result in new keys and thus implicitly
+ * invalidate the previously cached document. The versions of the document are cached within the same entry since they are derived from the same
+ * elements.
+ *
+ * Cached documents must not be modified. Use {@link JsonObject#copy()} before adding document specific information.
+ */
+public interface SearchDocumentCache extends MeshCache<String, SearchDocumentCacheEntry> {
+
+}
@@ -0,0 +1,43 @@
+package com.gentics.mesh.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Entry of the {@link SearchDocumentCache} which holds the branch independent part of a node search document along with the document versions of the
+ * branches in which the document has been transformed.
+ */
+public final class SearchDocumentCacheEntry {
+
+	private final JsonObject document;
+
+	private final ConcurrentHashMap<String, String> versions = new ConcurrentHashMap<>(4);
+
+	public SearchDocumentCacheEntry(JsonObject document) {
+		this.document = document;
+	}
+
+	/**
+	 * Return the cached document. The document must not be modified.
+	 * 
+	 * @return
+	 */
+	public JsonObject getDocument() {
+		return document;
+	}
+
+	/**
+	 * Return the version of the document in the given branch.
+	 * 
+	 * @param branchUuid
+	 * @param generator
+	 *            Function which generates the version if it has not yet been cached
+	 * @return
+	 */
+	public String getVersion(String branchUuid, Function<String, String> generator) {
+		return versions.computeIfAbsent(branchUuid, generator);
+	}
+
+}
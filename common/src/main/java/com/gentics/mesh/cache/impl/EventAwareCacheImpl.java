@@ -6,6 +6,7 @@ import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import com.gentics.mesh.cache.EventAwareCache;
@@ -15,6 +16,7 @@ import com.gentics.mesh.metric.CachingMetric;
 import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 import io.micrometer.core.instrument.Counter;
 import io.reactivex.Observable;
@@ -48,16 +50,21 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 	private final Counter missCounter;
 	private final Counter hitCounter;
 
-	public EventAwareCacheImpl(String name, long maxSize, Duration expireAfter, Vertx vertx, MeshOptions options, MetricsService metricsService, Predicate<Message<JsonObject>> filter,
+	public EventAwareCacheImpl(String name, long maxSize, Weigher<K, V> weigher, Duration expireAfter, Vertx vertx, MeshOptions options,
+							   MetricsService metricsService, Predicate<Message<JsonObject>> filter,
 							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext,
 							   MeshEvent... events) {
 		this.vertx = vertx;
 		this.options = options;
-		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(maxSize);
+		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
 		if (expireAfter != null) {
 			cacheBuilder = cacheBuilder.expireAfterWrite(expireAfter.getSeconds(), TimeUnit.SECONDS);
 		}
-		this.cache = cacheBuilder.build();
+		if (weigher == null) {
+			this.cache = cacheBuilder.maximumSize(maxSize).build();
+		} else {
+			this.cache = cacheBuilder.maximumWeight(maxSize).weigher(weigher).build();
+		}
 		this.filter = filter;
 		this.onNext = onNext;
 		registerEventHandlers(events);
@@ -128,6 +135,17 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		cache.invalidate(key);
 	}
 
+	@Override
+	public void invalidate(BiPredicate<K, V> filter) {
+		if (log.isTraceEnabled()) {
+			log.trace("Invalidating filtered entries");
+		}
+		if (options.getMonitoringOptions().isEnabled()) {
+			invalidateKeyCounter.increment();
+		}
+		cache.asMap().entrySet().removeIf(entry -> filter.test(entry.getKey(), entry.getValue()));
+	}
+
 	@Override
 	public void put(K key, V value) {
 		if (disabled) {
@@ -180,6 +198,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		private boolean disabled = false;
 
 		private long maxSize = 1000;
+		private Weigher<K, V> weigher = null;
 		private Predicate<Message<JsonObject>> filter = null;
 		private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext = null;
 		private MeshEvent[] events = null;
@@ -193,7 +212,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			Objects.requireNonNull(events, "No events for the cache have been set");
 			Objects.requireNonNull(vertx, "No Vert.x instance has been set");
 			Objects.requireNonNull(name, "No name has been set");
-			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext, events);
+			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, weigher, expireAfter, vertx, options, metricsService, filter, onNext, events);
 			if (disabled) {
 				c.disable();
 			}
@@ -284,6 +303,20 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			return this;
 		}
 
+		/**
+		 * Limit the total weight of the entries instead of the amount of entries. The weight of an entry is determined when it is added to the cache.
+		 * Entries which change their weight need to be added again.
+		 * 
+		 * @param maxWeight
+		 * @param weigher
+		 * @return Fluent API
+		 */
+		public Builder<K, V> maxWeight(long maxWeight, Weigher<K, V> weigher) {
+			this.maxSize = maxWeight;
+			this.weigher = weigher;
+			return this;
+		}
+
 		/**
 		 * Define when the cache should automatically expire.
 		 * 
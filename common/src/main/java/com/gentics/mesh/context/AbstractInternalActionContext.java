@@ -9,6 +9,8 @@ import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.router.route.PrettyJsonHandler;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
@@ -30,7 +32,21 @@ public abstract class AbstractInternalActionContext extends AbstractActionContex
 
 	@Override
 	public void send(RestModel restModel, HttpResponseStatus status) {
-		send(restModel.toJson(), status);
+		sendJson(restModel, status);
+	}
+
+	@Override
+	public void sendJson(Object model, HttpResponseStatus status) {
+		send(JsonUtil.toJson(model, !isPrettyJson()), status);
+	}
+
+	@Override
+	public boolean isPrettyJson() {
+		Boolean pretty = getGenericParameters().getPretty();
+		if (pretty != null) {
+			return pretty;
+		}
+		return data().containsKey(PrettyJsonHandler.PRETTY_JSON_DATA_KEY);
 	}
 
 	@Override
@@ -83,6 +83,22 @@ public interface InternalActionContext extends ActionContext, ParameterProviderC
 	 */
 	void send(RestModel result, HttpResponseStatus status);
 
+	/**
+	 * Serialize the object to JSON and send the JSON as a respond with the given status code. The JSON will only be pretty printed if this has been
+	 * requested.
+	 * 
+	 * @param model
+	 * @param status
+	 */
+	void sendJson(Object model, HttpResponseStatus status);
+
+	/**
+	 * Check whether the JSON of the response should be pretty printed. The pretty query parameter overrides the configured default.
+	 * 
+	 * @return
+	 */
+	boolean isPrettyJson();
+
 	/**
 	 * Finish the request and send the provided respond. No body will be send.
 	 * 
@@ -1,5 +1,6 @@
 package com.gentics.mesh.context.impl;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.vertx.core.http.HttpHeaders.CACHE_CONTROL;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
@@ -17,8 +18,10 @@ import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.http.MeshHeaders;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.router.ProjectsRouter;
 import com.gentics.mesh.util.ETag;
+import com.gentics.mesh.util.ResponseOutputStream;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.MultiMap;
@@ -79,6 +82,32 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 
 	@Override
 	public void send(String body, HttpResponseStatus status, String contentType) {
+		HttpServerResponse response = prepareResponse(status, contentType);
+		response.end(body);
+	}
+
+	/**
+	 * Serialize the model directly into the response. Large responses will be sent in chunks while the JSON is still being generated.
+	 */
+	@Override
+	public void sendJson(Object model, HttpResponseStatus status) {
+		HttpServerResponse response = prepareResponse(status, APPLICATION_JSON_UTF8);
+		ResponseOutputStream out = new ResponseOutputStream(response);
+		try {
+			JsonUtil.writeJson(model, out, !isPrettyJson());
+		} catch (RuntimeException e) {
+			if (!out.isCommitted()) {
+				throw e;
+			}
+			// The status has already been sent. We can only abort the response.
+			log.error("Error while writing the JSON response", e);
+			response.close();
+			return;
+		}
+		out.close();
+	}
+
+	private HttpServerResponse prepareResponse(HttpResponseStatus status, String contentType) {
 		HttpServerResponse response = rc.response();
 		response.putHeader(CONTENT_TYPE, contentType);
 
@@ -86,7 +115,7 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 		if (!response.headers().contains(CACHE_CONTROL)) {
 			response.putHeader(CACHE_CONTROL, "no-cache");
 		}
-		response.setStatusCode(status.code()).end(body);
+		return response.setStatusCode(status.code());
 	}
 
 	@Override
@@ -4,8 +4,12 @@ import static com.gentics.mesh.core.rest.MeshEvent.USER_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.ElementType;
 import com.gentics.mesh.context.InternalActionContext;
@@ -19,6 +23,7 @@ import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.util.DateUtils;
+import com.gentics.mesh.util.StreamUtil;
 
 /**
  * The User Domain Model interface.
@@ -47,6 +52,11 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	String API_TOKEN_ISSUE_TIMESTAMP = "APITokenTimestamp";
 
+	/**
+	 * Amount of elements which will be checked at once when filtering streams by permission {@value #PERMISSION_BATCH_SIZE}
+	 */
+	int PERMISSION_BATCH_SIZE = 100;
+
 	TypeInfo TYPE_INFO = new TypeInfo(ElementType.USER, USER_CREATED, USER_UPDATED, USER_DELETED);
 
 	@Override
@@ -339,6 +349,60 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	boolean hasPermissionForId(Object elementId, GraphPermission permission);
 
+	/**
+	 * Check the permission on a batch of elements. The roles of the user are only loaded once for the whole batch.
+	 *
+	 * @param elementIds
+	 * @param permission
+	 * @return Ids of the elements on which the user has the permission
+	 */
+	Set<Object> filterPermittedIds(Collection<?> elementIds, GraphPermission permission);
+
+	/**
+	 * Check the read permission on a batch of nodes. A node is readable if the user has {@link GraphPermission#READ_PERM} or if the user has
+	 * {@link GraphPermission#READ_PUBLISHED_PERM} and the node is published in the given branch. The roles of the user are only loaded once for the whole
+	 * batch.
+	 *
+	 * @param nodeIds
+	 * @param branchUuid
+	 *            Branch in which the node must be published for the read published permission. Use null to skip the published check.
+	 * @return Ids of the readable nodes
+	 */
+	Set<Object> filterReadableNodeIds(Collection<?> nodeIds, String branchUuid);
+
+	/**
+	 * Filter the stream of elements by the permission. The permissions are checked in batches via {@link #filterPermittedIds(Collection, GraphPermission)}.
+	 *
+	 * @param stream
+	 * @param idMapper
+	 *            Function which returns the element id of the item
+	 * @param permission
+	 * @return
+	 */
+	default <T> Stream<T> filterPermitted(Stream<T> stream, Function<T, Object> idMapper, GraphPermission permission) {
+		return StreamUtil.batch(stream, PERMISSION_BATCH_SIZE).flatMap(batch -> {
+			Set<Object> permitted = filterPermittedIds(batch.stream().map(idMapper).collect(Collectors.toList()), permission);
+			return batch.stream().filter(item -> permitted.contains(idMapper.apply(item)));
+		});
+	}
+
+	/**
+	 * Filter the stream of nodes by the read permission. The permissions are checked in batches via {@link #filterReadableNodeIds(Collection, String)}.
+	 *
+	 * @param stream
+	 * @param idMapper
+	 *            Function which returns the element id of the item
+	 * @param branchUuid
+	 *            Branch in which the node must be published for the read published permission. Use null to skip the published check.
+	 * @return
+	 */
+	default <T> Stream<T> filterReadableNodes(Stream<T> stream, Function<T, Object> idMapper, String branchUuid) {
+		return StreamUtil.batch(stream, PERMISSION_BATCH_SIZE).flatMap(batch -> {
+			Set<Object> readable = filterReadableNodeIds(batch.stream().map(idMapper).collect(Collectors.toList()), branchUuid);
+			return batch.stream().filter(item -> readable.contains(idMapper.apply(item)));
+		});
+	}
+
 	/**
 	 * Check the read permission on the given container and fail if the needed permission to read the container is not set. This method will not fail if the
 	 * user has READ permission or READ_PUBLISH permission on a published node.
@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.page;
 import java.util.Iterator;
 import java.util.List;
 
+import com.gentics.mesh.core.rest.common.CountStrategy;
 import com.gentics.mesh.core.rest.common.ListResponse;
 import com.gentics.mesh.core.rest.common.PagingMetaInfo;
 
@@ -60,6 +61,8 @@ public interface Page<T> extends Iterable<T> {
 		info.setPageCount(getPageCount());
 		info.setPerPage(getPerPage());
 		info.setTotalCount(getTotalElements());
+		info.setNextCursor(getNextCursor());
+		info.setCountStrategy(getCountStrategy());
 	}
 
 	/**
@@ -85,6 +88,24 @@ public interface Page<T> extends Iterable<T> {
 	 */
 	boolean hasNextPage();
 
+	/**
+	 * Return the strategy which was used to determine the total item count.
+	 * 
+	 * @return
+	 */
+	default CountStrategy getCountStrategy() {
+		return CountStrategy.EXACT;
+	}
+
+	/**
+	 * Return the cursor which can be used to load the next page via keyset paging.
+	 * 
+	 * @return Cursor or null if there is no next page or the page does not support keyset paging
+	 */
+	default String getNextCursor() {
+		return null;
+	}
+
 	/**
 	 * Check whether there would be a previous page.
 	 */
@@ -0,0 +1,55 @@
+package com.gentics.mesh.core.data.page;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+
+import com.gentics.mesh.parameter.PagingParameters;
+
+/**
+ * Utility which encodes and decodes the opaque cursors which are used for keyset paging. A cursor contains the key of the last element of a page. The
+ * following page will start with the first element after this key.
+ */
+public final class PageCursor {
+
+	private static final String PREFIX = "k:";
+
+	private PageCursor() {
+	}
+
+	/**
+	 * Encode the key into a cursor.
+	 * 
+	 * @param key
+	 *            Key of the last element of the page
+	 * @return Cursor
+	 */
+	public static String encode(Object key) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString((PREFIX + key).getBytes(UTF_8));
+	}
+
+	/**
+	 * Decode the key from the cursor.
+	 * 
+	 * @param cursor
+	 * @return Decoded key or null if no cursor or the {@link PagingParameters#START_CURSOR} was given
+	 */
+	public static String decode(String cursor) {
+		if (cursor == null || PagingParameters.START_CURSOR.equals(cursor)) {
+			return null;
+		}
+		String decoded;
+		try {
+			decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw error(BAD_REQUEST, "error_invalid_paging_cursor", cursor);
+		}
+		if (!decoded.startsWith(PREFIX) || decoded.length() == PREFIX.length()) {
+			throw error(BAD_REQUEST, "error_invalid_paging_cursor", cursor);
+		}
+		return decoded.substring(PREFIX.length());
+	}
+
+}
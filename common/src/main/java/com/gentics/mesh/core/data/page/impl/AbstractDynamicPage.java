@@ -7,8 +7,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
+import com.gentics.mesh.cache.ListCountCache;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.page.PageCursor;
+import com.gentics.mesh.core.rest.common.CountStrategy;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.parameter.PagingParameters;
 
@@ -37,7 +41,45 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected Iterator<? extends T> visibleItems;
 
+	/**
+	 * Strategy which was requested to determine the total count of elements.
+	 */
+	protected CountStrategy countStrategy;
+
+	/**
+	 * Strategy which was actually used to determine the total count of elements.
+	 */
+	protected CountStrategy usedCountStrategy;
+
+	protected Long totalCount = null;
+
+	/**
+	 * Whether the page starts after a keyset paging cursor.
+	 */
+	protected boolean afterCursor;
+
+	protected ListCountCache countCache;
+
+	protected String countCacheKey;
+
+	/**
+	 * Function which returns the keyset paging key of an element. Keyset paging is not supported by the page if no function has been set.
+	 */
+	protected Function<? super T, ?> cursorKeyMapper;
+
 	public AbstractDynamicPage(PagingParameters pagingInfo) {
+		this(pagingInfo, null);
+	}
+
+	/**
+	 * Create a new page which supports keyset paging. The provided elements must be sorted by their key and start after the key of the cursor which was
+	 * passed via the paging parameters. The page number will thus be ignored when a cursor has been set.
+	 * 
+	 * @param pagingInfo
+	 * @param cursorKeyMapper
+	 *            Function which returns the key of an element. The key of the last element will be used to create the cursor for the next page.
+	 */
+	public AbstractDynamicPage(PagingParameters pagingInfo, Function<? super T, ?> cursorKeyMapper) {
 		if (pagingInfo.getPage() < 1) {
 			throw new GenericRestException(BAD_REQUEST, "error_page_parameter_must_be_positive", String.valueOf(pagingInfo.getPage()));
 		}
@@ -46,10 +88,14 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		}
 		this.pageNumber = pagingInfo.getPage();
 		this.perPage = pagingInfo.getPerPage();
+		this.countStrategy = pagingInfo.getCountStrategy();
+		this.cursorKeyMapper = cursorKeyMapper;
+		this.afterCursor = cursorKeyMapper != null && PageCursor.decode(pagingInfo.getAfter()) != null;
 
 		if (perPage == null) {
 			this.lowerBound = null;
-		} else if (perPage == 0) {
+		} else if (perPage == 0 || cursorKeyMapper != null) {
+			// The elements of keyset pages already start after the cursor
 			this.lowerBound = 0L;
 		} else {
 			this.lowerBound = (pageNumber - 1) * perPage;
@@ -69,6 +115,8 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 			totalPages = 0L;
 			if (perPage == null) {
 				totalPages = 1L;
+			} else if (getTotalElements() < 0) {
+				totalPages = -1L;
 			} else if (perPage != 0) {
 				totalPages = (long) Math.ceil(getTotalElements() / (double) (perPage));
 			}
@@ -81,13 +129,64 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		return pageNumber;
 	}
 
+	/**
+	 * Set the cache which stores the total count of the list. The cached count will be returned for the {@link CountStrategy#ESTIMATE} strategy. Exact
+	 * counts will be stored in the cache.
+	 * 
+	 * @param countCache
+	 * @param countCacheKey
+	 *            Key of the list (see {@link ListCountCache#createKey(String, String, String)})
+	 * @return Fluent API
+	 */
+	public AbstractDynamicPage<T> setCountCache(ListCountCache countCache, String countCacheKey) {
+		this.countCache = countCache;
+		this.countCacheKey = countCacheKey;
+		return this;
+	}
+
 	@Override
 	public long getTotalElements() {
+		if (totalCount == null) {
+			totalCount = determineTotalCount();
+		}
+		return totalCount;
+	}
+
+	private long determineTotalCount() {
+		CountStrategy strategy = countStrategy;
+		// Pages which start after a cursor only iterate over the remaining elements and can thus only use the cached count
+		if (afterCursor && strategy == CountStrategy.EXACT) {
+			strategy = CountStrategy.ESTIMATE;
+		}
+		if (strategy == CountStrategy.ESTIMATE) {
+			Long cachedCount = countCache == null ? null : countCache.get(countCacheKey);
+			if (cachedCount != null) {
+				usedCountStrategy = CountStrategy.ESTIMATE;
+				return cachedCount;
+			}
+			strategy = afterCursor ? CountStrategy.SKIP : CountStrategy.EXACT;
+		}
+		if (strategy == CountStrategy.SKIP) {
+			usedCountStrategy = CountStrategy.SKIP;
+			return -1;
+		}
+
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
 			visibleItems.next();
 		}
-		return totalCounter.get();
+		long count = totalCounter.get();
+		if (countCache != null) {
+			countCache.store(countCacheKey, count);
+		}
+		usedCountStrategy = CountStrategy.EXACT;
+		return count;
+	}
+
+	@Override
+	public CountStrategy getCountStrategy() {
+		getTotalElements();
+		return usedCountStrategy;
 	}
 
 	@Override
@@ -108,4 +207,16 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		return hasNextPage.get();
 	}
 
+	@Override
+	public String getNextCursor() {
+		if (cursorKeyMapper == null || !hasNextPage()) {
+			return null;
+		}
+		List<? extends T> elements = getWrappedList();
+		if (elements.isEmpty()) {
+			return null;
+		}
+		return PageCursor.encode(cursorKeyMapper.apply(elements.get(elements.size() - 1)));
+	}
+
 }
@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.page.impl;
 import com.gentics.mesh.parameter.PagingParameters;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -13,6 +14,21 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 		init(stream);
 	}
 
+	/**
+	 * Creates a new page which supports keyset paging.
+	 *
+	 * @param stream
+	 *            a stream of elements which are sorted by their key and start after the cursor of the paging info
+	 * @param pagingInfo
+	 *            paging info the user requested
+	 * @param cursorKeyMapper
+	 *            function which returns the key of an element
+	 */
+	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Function<? super T, ?> cursorKeyMapper) {
+		super(pagingInfo, cursorKeyMapper);
+		init(stream);
+	}
+
 	/**
 	 * Creates a new page with a filter applied to the stream
 	 *
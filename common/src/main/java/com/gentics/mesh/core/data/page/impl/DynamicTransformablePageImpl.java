@@ -1,8 +1,10 @@
 package com.gentics.mesh.core.data.page.impl;
 
 import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.TransformableElement;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.page.PageCursor;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
@@ -14,13 +16,18 @@ import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Vertex;
 
+import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.util.StreamUtil.toStream;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 /**
  * This page implementation will handle paging internally and on-demand. The internal paging will only iterate over as many items as the needed operation
@@ -39,7 +46,12 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 	private boolean frameExplicitly;
 
 	private DynamicTransformablePageImpl(User requestUser, PagingParameters pagingInfo, Predicate<T> extraFilter, boolean frameExplicitly) {
-		super(pagingInfo);
+		this(requestUser, pagingInfo, extraFilter, frameExplicitly, null);
+	}
+
+	private DynamicTransformablePageImpl(User requestUser, PagingParameters pagingInfo, Predicate<T> extraFilter, boolean frameExplicitly,
+		Function<? super T, ?> cursorKeyMapper) {
+		super(pagingInfo, cursorKeyMapper);
 		this.extraFilter = extraFilter;
 		this.requestUser = requestUser;
 		this.frameExplicitly = frameExplicitly;
@@ -130,6 +142,38 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		init(clazz, traversal, perm);
 	}
 
+	/**
+	 * Create a new dynamic page which supports keyset paging. The elements are loaded via the ordered edge index (see
+	 * {@link com.gentics.madl.index.IndexHandler#edgeRangeLookup}) in the order of their ids. The page will start after the element which is referenced by
+	 * the cursor of the paging parameters.
+	 *
+	 * @param user
+	 *            User to check permissions against
+	 * @param vertex
+	 *            Vertex from which the out-bound edges will be loaded
+	 * @param edgeLabel
+	 *            Label of the edges
+	 * @param pagingInfo
+	 *            Paging settings
+	 * @param perm
+	 *            Permission to check against
+	 * @param clazz
+	 *            Element class used to reframe the found elements
+	 */
+	public DynamicTransformablePageImpl(User user, MeshVertex vertex, String edgeLabel, PagingParameters pagingInfo, GraphPermission perm,
+		Class<? extends T> clazz) {
+		this(user, pagingInfo, null, true, element -> element.id());
+		FramedGraph graph = Tx.getActive().getGraph();
+		Iterator<Object> edgeIds;
+		try {
+			edgeIds = vertex.db().index().edgeRangeLookup(edgeLabel, Direction.OUT, vertex.id(), PageCursor.decode(pagingInfo.getAfter()));
+		} catch (IllegalArgumentException e) {
+			throw error(BAD_REQUEST, "error_invalid_paging_cursor", pagingInfo.getAfter());
+		}
+		Stream<Vertex> stream = toStream(edgeIds).map(edgeId -> graph.getEdge(edgeId).getVertex(Direction.IN));
+		applyPagingAndPermChecks(stream, clazz, perm);
+	}
+
 	private void init(Class<? extends T> clazz, VertexTraversal<?, ?, ?> traversal, GraphPermission perm) {
 		// Iterate over all vertices that are managed by this root vertex
 		Stream<Vertex> stream = StreamSupport.stream(traversal.spliterator(), false).map(item -> {
@@ -151,7 +195,7 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 		// Only handle elements which are visible to the user
 		if (perm != null) {
-			stream = stream.filter(item -> requestUser.hasPermissionForId(item.getId(), perm));
+			stream = requestUser.filterPermitted(stream, Vertex::getId, perm);
 		}
 
 		Stream<T> framedStream;
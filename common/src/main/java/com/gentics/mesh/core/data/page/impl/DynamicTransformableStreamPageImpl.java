@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.data.page.impl;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -13,6 +14,10 @@ public class DynamicTransformableStreamPageImpl<T extends TransformableElement<?
 		super(stream, pagingInfo);
 	}
 
+	public DynamicTransformableStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Function<? super T, ?> cursorKeyMapper) {
+		super(stream, pagingInfo, cursorKeyMapper);
+	}
+
 	public DynamicTransformableStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter) {
 		super(stream, pagingInfo, filter);
 	}
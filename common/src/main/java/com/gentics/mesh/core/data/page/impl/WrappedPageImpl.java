@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.page.impl;
 import java.util.List;
 
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.rest.common.CountStrategy;
 
 /**
  * Wrapper for regular pages. This class comes in handy if you need to alter the element which the page returned. (e.g: convert a node page to a field container
@@ -51,4 +52,14 @@ public class WrappedPageImpl<T> implements Page<T> {
 		return wrappedPage.hasNextPage();
 	}
 
+	@Override
+	public CountStrategy getCountStrategy() {
+		return wrappedPage.getCountStrategy();
+	}
+
+	@Override
+	public String getNextCursor() {
+		return wrappedPage.getNextCursor();
+	}
+
 }
@@ -77,6 +77,15 @@ public enum GraphPermission {
 		return propertyKey;
 	}
 
+	/**
+	 * Return the key of the property which stores the role bitset of the permission index.
+	 * 
+	 * @return
+	 */
+	public String bitsKey() {
+		return propertyKey + "_bits";
+	}
+
 	/**
 	 * Convert a key name back into a graph permission object.
 	 * 
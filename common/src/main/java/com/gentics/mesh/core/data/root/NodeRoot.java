@@ -1,5 +1,9 @@
 package com.gentics.mesh.core.data.root;
 
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
@@ -42,4 +46,23 @@ public interface NodeRoot extends RootVertex<Node> {
 	 */
 	Node create(User user, SchemaContainerVersion container, Project project, String uuid);
 
+	/**
+	 * Find the nodes of the project with the given uuids which are readable by the user. The nodes are loaded via the uuid index.
+	 * 
+	 * @param ac
+	 * @param uuids
+	 * @return Stream of found nodes in the order of the given uuids
+	 */
+	Stream<? extends Node> findByUuidsStream(InternalActionContext ac, Collection<String> uuids);
+
+	/**
+	 * Find the nodes of the project which use the schema and are readable by the user. The nodes are loaded via the schema index.
+	 * 
+	 * @param ac
+	 * @param schemaUuid
+	 *            Uuid of the schema container
+	 * @return
+	 */
+	Stream<? extends Node> findBySchemaStream(InternalActionContext ac, String schemaUuid);
+
 }
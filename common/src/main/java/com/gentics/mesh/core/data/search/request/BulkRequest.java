@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.search.request;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.gentics.mesh.search.SearchProvider;
 
@@ -59,6 +60,13 @@ public class BulkRequest implements Bulkable {
 		return requests;
 	}
 
+	@Override
+	public Collection<String> documentKeys() {
+		return requests.stream()
+			.flatMap(request -> request.documentKeys().stream())
+			.collect(Collectors.toSet());
+	}
+
 	@Override
 	public long bulkLength() {
 		// TODO cache
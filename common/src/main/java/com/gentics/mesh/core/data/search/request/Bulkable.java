@@ -2,6 +2,7 @@ package com.gentics.mesh.core.data.search.request;
 
 import io.reactivex.Single;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,4 +20,21 @@ public interface Bulkable extends SearchRequest {
 	 * @return
 	 */
 	long bulkLength();
+
+	/**
+	 * Returns the keys of the documents which are modified by this request.
+	 * Requests which modify the same document must be sent to Elasticsearch in order.
+	 * @return
+	 */
+	Collection<String> documentKeys();
+
+	/**
+	 * Creates the key of a document which is used to order requests.
+	 * @param transformedIndex
+	 * @param id
+	 * @return
+	 */
+	static String documentKey(String transformedIndex, String id) {
+		return transformedIndex + "/" + id;
+	}
 }
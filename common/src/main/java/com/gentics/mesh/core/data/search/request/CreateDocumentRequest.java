@@ -3,6 +3,8 @@ package com.gentics.mesh.core.data.search.request;
 import static com.gentics.mesh.util.RxUtil.NOOP;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import com.gentics.mesh.etc.config.search.ComplianceMode;
@@ -87,6 +89,11 @@ public class CreateDocumentRequest implements Bulkable {
 		return doc.getProxyTarget();
 	}
 
+	@Override
+	public Collection<String> documentKeys() {
+		return Collections.singleton(Bulkable.documentKey(transformedIndex, id));
+	}
+
 	@Override
 	public long bulkLength() {
 		// +2 for newlines
@@ -7,6 +7,7 @@ import io.reactivex.Single;
 import io.reactivex.functions.Action;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -78,6 +79,11 @@ public class DeleteDocumentRequest implements Bulkable {
 		return id;
 	}
 
+	@Override
+	public Collection<String> documentKeys() {
+		return Collections.singleton(Bulkable.documentKey(transformedIndex, id));
+	}
+
 	@Override
 	public long bulkLength() {
 		// + 1 for newline
@@ -7,6 +7,8 @@ import io.reactivex.Single;
 import io.vertx.core.json.JsonObject;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 public class UpdateDocumentRequest implements Bulkable {
@@ -74,6 +76,11 @@ public class UpdateDocumentRequest implements Bulkable {
 		return doc.getProxyTarget();
 	}
 
+	@Override
+	public Collection<String> documentKeys() {
+		return Collections.singleton(Bulkable.documentKey(transformedIndex, id));
+	}
+
 	@Override
 	public long bulkLength() {
 		// +10 for 2 newlines and {"doc":}
@@ -2,12 +2,20 @@ package com.gentics.mesh.core.image.spi;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.nio.file.Paths;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 
 import io.reactivex.Maybe;
@@ -15,7 +23,6 @@ import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.reactivex.core.Vertx;
-import io.vertx.reactivex.core.file.FileSystem;
 
 /**
  * Abstract image manipulator implementation.
@@ -24,62 +31,31 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractImageManipulator.class);
 
+	/**
+	 * Minimum amount of pixels along the shorter side of the subsampled image which is used to determine the dominant color.
+	 */
+	private static final int DOMINANT_COLOR_SAMPLE_SIZE = 64;
+
 	protected ImageManipulatorOptions options;
 
 	protected Vertx vertx;
 
-	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
+	protected ImageVariantCache variantCache;
+
+	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
 		this.vertx = vertx;
 		this.options = options;
+		this.variantCache = new ImageVariantCache(vertx, options, metrics);
 	}
 
 	@Override
 	public Single<CacheFileInfo> getCacheFilePath(String sha512sum, ImageManipulationParameters parameters) {
-		FileSystem fs = vertx.fileSystem();
-
-		String[] parts = sha512sum.split("(?<=\\G.{8})");
-		StringBuffer buffer = new StringBuffer();
-		buffer.append(File.separator);
-		for (String part : parts) {
-			buffer.append(part + File.separator);
-		}
-
-		String baseFolder = Paths.get(options.getImageCacheDirectory(), buffer.toString()).toString();
-		String baseName = "image-" + parameters.getCacheKey();
-
-		return fs.rxMkdirs(baseFolder)
-		// Vert.x uses Files.createDirectories internally, which will not fail when the folder already exists.
-		// See https://github.com/eclipse-vertx/vert.x/issues/3029
-		.andThen(fs.rxReadDir(baseFolder, baseName + "(\\..*)?"))
-		.map(foundFiles -> {
-			int numFiles = foundFiles.size();
-			if (numFiles == 0) {
-				String retPath = Paths.get(baseFolder, baseName).toString();
-				if (log.isDebugEnabled()) {
-					log.debug("No cache file found for base path {" + retPath + "}");
-				}
-				return new CacheFileInfo(retPath, false);
-			}
-
-			if (numFiles > 1) {
-				String indent = System.lineSeparator() + "    - ";
-
-				log.warn(
-					"More than one cache file found:"
-						+ System.lineSeparator() + "  hash: " + sha512sum
-						+ System.lineSeparator() + "  key: " + parameters.getCacheKey()
-						+ System.lineSeparator() + "  files:"
-						+ indent
-						+ String.join(indent, foundFiles)
-						+ System.lineSeparator()
-						+ "The cache directory {" + options.getImageCacheDirectory() + "} should be cleared");
-			}
+		return variantCache.getCacheFile(sha512sum, parameters.getCacheKey());
+	}
 
-			if (log.isDebugEnabled()) {
-				log.debug("Using cache file {" + foundFiles.size() + "}");
-			}
-			return new CacheFileInfo(foundFiles.get(0), true);
-		});
+	@Override
+	public Single<Integer> purgeCacheFiles(String sha512sum) {
+		return variantCache.purge(sha512sum);
 	}
 
 	@Override
@@ -88,18 +64,24 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 			if (log.isDebugEnabled()) {
 				log.debug("Reading image information from stream");
 			}
-			try {
-				File file = new File(path);
-				if (!file.exists()) {
-					log.error("The image file {" + file.getAbsolutePath() + "} could not be found.");
+			File file = new File(path);
+			if (!file.exists()) {
+				log.error("The image file {" + file.getAbsolutePath() + "} could not be found.");
+				bh.fail(error(BAD_REQUEST, "image_error_reading_failed"));
+				return;
+			}
+			try (ImageInputStream ins = ImageIO.createImageInputStream(file)) {
+				Iterator<ImageReader> readers = ins == null ? Collections.emptyIterator() : ImageIO.getImageReaders(ins);
+				if (!readers.hasNext()) {
 					bh.fail(error(BAD_REQUEST, "image_error_reading_failed"));
 					return;
 				}
-				BufferedImage image = ImageIO.read(file);
-				if (image == null) {
-					bh.fail(error(BAD_REQUEST, "image_error_reading_failed"));
-				} else {
-					bh.complete(toImageInfo(image));
+				ImageReader reader = readers.next();
+				try {
+					reader.setInput(ins, true, true);
+					bh.complete(readImageInfo(reader));
+				} finally {
+					reader.dispose();
 				}
 			} catch (Exception e) {
 				log.error("Reading image information failed", e);
@@ -110,16 +92,28 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 	}
 
 	/**
-	 * Extract the image information from the given buffered image.
-	 * 
-	 * @param bi
+	 * Read the image information via the given reader. The dimensions are read from the header of the image. Only a subsampled version of the image is
+	 * decoded to determine the dominant color.
+	 *
+	 * @param reader
 	 * @return
+	 * @throws IOException
 	 */
-	private ImageInfo toImageInfo(BufferedImage bi) {
+	private ImageInfo readImageInfo(ImageReader reader) throws IOException {
+		int width = reader.getWidth(0);
+		int height = reader.getHeight(0);
+
+		ImageReadParam param = reader.getDefaultReadParam();
+		if (options.isSubsampling()) {
+			int subsampling = Math.max(1, Math.min(width, height) / DOMINANT_COLOR_SAMPLE_SIZE);
+			param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+		}
+		BufferedImage image = reader.read(0, param);
+
 		ImageInfo info = new ImageInfo();
-		info.setWidth(bi.getWidth());
-		info.setHeight(bi.getHeight());
-		int[] rgb = calculateDominantColor(bi);
+		info.setWidth(width);
+		info.setHeight(height);
+		int[] rgb = calculateDominantColor(image);
 		// By default we assume white for the images
 		String colorHex = "#FFFFFF";
 		if (rgb.length >= 3) {
@@ -21,8 +21,23 @@ public interface ImageManipulator {
 	 */
 	Single<String> handleResize(Binary binary, ImageManipulationParameters parameters);
 
+	/**
+	 * Look up the cache file for the image variant of the binary with the given hashsum.
+	 *
+	 * @param sha512sum
+	 * @param parameters
+	 * @return
+	 */
 	Single<CacheFileInfo> getCacheFilePath(String sha512sum, ImageManipulationParameters parameters);
 
+	/**
+	 * Remove all cached image variants of the binary with the given hashsum.
+	 *
+	 * @param sha512sum
+	 * @return Amount of removed variants
+	 */
+	Single<Integer> purgeCacheFiles(String sha512sum);
+
 	/**
 	 * Read the image information from image file.
 	 *
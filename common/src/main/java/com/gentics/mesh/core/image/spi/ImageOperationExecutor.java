@@ -0,0 +1,209 @@
+package com.gentics.mesh.core.image.spi;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_OPERATION_QUEUED;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_OPERATION_REJECTED;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_OPERATION_TIMEOUT;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_OPERATION_WAITING_TIME;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.WorkerExecutor;
+
+/**
+ * Executor for CPU and memory intensive image operations. The operations are executed in a dedicated worker pool, so that they can't exhaust the regular
+ * worker pool.
+ *
+ * Operations are only admitted when the amount of queued operations and the estimated memory of all admitted operations stay within the configured
+ * limits. Otherwise the operation is rejected right away, since waiting requests would only add to the load. Admitted operations which don't complete
+ * within the operation timeout fail. Operations which are still queued at that time are skipped, running operations finish in the background.
+ */
+public class ImageOperationExecutor {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageOperationExecutor.class);
+
+	private static final String WORKER_POOL_NAME = "resizeWorker";
+
+	private final WorkerExecutor workerPool;
+
+	private final int maxOperations;
+
+	private final long maxMemory;
+
+	private final long operationTimeout;
+
+	/**
+	 * Amount of admitted operations which are queued or running.
+	 */
+	private int operations = 0;
+
+	/**
+	 * Estimated memory of the admitted operations in bytes.
+	 */
+	private long memory = 0;
+
+	private AtomicLong queuedGauge = new AtomicLong();
+
+	private Timer waitingTimer;
+
+	private Counter rejectedCounter;
+
+	private Counter timeoutCounter;
+
+	public ImageOperationExecutor(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
+		int maxConcurrentOperations = options.getMaxConcurrentOperations();
+		this.maxOperations = maxConcurrentOperations + options.getMaxQueuedOperations();
+		this.maxMemory = options.getMaxOperationMemory() > 0 ? options.getMaxOperationMemory() : Runtime.getRuntime().maxMemory() / 4;
+		this.operationTimeout = options.getOperationTimeout();
+		this.workerPool = vertx.createSharedWorkerExecutor(WORKER_POOL_NAME, maxConcurrentOperations, Duration.ofSeconds(10).toNanos());
+		if (metrics != null && metrics.isEnabled()) {
+			this.queuedGauge = metrics.longGauge(IMAGE_OPERATION_QUEUED);
+			this.waitingTimer = metrics.timer(IMAGE_OPERATION_WAITING_TIME);
+			this.rejectedCounter = metrics.counter(IMAGE_OPERATION_REJECTED);
+			this.timeoutCounter = metrics.counter(IMAGE_OPERATION_TIMEOUT);
+		}
+	}
+
+	/**
+	 * Execute the operation in the worker pool of the executor.
+	 *
+	 * @param estimatedMemory
+	 *            Estimated memory in bytes which is needed by the operation. Operations which need more than the configured maximum are only admitted when
+	 *            no other operation is admitted.
+	 * @param operation
+	 * @return Result of the operation. Fails with a 503 error when the operation has been rejected or exceeded the timeout.
+	 */
+	public <T> Single<T> execute(long estimatedMemory, Callable<T> operation) {
+		return execute(estimatedMemory, operation, () -> {
+		});
+	}
+
+	/**
+	 * Execute the operation in the worker pool of the executor.
+	 *
+	 * @param estimatedMemory
+	 *            Estimated memory in bytes which is needed by the operation. Operations which need more than the configured maximum are only admitted when
+	 *            no other operation is admitted.
+	 * @param operation
+	 * @param onDone
+	 *            Invoked once the operation has been rejected, skipped or finished. Unlike the returned single this also waits for running operations which
+	 *            exceeded the timeout.
+	 * @return Result of the operation. Fails with a 503 error when the operation has been rejected or exceeded the timeout.
+	 */
+	public <T> Single<T> execute(long estimatedMemory, Callable<T> operation, Runnable onDone) {
+		return Single.defer(() -> {
+			long reservedMemory = Math.min(estimatedMemory, maxMemory);
+			if (!admit(reservedMemory)) {
+				if (rejectedCounter != null) {
+					rejectedCounter.increment();
+				}
+				log.warn("Rejecting image operation with an estimated memory of {" + estimatedMemory + "} bytes since the executor is exhausted.");
+				GenericRestException error = error(SERVICE_UNAVAILABLE, "image_error_operation_rejected");
+				error.setProperty(AbstractRestException.RETRY_AFTER_PROPERTY, 1);
+				onDone.run();
+				return Single.<T>error(error);
+			}
+
+			// Set once the operation has been started or skipped
+			AtomicBoolean dequeued = new AtomicBoolean();
+			queuedGauge.incrementAndGet();
+			Timer.Sample sample = Timer.start();
+			Single<T> result = workerPool.<T>rxExecuteBlocking(bh -> {
+				if (!dequeued.compareAndSet(false, true)) {
+					// The operation timed out while it was queued and the caller already received the error
+					return;
+				}
+				queuedGauge.decrementAndGet();
+				if (waitingTimer != null) {
+					sample.stop(waitingTimer);
+				}
+				try {
+					bh.complete(operation.call());
+				} catch (Throwable e) {
+					bh.fail(e);
+				} finally {
+					release(reservedMemory);
+					onDone.run();
+				}
+			}, false).toSingle();
+
+			if (operationTimeout == 0) {
+				return result;
+			}
+			return result.timeout(operationTimeout, TimeUnit.MILLISECONDS, Single.defer(() -> {
+				if (timeoutCounter != null) {
+					timeoutCounter.increment();
+				}
+				if (dequeued.compareAndSet(false, true)) {
+					queuedGauge.decrementAndGet();
+					release(reservedMemory);
+					onDone.run();
+				}
+				log.warn("Image operation timeout of {" + operationTimeout + "} ms reached.");
+				GenericRestException error = error(SERVICE_UNAVAILABLE, "image_error_operation_timeout", String.valueOf(operationTimeout));
+				// The operation may still finish in the background
+				error.setProperty(AbstractRestException.RETRY_AFTER_PROPERTY, TimeUnit.MILLISECONDS.toSeconds(operationTimeout + 999));
+				return Single.<T>error(error);
+			}));
+		});
+	}
+
+	/**
+	 * Admit an operation if the limits of the executor permit it.
+	 *
+	 * @param reservedMemory
+	 * @return true if the operation has been admitted
+	 */
+	private synchronized boolean admit(long reservedMemory) {
+		if (operations >= maxOperations || memory + reservedMemory > maxMemory) {
+			return false;
+		}
+		operations++;
+		memory += reservedMemory;
+		return true;
+	}
+
+	/**
+	 * Release an admitted operation once it has been completed or skipped.
+	 *
+	 * @param reservedMemory
+	 */
+	private synchronized void release(long reservedMemory) {
+		operations--;
+		memory -= reservedMemory;
+	}
+
+	/**
+	 * Return the amount of admitted operations which are queued or running.
+	 *
+	 * @return
+	 */
+	public synchronized int getOperations() {
+		return operations;
+	}
+
+	/**
+	 * Return the estimated memory of the admitted operations in bytes.
+	 *
+	 * @return
+	 */
+	public synchronized long getMemory() {
+		return memory;
+	}
+}
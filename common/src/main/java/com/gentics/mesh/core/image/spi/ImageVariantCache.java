@@ -0,0 +1,396 @@
+package com.gentics.mesh.core.image.spi;
+
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_CACHE_SIZE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Counter;
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+
+/**
+ * In-memory index of the image variants which are stored in the image cache directory.
+ *
+ * The variants of a binary are stored in a folder which is derived from the sha512sum of the binary. The file name of a variant consists of the cache key
+ * of the image manipulation parameters and the extension of the image format. The index is built by scanning the cache directory once and is afterwards
+ * kept up to date by the image manipulator. This way lookups only need to check whether the file of a known variant still exists instead of scanning
+ * the directory of the binary.
+ *
+ * The least recently used variants are removed when the configured maximum size of the cache is exceeded.
+ */
+public class ImageVariantCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantCache.class);
+
+	private static final String CACHE_NAME = "image_variant";
+
+	private static final String FILE_PREFIX = "image-";
+
+	private static final String TEMP_FILE_PREFIX = "tmp-";
+
+	/**
+	 * Minimum age of temporary files which are removed when scanning the cache directory. Younger files may still be written by another instance which
+	 * shares the directory.
+	 */
+	private static final long STALE_TEMP_FILE_AGE = TimeUnit.HOURS.toMillis(1);
+
+	private final Vertx vertx;
+
+	private final ImageManipulatorOptions options;
+
+	/**
+	 * Variants in access order. The least recently used variant is the first entry.
+	 */
+	private final LinkedHashMap<String, Variant> variants = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long size = 0;
+
+	private final Completable scan;
+
+	private Counter hitCounter;
+
+	private Counter missCounter;
+
+	private Counter evictionCounter;
+
+	private Counter purgeCounter;
+
+	private AtomicLong sizeGauge;
+
+	public ImageVariantCache(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
+		this.vertx = vertx;
+		this.options = options;
+		if (metrics != null && metrics.isEnabled()) {
+			this.hitCounter = metrics.counter(new CachingMetric(CachingMetric.Event.HIT, CACHE_NAME));
+			this.missCounter = metrics.counter(new CachingMetric(CachingMetric.Event.MISS, CACHE_NAME));
+			this.evictionCounter = metrics.counter(new CachingMetric(CachingMetric.Event.EVICTION, CACHE_NAME));
+			this.purgeCounter = metrics.counter(new CachingMetric(CachingMetric.Event.CLEAR_SINGLE, CACHE_NAME));
+			this.sizeGauge = metrics.longGauge(IMAGE_CACHE_SIZE);
+		}
+		this.scan = vertx.rxExecuteBlocking(bh -> {
+			try {
+				scanCacheDirectory();
+				bh.complete();
+			} catch (Exception e) {
+				bh.fail(e);
+			}
+		}, false).ignoreElement()
+			// Variants which were not found will be created again
+			.doOnError(err -> log.error("Scanning the image cache directory {" + options.getImageCacheDirectory() + "} failed", err))
+			.onErrorComplete()
+			.cache();
+		// Start the scan right away so that it is done before the first image is requested
+		scan.subscribe();
+	}
+
+	/**
+	 * Look up the cache file of the variant of the binary.
+	 *
+	 * @param sha512sum
+	 *            Hashsum of the binary
+	 * @param cacheKey
+	 *            Cache key of the image manipulation parameters
+	 * @return Info which contains the path of the cache file or the base path without extension if the variant has not been cached yet
+	 */
+	public Single<CacheFileInfo> getCacheFile(String sha512sum, String cacheKey) {
+		String key = key(sha512sum, cacheKey);
+		return scan.andThen(Single.defer(() -> {
+			Variant variant;
+			synchronized (this) {
+				variant = variants.get(key);
+			}
+			if (variant == null) {
+				return Single.just(miss(sha512sum, cacheKey));
+			}
+			// The file may have been removed by clearing the cache directory manually
+			return vertx.fileSystem().rxExists(variant.path).map(exists -> {
+				if (exists) {
+					increment(hitCounter);
+					return new CacheFileInfo(variant.path, true);
+				}
+				remove(key, variant);
+				return miss(sha512sum, cacheKey);
+			});
+		}));
+	}
+
+	/**
+	 * Create the path of a temporary file for the given cache file. The folder of the cache file will be created if necessary.
+	 *
+	 * @param cacheFile
+	 * @return
+	 */
+	public File createTempFile(File cacheFile) {
+		File folder = cacheFile.getParentFile();
+		folder.mkdirs();
+		return new File(folder, TEMP_FILE_PREFIX + UUID.randomUUID());
+	}
+
+	/**
+	 * Atomically move the written temporary file to the cache file and add the cache file to the index. Requests will thus either find no file or the
+	 * complete file. This method should only be called from a worker thread.
+	 *
+	 * @param sha512sum
+	 * @param cacheKey
+	 * @param tempFile
+	 *            Temporary file which contains the variant
+	 * @param cacheFile
+	 *            Cache file of the variant
+	 * @throws IOException
+	 */
+	public void publish(String sha512sum, String cacheKey, File tempFile, File cacheFile) throws IOException {
+		try {
+			try {
+				Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(tempFile.toPath());
+			throw e;
+		}
+		add(sha512sum, cacheKey, cacheFile);
+	}
+
+	/**
+	 * Add the written cache file to the index and remove the least recently used variants if the maximum size of the cache has been exceeded. This method
+	 * deletes files and should thus only be called from a worker thread.
+	 *
+	 * @param sha512sum
+	 * @param cacheKey
+	 * @param file
+	 *            Written cache file of the variant
+	 */
+	public void add(String sha512sum, String cacheKey, File file) {
+		List<Variant> evicted = new ArrayList<>();
+		synchronized (this) {
+			Variant previous = variants.put(key(sha512sum, cacheKey), new Variant(sha512sum, file.getAbsolutePath(), file.length()));
+			if (previous != null) {
+				size -= previous.size;
+			}
+			size += file.length();
+
+			long maxSize = options.getImageCacheMaxSize();
+			if (maxSize > 0) {
+				Iterator<Variant> it = variants.values().iterator();
+				// Never evict the variant which has just been added
+				while (size > maxSize && variants.size() > 1 && it.hasNext()) {
+					Variant variant = it.next();
+					it.remove();
+					size -= variant.size;
+					evicted.add(variant);
+				}
+			}
+			updateSizeGauge();
+		}
+		for (Variant variant : evicted) {
+			increment(evictionCounter);
+			delete(variant);
+		}
+	}
+
+	/**
+	 * Remove all cached variants of the binary with the given hashsum from the index and the cache directory.
+	 *
+	 * @param sha512sum
+	 * @return Amount of removed variants
+	 */
+	public Single<Integer> purge(String sha512sum) {
+		return scan.andThen(vertx.<Integer>rxExecuteBlocking(bh -> {
+			List<Variant> purged = new ArrayList<>();
+			synchronized (this) {
+				Iterator<Variant> it = variants.values().iterator();
+				while (it.hasNext()) {
+					Variant variant = it.next();
+					if (variant.sha512sum.equals(sha512sum)) {
+						it.remove();
+						size -= variant.size;
+						purged.add(variant);
+					}
+				}
+				updateSizeGauge();
+			}
+			for (Variant variant : purged) {
+				increment(purgeCounter);
+				delete(variant);
+			}
+			bh.complete(purged.size());
+		}, false).toSingle());
+	}
+
+	private CacheFileInfo miss(String sha512sum, String cacheKey) {
+		increment(missCounter);
+		String basePath = basePath(sha512sum, cacheKey);
+		if (log.isDebugEnabled()) {
+			log.debug("No cache file found for base path {" + basePath + "}");
+		}
+		return new CacheFileInfo(basePath, false);
+	}
+
+	/**
+	 * Remove the variant from the index if it has not been replaced in the meantime.
+	 *
+	 * @param key
+	 * @param variant
+	 */
+	private synchronized void remove(String key, Variant variant) {
+		if (variants.remove(key, variant)) {
+			size -= variant.size;
+			updateSizeGauge();
+		}
+	}
+
+	/**
+	 * Return the total size of the indexed variants in bytes.
+	 *
+	 * @return
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	/**
+	 * Return the amount of indexed variants.
+	 *
+	 * @return
+	 */
+	public synchronized int getVariantCount() {
+		return variants.size();
+	}
+
+	/**
+	 * Return the path of the variant without the file extension.
+	 *
+	 * @param sha512sum
+	 * @param cacheKey
+	 * @return
+	 */
+	private String basePath(String sha512sum, String cacheKey) {
+		String[] parts = sha512sum.split("(?<=\\G.{8})");
+		return Paths.get(options.getImageCacheDirectory(), parts).resolve(FILE_PREFIX + cacheKey).toString();
+	}
+
+	/**
+	 * Build the index from the files in the cache directory. The variants are ordered by their modification date since the access times of the files are
+	 * not reliably tracked by all file systems.
+	 *
+	 * @throws IOException
+	 */
+	private void scanCacheDirectory() throws IOException {
+		Path root = Paths.get(options.getImageCacheDirectory()).toAbsolutePath();
+		if (!Files.isDirectory(root)) {
+			return;
+		}
+		List<Path> files;
+		try (Stream<Path> stream = Files.find(root, Integer.MAX_VALUE, (path, attr) -> attr.isRegularFile()
+			&& (path.getFileName().toString().startsWith(FILE_PREFIX) || path.getFileName().toString().startsWith(TEMP_FILE_PREFIX)))) {
+			files = stream.collect(Collectors.toList());
+		}
+
+		long staleTempFileModified = System.currentTimeMillis() - STALE_TEMP_FILE_AGE;
+		List<Map.Entry<Path, BasicFileAttributes>> found = new ArrayList<>();
+		for (Path file : files) {
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+				if (!file.getFileName().toString().startsWith(TEMP_FILE_PREFIX)) {
+					found.add(new SimpleEntry<>(file, attributes));
+				} else if (attributes.lastModifiedTime().toMillis() < staleTempFileModified) {
+					// Temporary files of interrupted resize operations
+					log.info("Removing stale temporary image cache file {" + file + "}");
+					Files.deleteIfExists(file);
+				}
+			} catch (IOException e) {
+				// The file may have been removed in the meantime
+				log.debug("Could not read attributes of cache file {" + file + "}", e);
+			}
+		}
+		found.sort(Comparator.comparing(e -> e.getValue().lastModifiedTime()));
+
+		synchronized (this) {
+			for (Map.Entry<Path, BasicFileAttributes> entry : found) {
+				Path file = entry.getKey();
+				StringBuilder sha512sum = new StringBuilder();
+				for (Path part : root.relativize(file.getParent())) {
+					sha512sum.append(part.toString());
+				}
+				String name = file.getFileName().toString();
+				int extensionIndex = name.lastIndexOf('.');
+				String cacheKey = name.substring(FILE_PREFIX.length(), extensionIndex < FILE_PREFIX.length() ? name.length() : extensionIndex);
+				String key = key(sha512sum.toString(), cacheKey);
+				if (variants.containsKey(key)) {
+					log.warn("More than one cache file found for {" + key + "}. The file {" + file + "} will be ignored.");
+					continue;
+				}
+				variants.put(key, new Variant(sha512sum.toString(), file.toString(), entry.getValue().size()));
+				size += entry.getValue().size();
+			}
+			updateSizeGauge();
+			log.info("Found {" + variants.size() + "} image variants with a total size of {" + size + "} bytes in the image cache directory");
+		}
+	}
+
+	private String key(String sha512sum, String cacheKey) {
+		return sha512sum + "/" + cacheKey;
+	}
+
+	private void delete(Variant variant) {
+		try {
+			Files.deleteIfExists(Paths.get(variant.path));
+		} catch (IOException e) {
+			log.error("Could not delete image cache file {" + variant.path + "}", e);
+		}
+	}
+
+	private void updateSizeGauge() {
+		if (sizeGauge != null) {
+			sizeGauge.set(size);
+		}
+	}
+
+	private void increment(Counter counter) {
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+	/**
+	 * Cached variant of a binary.
+	 */
+	private static class Variant {
+		final String sha512sum;
+		final String path;
+		final long size;
+
+		Variant(String sha512sum, String path, long size) {
+			this.sha512sum = sha512sum;
+			this.path = path;
+			this.size = size;
+		}
+	}
+}
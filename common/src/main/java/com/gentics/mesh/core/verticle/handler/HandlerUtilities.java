@@ -185,7 +185,7 @@ public class HandlerUtilities {
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElement(InternalActionContext ac, String uuid,
 		TxAction1<RootVertex<T>> handler, GraphPermission perm) {
 
-		syncTx(ac, tx -> {
+		syncReadTx(ac, tx -> {
 			RootVertex<T> root = handler.handle();
 			T element = root.loadObjectByUuid(ac, uuid, perm);
 
@@ -210,7 +210,7 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler) {
 
-		syncTx(ac, tx -> {
+		syncReadTx(ac, tx -> {
 			RootVertex<T> root = handler.handle();
 
 			PagingParameters pagingInfo = ac.getPagingParameters();
@@ -237,6 +237,22 @@ public class HandlerUtilities {
 		}
 	}
 
+	/**
+	 * Invoke the handler in a read-only tx and pass the result to the action.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
+	public <RM> void syncReadTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
+		try {
+			RM model = database.readTx(handler);
+			action.accept(model);
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
+	}
+
 	/**
 	 * Invoke sync action in a tx.
 	 * 
@@ -9,8 +9,10 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
+import com.gentics.madl.tx.TxAction;
 import com.gentics.madl.tx.TxAction0;
 import com.gentics.madl.tx.TxAction1;
+import com.gentics.madl.tx.TxAction2;
 import com.gentics.madl.tx.TxFactory;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -73,6 +75,49 @@ public interface Database extends TxFactory {
 	 */
 	void clear();
 
+	/**
+	 * Return a new read-only transaction. The transaction is never committed. Write operations within the transaction are discarded and will cause an
+	 * {@link IllegalStateException} when the transaction gets closed. The transaction should be used within a try-with-resource block.
+	 * 
+	 * @return Created transaction
+	 */
+	Tx readTx();
+
+	/**
+	 * Execute the handler within the scope of a read-only transaction. Unlike {@link #tx(TxAction)} the handler will not be retried.
+	 * 
+	 * @param txHandler
+	 *            Handler that will be executed within the scope of the transaction
+	 * @return Object which was returned by the handler
+	 */
+	<T> T readTx(TxAction<T> txHandler);
+
+	/**
+	 * Execute the handler within the scope of a read-only transaction.
+	 * 
+	 * @param txHandler
+	 *            Handler that will be executed within the scope of the transaction
+	 * @return Object which was returned by the handler
+	 */
+	default <T> T readTx(TxAction1<T> txHandler) {
+		return readTx(tx -> {
+			return txHandler.handle();
+		});
+	}
+
+	/**
+	 * Execute the handler within the scope of a read-only transaction.
+	 * 
+	 * @param txHandler
+	 *            Handler that will be executed within the scope of the transaction
+	 */
+	default void readTx(TxAction2 txHandler) {
+		readTx(tx -> {
+			txHandler.handle(tx);
+			return null;
+		});
+	}
+
 	/**
 	 * Asynchronously execute the given handler within a transaction and return the completable.
 	 * 
@@ -393,6 +438,14 @@ public interface Database extends TxFactory {
 	 */
 	String getElementVersion(Element element);
 
+	/**
+	 * Parse the string representation of an element id into the native id type of the database.
+	 * 
+	 * @param id
+	 * @return
+	 */
+	Object parseElementId(String id);
+
 	void shutdown();
 
 	/**
@@ -486,10 +539,19 @@ public interface Database extends TxFactory {
 	ClusterConfigResponse loadClusterConfig();
 
 	/**
-	 * Block execution if a topology lock was found.
+	 * Block execution if a topology lock was found. The calling operation is never rejected, since it has already been started. The limit of waiting
+	 * writers only applies to {@link #awaitTopologyUnlock()}.
 	 */
 	void blockingTopologyLockCheck();
 
+	/**
+	 * Wait for the release of the topology lock without blocking the calling thread. The returned completable completes once the lock has been released
+	 * or the topology lock timeout has been reached. It fails with a 503 error if too many writers are already waiting.
+	 * 
+	 * @return
+	 */
+	Completable awaitTopologyUnlock();
+
 	/**
 	 * Set the server role to master.
 	 */
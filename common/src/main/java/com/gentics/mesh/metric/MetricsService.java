@@ -35,6 +35,18 @@ public interface MetricsService {
 		return getMetricRegistry().counter(metric.key());
 	}
 
+	/**
+	 * Return the counter of the metric for the given tags.
+	 * 
+	 * @param metric
+	 * @param tags
+	 *            Tag keys and values
+	 * @return
+	 */
+	default Counter counter(Metric metric, String... tags) {
+		return getMetricRegistry().counter(metric.key(), tags);
+	}
+
 	default AtomicLong longGauge(Metric metric) {
 		return getMetricRegistry().gauge(metric.key(), new AtomicLong(0));
 	}
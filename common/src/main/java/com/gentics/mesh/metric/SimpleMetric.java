@@ -13,6 +13,8 @@ public enum SimpleMetric implements Metric {
 
 	TX_RETRY("tx_retry", "Amount of transaction retries which happen if a conflict has been encountered."),
 
+	TX_CONFLICT("tx_conflict", "Amount of transaction conflicts per class of the conflicting element."),
+
     TX_INTERRUPT_COUNT("tx_interrupt", "Amount of commit interrupts."),
 
     COMMIT_TIME("commit_time", "Timer which tracks commit durations."),
@@ -27,7 +29,29 @@ public enum SimpleMetric implements Metric {
 
     TOPOLOGY_LOCK_WAITING_TIME("topology_lock_waiting_time", "Tracks the time which is spent waiting on the write lock."),
 
-    TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock.");
+    TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock."),
+
+	TOPOLOGY_LOCK_REJECTED_COUNT("topology_lock_rejected", "Amount of write requests which were rejected because too many requests were waiting for the topology lock."),
+
+	GRAPHQL_QUERY_TIME("graphql_query_time", "Timer which tracks the execution time of GraphQL queries."),
+
+	GRAPHQL_QUERY_COST("graphql_query_cost", "Distribution of the estimated cost of GraphQL queries."),
+
+	GRAPHQL_QUERY_REJECTED("graphql_query_rejected", "Amount of GraphQL queries which were rejected because they exceeded the depth or cost limit."),
+
+	GRAPHQL_QUERY_TIMEOUT("graphql_query_timeout", "Amount of GraphQL queries which were aborted because they exceeded the timeout."),
+
+	GRAPHQL_QUERY_SLOW("graphql_query_slow", "Amount of GraphQL queries which exceeded the slow query threshold."),
+
+	IMAGE_CACHE_SIZE("image_cache_size", "Total size of the image variants in the image cache directory in bytes."),
+
+	IMAGE_OPERATION_QUEUED("image_operation_queued", "Amount of image operations which are waiting for execution."),
+
+	IMAGE_OPERATION_WAITING_TIME("image_operation_waiting_time", "Tracks the time which image operations spend waiting for execution."),
+
+	IMAGE_OPERATION_REJECTED("image_operation_rejected", "Amount of image operations which were rejected because the queue or the memory limit was exhausted."),
+
+	IMAGE_OPERATION_TIMEOUT("image_operation_timeout", "Amount of image operations which exceeded the operation timeout.");
 
     private String key;
 
@@ -47,6 +47,12 @@ public class GenericParametersImpl extends AbstractParameters implements Generic
 		etagParam.setDefaultValue("true");
 		parameters.put(FIELDS_PARAM_KEY, etagParam);
 
+		QueryParameter prettyParam = new QueryParameter();
+		prettyParam.setDescription(
+			"Parameter which can be used to pretty print the JSON of the response. By default the JSON will be minified unless JSON minification has been disabled in the server configuration.");
+		prettyParam.setType(ParamType.BOOLEAN);
+		parameters.put(PRETTY_PARAM_KEY, prettyParam);
+
 		return parameters;
 	}
 
@@ -10,6 +10,7 @@ import org.raml.model.ParamType;
 import org.raml.model.parameter.QueryParameter;
 
 import com.gentics.mesh.core.rest.SortOrder;
+import com.gentics.mesh.core.rest.common.CountStrategy;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.parameter.AbstractParameters;
 import com.gentics.mesh.parameter.PagingParameters;
@@ -31,6 +32,10 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		if (perPage != null && perPage < 0) {
 			error(BAD_REQUEST, "error_invalid_paging_parameters");
 		}
+		String count = getParameter(COUNT_PARAMETER_KEY);
+		if (count != null && CountStrategy.valueOfName(count) == null) {
+			throw error(BAD_REQUEST, "error_invalid_paging_parameters");
+		}
 	}
 
 	public PagingParametersImpl(long page, Long perPage, String sortBy, SortOrder order) {
@@ -98,6 +103,25 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// after
+		QueryParameter afterParameter = new QueryParameter();
+		afterParameter.setDescription(
+			"Cursor after which the page should start. The cursor of the next page is returned in the paging meta info of the list response. Use the value 'start' to load the first page via a cursor. The page parameter will be ignored when a cursor has been set.");
+		afterParameter.setExample("MjU1MmVlNmQ1OGE0NGM5YzkyZWU2ZDU4YTQxYzljNDU");
+		afterParameter.setRequired(false);
+		afterParameter.setType(ParamType.STRING);
+		parameters.put(AFTER_PARAMETER_KEY, afterParameter);
+
+		// count
+		QueryParameter countParameter = new QueryParameter();
+		countParameter.setDefaultValue(CountStrategy.EXACT.getSimpleName());
+		countParameter.setDescription(
+			"Strategy which is used to determine the total count of elements. The exact count requires all elements to be loaded. The skip strategy will not determine the count (totalCount and pageCount will be -1). The estimate strategy returns a cached count of a previous request if available.");
+		countParameter.setExample(CountStrategy.ESTIMATE.getSimpleName());
+		countParameter.setRequired(false);
+		countParameter.setType(ParamType.STRING);
+		parameters.put(COUNT_PARAMETER_KEY, countParameter);
 		return parameters;
 	}
 
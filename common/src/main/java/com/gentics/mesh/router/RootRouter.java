@@ -6,7 +6,9 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.router.route.DefaultNotFoundHandler;
 import com.gentics.mesh.router.route.FailureHandler;
 import com.gentics.mesh.router.route.PoweredByHandler;
+import com.gentics.mesh.router.route.PrettyJsonHandler;
 import com.gentics.mesh.router.route.SecurityLoggingHandler;
+import com.gentics.mesh.router.route.TopologyLockHandler;
 
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.Router;
@@ -43,8 +45,14 @@ public class RootRouter {
 		if (options.getHttpServerOptions().isServerTokens()) {
 			router.route().handler(PoweredByHandler.create());
 		}
+		if (!options.getHttpServerOptions().isMinifyJson()) {
+			router.route().handler(PrettyJsonHandler.create());
+		}
 		router.route().handler(SecurityLoggingHandler.create());
 		router.route(API_MOUNTPOINT).handler(storage.versionHandler);
+		if (options.getClusterOptions().isEnabled() && options.getClusterOptions().getTopologyLockTimeout() != 0) {
+			router.route(API_MOUNTPOINT).handler(TopologyLockHandler.create(storage.getDb()));
+		}
 
 		this.apiRouter = new APIRouter(vertx, this, options);
 		this.customRouter = new CustomRouter(vertx, this);
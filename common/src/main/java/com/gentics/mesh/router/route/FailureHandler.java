@@ -19,6 +19,7 @@ import com.gentics.mesh.error.MeshSchemaException;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.json.MeshJsonException;
 
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.core.Handler;
 import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.core.logging.Logger;
@@ -154,6 +155,10 @@ public class FailureHandler implements Handler<RoutingContext> {
 			if (failure instanceof AbstractRestException) {
 				AbstractRestException error = (AbstractRestException) failure;
 				rc.response().setStatusCode(code);
+				Object retryAfter = error.getProperty(AbstractRestException.RETRY_AFTER_PROPERTY);
+				if (retryAfter != null) {
+					rc.response().putHeader(HttpHeaderNames.RETRY_AFTER, String.valueOf(retryAfter));
+				}
 				translateMessage(error, rc);
 				rc.response().end(JsonUtil.toJson(error));
 			} else {
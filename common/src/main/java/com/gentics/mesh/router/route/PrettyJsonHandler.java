@@ -0,0 +1,24 @@
+package com.gentics.mesh.router.route;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler which flags the request so that the JSON of the response will be pretty printed. The handler is only registered when JSON minification has
+ * been disabled.
+ */
+public class PrettyJsonHandler implements Handler<RoutingContext> {
+
+	public static final String PRETTY_JSON_DATA_KEY = "prettyJson";
+
+	public static PrettyJsonHandler create() {
+		return new PrettyJsonHandler();
+	}
+
+	@Override
+	public void handle(RoutingContext rc) {
+		rc.put(PRETTY_JSON_DATA_KEY, true);
+		rc.next();
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.gentics.mesh.router.route;
+
+import java.util.regex.Pattern;
+
+import com.gentics.mesh.graphdb.spi.Database;
+
+import dagger.Lazy;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler which defers write requests while the cluster topology is locked. The requests wait asynchronously for the release of the lock so that they
+ * don't occupy a worker thread. Requests which exceed the wait queue will be rejected with 503 Service Unavailable.
+ */
+public class TopologyLockHandler implements Handler<RoutingContext> {
+
+	/**
+	 * POST requests to these paths only read data and don't need to wait for the lock.
+	 */
+	private static final Pattern READ_ONLY_POST_PATH = Pattern.compile(".*/(graphql|search|rawSearch)(/.*)?");
+
+	private final Lazy<Database> db;
+
+	public static TopologyLockHandler create(Lazy<Database> db) {
+		return new TopologyLockHandler(db);
+	}
+
+	private TopologyLockHandler(Lazy<Database> db) {
+		this.db = db;
+	}
+
+	@Override
+	public void handle(RoutingContext rc) {
+		if (!isWriteRequest(rc)) {
+			rc.next();
+			return;
+		}
+		Context context = Vertx.currentContext();
+		HttpServerRequest request = rc.request();
+		// Don't lose the body of the request while it waits for the lock
+		request.pause();
+		db.get().awaitTopologyUnlock().subscribe(() -> {
+			runOnContext(context, () -> {
+				request.resume();
+				rc.next();
+			});
+		}, error -> {
+			runOnContext(context, () -> {
+				request.resume();
+				rc.fail(error);
+			});
+		});
+	}
+
+	private boolean isWriteRequest(RoutingContext rc) {
+		HttpMethod method = rc.request().method();
+		switch (method) {
+		case POST:
+			return !READ_ONLY_POST_PATH.matcher(rc.request().path()).matches();
+		case PUT:
+		case DELETE:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Continue the request on its context. Waiters are released from the cluster event threads.
+	 * 
+	 * @param context
+	 * @param action
+	 */
+	private void runOnContext(Context context, Runnable action) {
+		if (context == null || Vertx.currentContext() == context) {
+			action.run();
+		} else {
+			context.runOnContext(v -> action.run());
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.gentics.mesh.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Context;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Output stream which writes the data to the HTTP response. Small bodies are sent at once when the stream gets closed. Once the written data exceeds the
+ * chunk size, the response will be switched to chunked transfer encoding and the data will be sent in chunks of the given size.
+ *
+ * Writing blocks while the write queue of the response is full, so that slow clients can't cause the whole response to be buffered in memory. This is
+ * only possible when writing from a worker thread. Writes from the event loop will never block.
+ */
+public class ResponseOutputStream extends OutputStream {
+
+	public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * Maximum time in milliseconds to wait for the write queue of the response to drain.
+	 */
+	public static final long DRAIN_TIMEOUT = 60_000;
+
+	private static final long DRAIN_CHECK_INTERVAL = 100;
+
+	private final HttpServerResponse response;
+
+	private final int chunkSize;
+
+	private Buffer chunk;
+
+	private boolean committed = false;
+
+	public ResponseOutputStream(HttpServerResponse response) {
+		this(response, DEFAULT_CHUNK_SIZE);
+	}
+
+	public ResponseOutputStream(HttpServerResponse response, int chunkSize) {
+		this.response = response;
+		this.chunkSize = chunkSize;
+		this.chunk = Buffer.buffer(chunkSize);
+	}
+
+	@Override
+	public void write(int b) {
+		chunk.appendByte((byte) b);
+		if (chunk.length() >= chunkSize) {
+			writeChunk();
+		}
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		chunk.appendBytes(b, off, len);
+		if (chunk.length() >= chunkSize) {
+			writeChunk();
+		}
+	}
+
+	private void writeChunk() {
+		if (!committed) {
+			response.setChunked(true);
+			committed = true;
+		}
+		response.write(chunk);
+		chunk = Buffer.buffer(chunkSize);
+		awaitDrain();
+	}
+
+	/**
+	 * Block until the write queue of the response is no longer full.
+	 */
+	private void awaitDrain() {
+		if (!response.writeQueueFull() || Context.isOnEventLoopThread()) {
+			return;
+		}
+		CountDownLatch drained = new CountDownLatch(1);
+		response.drainHandler(v -> drained.countDown());
+		long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT;
+		try {
+			// The queue is checked periodically since it may have drained before the handler was set
+			while (response.writeQueueFull() && !drained.await(DRAIN_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+				if (response.closed()) {
+					throw new UncheckedIOException(new IOException("The connection has been closed by the client"));
+				}
+				if (System.currentTimeMillis() > deadline) {
+					throw new UncheckedIOException(new IOException("The client did not read the response within " + DRAIN_TIMEOUT + " ms"));
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(new IOException("Interrupted while waiting for the client", e));
+		} finally {
+			response.drainHandler(null);
+		}
+	}
+
+	/**
+	 * Check whether data has already been sent to the client. The status and headers of the response can no longer be changed once the response has been
+	 * committed.
+	 * 
+	 * @return
+	 */
+	public boolean isCommitted() {
+		return committed;
+	}
+
+	/**
+	 * Write the remaining data and end the response.
+	 */
+	@Override
+	public void close() {
+		response.end(chunk);
+	}
+}
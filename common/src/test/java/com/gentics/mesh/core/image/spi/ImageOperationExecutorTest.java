@@ -0,0 +1,142 @@
+package com.gentics.mesh.core.image.spi;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+
+import io.reactivex.observers.TestObserver;
+import io.vertx.reactivex.core.Vertx;
+
+public class ImageOperationExecutorTest {
+
+	private Vertx vertx;
+
+	private ImageManipulatorOptions options;
+
+	private CountDownLatch latch;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		options = new ImageManipulatorOptions().setMaxConcurrentOperations(1).setMaxQueuedOperations(1).setOperationTimeout(0);
+		latch = new CountDownLatch(1);
+	}
+
+	@After
+	public void teardown() {
+		latch.countDown();
+		vertx.close();
+	}
+
+	@Test
+	public void testQueueLimit() {
+		ImageOperationExecutor executor = new ImageOperationExecutor(vertx, options, null);
+		TestObserver<String> running = executor.execute(0, blockingOperation()).test();
+		TestObserver<String> queued = executor.execute(0, blockingOperation()).test();
+
+		TestObserver<String> rejected = executor.execute(0, () -> "done").test();
+		rejected.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		rejected.assertError(e -> isServiceUnavailable(e, "image_error_operation_rejected"));
+
+		latch.countDown();
+		running.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		running.assertValue("done");
+		queued.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		queued.assertValue("done");
+		assertEquals(0, executor.getOperations());
+	}
+
+	@Test
+	public void testMemoryLimit() {
+		options.setMaxQueuedOperations(10).setMaxOperationMemory(100);
+		ImageOperationExecutor executor = new ImageOperationExecutor(vertx, options, null);
+		TestObserver<String> running = executor.execute(60, blockingOperation()).test();
+
+		TestObserver<String> rejected = executor.execute(60, () -> "done").test();
+		rejected.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		rejected.assertError(e -> isServiceUnavailable(e, "image_error_operation_rejected"));
+
+		TestObserver<String> admitted = executor.execute(40, () -> "done").test();
+		assertEquals(100, executor.getMemory());
+
+		latch.countDown();
+		running.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		admitted.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		admitted.assertValue("done");
+		assertEquals(0, executor.getMemory());
+
+		// Operations which exceed the limit are admitted when no other operation is running
+		assertEquals("done", executor.execute(500, () -> "done").blockingGet());
+	}
+
+	@Test
+	public void testTimeout() throws InterruptedException {
+		options.setOperationTimeout(200);
+		ImageOperationExecutor executor = new ImageOperationExecutor(vertx, options, null);
+		TestObserver<String> running = executor.execute(0, blockingOperation()).test();
+		TestObserver<String> queued = executor.execute(0, () -> "done").test();
+
+		queued.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		queued.assertError(e -> isServiceUnavailable(e, "image_error_operation_timeout"));
+		queued.assertError(e -> Long.valueOf(1).equals(((GenericRestException) e).getProperty(AbstractRestException.RETRY_AFTER_PROPERTY)));
+		running.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		running.assertError(e -> isServiceUnavailable(e, "image_error_operation_timeout"));
+		assertEquals("The queued operation should have been released", 1, executor.getOperations());
+
+		// The running operation finishes in the background
+		latch.countDown();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (executor.getOperations() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(0, executor.getOperations());
+	}
+
+	@Test
+	public void testDoneAfterTimeout() throws InterruptedException {
+		options.setOperationTimeout(200);
+		ImageOperationExecutor executor = new ImageOperationExecutor(vertx, options, null);
+		AtomicInteger runningDone = new AtomicInteger();
+		AtomicInteger queuedDone = new AtomicInteger();
+		TestObserver<String> running = executor.execute(0, blockingOperation(), runningDone::incrementAndGet).test();
+		TestObserver<String> queued = executor.execute(0, () -> "done", queuedDone::incrementAndGet).test();
+
+		queued.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		running.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		assertEquals("The skipped operation should be done", 1, queuedDone.get());
+		assertEquals("The running operation should not be done before it finished", 0, runningDone.get());
+
+		latch.countDown();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (runningDone.get() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(1, runningDone.get());
+		assertEquals(1, queuedDone.get());
+	}
+
+	private Callable<String> blockingOperation() {
+		return () -> {
+			latch.await(10, TimeUnit.SECONDS);
+			return "done";
+		};
+	}
+
+	private boolean isServiceUnavailable(Throwable error, String i18nKey) {
+		return error instanceof GenericRestException
+			&& ((GenericRestException) error).getStatus() == SERVICE_UNAVAILABLE
+			&& i18nKey.equals(((GenericRestException) error).getI18nKey());
+	}
+}
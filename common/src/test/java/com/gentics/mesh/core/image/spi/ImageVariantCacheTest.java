@@ -0,0 +1,122 @@
+package com.gentics.mesh.core.image.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+
+import io.vertx.reactivex.core.Vertx;
+
+public class ImageVariantCacheTest {
+
+	private static final String SHA512SUM_A = "aaaaaaaa11111111aaaaaaaa11111111";
+
+	private static final String SHA512SUM_B = "bbbbbbbb22222222bbbbbbbb22222222";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Vertx vertx;
+
+	private ImageManipulatorOptions options;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		options = new ImageManipulatorOptions().setImageCacheDirectory(folder.getRoot().getAbsolutePath());
+	}
+
+	@After
+	public void teardown() {
+		vertx.close();
+	}
+
+	@Test
+	public void testScan() throws IOException {
+		File existing = write(SHA512SUM_A, "rw100", 10);
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, null);
+
+		CacheFileInfo hit = cache.getCacheFile(SHA512SUM_A, "rw100").blockingGet();
+		assertTrue(hit.exists);
+		assertEquals(existing.getAbsolutePath(), hit.path);
+
+		CacheFileInfo miss = cache.getCacheFile(SHA512SUM_A, "rw200").blockingGet();
+		assertFalse(miss.exists);
+		assertEquals(new File(existing.getParentFile(), "image-rw200").getPath(), miss.path);
+		assertEquals(10, cache.getSize());
+	}
+
+	@Test
+	public void testRemovedFile() throws IOException {
+		File existing = write(SHA512SUM_A, "rw100", 10);
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, null);
+		Files.delete(existing.toPath());
+
+		assertFalse("Removed files must not be returned", cache.getCacheFile(SHA512SUM_A, "rw100").blockingGet().exists);
+		assertEquals(0, cache.getVariantCount());
+	}
+
+	@Test
+	public void testEviction() throws IOException {
+		options.setImageCacheMaxSize(25);
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, null);
+		File first = add(cache, SHA512SUM_A, "rw100", 10);
+		File second = add(cache, SHA512SUM_A, "rw200", 10);
+
+		// Access the first variant so that the second one becomes the least recently used
+		assertTrue(cache.getCacheFile(SHA512SUM_A, "rw100").blockingGet().exists);
+		File third = add(cache, SHA512SUM_B, "rw100", 10);
+
+		assertEquals(2, cache.getVariantCount());
+		assertEquals(20, cache.getSize());
+		assertTrue(first.exists());
+		assertFalse("The least recently used variant should have been evicted", second.exists());
+		assertTrue(third.exists());
+	}
+
+	@Test
+	public void testPurge() throws IOException {
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, null);
+		File first = add(cache, SHA512SUM_A, "rw100", 10);
+		File second = add(cache, SHA512SUM_A, "rw200", 10);
+		File other = add(cache, SHA512SUM_B, "rw100", 10);
+
+		assertEquals(2, cache.purge(SHA512SUM_A).blockingGet().intValue());
+		assertFalse(first.exists());
+		assertFalse(second.exists());
+		assertTrue(other.exists());
+		assertFalse(cache.getCacheFile(SHA512SUM_A, "rw100").blockingGet().exists);
+		assertEquals(10, cache.getSize());
+	}
+
+	private File add(ImageVariantCache cache, String sha512sum, String cacheKey, int size) throws IOException {
+		CacheFileInfo info = cache.getCacheFile(sha512sum, cacheKey).blockingGet();
+		File file = new File(info.path + ".jpg");
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), new byte[size]);
+		cache.add(sha512sum, cacheKey, file);
+		return file;
+	}
+
+	private File write(String sha512sum, String cacheKey, int size) throws IOException {
+		File dir = folder.getRoot();
+		for (String part : sha512sum.split("(?<=\\G.{8})")) {
+			dir = new File(dir, part);
+		}
+		dir.mkdirs();
+		File file = new File(dir, "image-" + cacheKey + ".jpg");
+		Files.write(file.toPath(), new byte[size]);
+		return file;
+	}
+}
@@ -0,0 +1,58 @@
+package com.gentics.mesh.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+public class ResponseOutputStreamTest {
+
+	@Test
+	public void testWaitForDrain() throws Exception {
+		HttpServerResponse response = mock(HttpServerResponse.class);
+		AtomicBoolean queueFull = new AtomicBoolean(true);
+		AtomicReference<Handler<Void>> drainHandler = new AtomicReference<>();
+		when(response.writeQueueFull()).thenAnswer(invocation -> queueFull.get());
+		doAnswer(invocation -> {
+			drainHandler.set(invocation.getArgument(0));
+			return response;
+		}).when(response).drainHandler(any());
+
+		ResponseOutputStream out = new ResponseOutputStream(response, 4);
+		CompletableFuture<Void> write = CompletableFuture.runAsync(() -> out.write(new byte[4], 0, 4));
+		Thread.sleep(200);
+		assertFalse("The write should block while the queue is full", write.isDone());
+
+		queueFull.set(false);
+		drainHandler.get().handle(null);
+		write.get(5, TimeUnit.SECONDS);
+		verify(response, times(1)).write(any(Buffer.class));
+		assertTrue(out.isCommitted());
+	}
+
+	@Test(expected = UncheckedIOException.class)
+	public void testClosedConnection() {
+		HttpServerResponse response = mock(HttpServerResponse.class);
+		when(response.writeQueueFull()).thenReturn(true);
+		when(response.closed()).thenReturn(true);
+
+		ResponseOutputStream out = new ResponseOutputStream(response, 4);
+		out.write(new byte[4], 0, 4);
+	}
+}
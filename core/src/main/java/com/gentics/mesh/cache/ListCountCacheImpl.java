@@ -0,0 +1,109 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+
+import java.time.temporal.ChronoUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * LRU cache for the total counts of paged lists. The counts depend on the published or draft contents of the nodes and their languages. Node events
+ * (create, delete, move, publish, unpublish and content create/delete), branch changes and permission changes on project elements will thus invalidate the
+ * counts of the affected project. Other permission changes (e.g. role assignments) invalidate all counts. Counts which are affected by other changes
+ * expire after a few minutes.
+ */
+@Singleton
+public class ListCountCacheImpl extends AbstractMeshCache<String, Long> implements ListCountCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ListCountCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		NODE_CREATED,
+		NODE_DELETED,
+		NODE_MOVED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		BRANCH_MIGRATION_FINISHED,
+		ROLE_PERMISSIONS_CHANGED,
+		ROLE_DELETED,
+		GROUP_DELETED,
+		GROUP_ROLE_ASSIGNED,
+		GROUP_ROLE_UNASSIGNED,
+		GROUP_USER_ASSIGNED,
+		GROUP_USER_UNASSIGNED };
+
+	@Inject
+	public ListCountCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getCountCacheSize());
+	}
+
+	private static EventAwareCache<String, Long> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, Long>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				String projectUuid = getProjectUuid(event);
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing counts of project {" + projectUuid + "} due to received event from {" + event.address() + "}");
+				}
+				if (projectUuid == null) {
+					cache.invalidate();
+				} else {
+					String prefix = projectUuid + ":";
+					cache.invalidate((key, count) -> key.startsWith(prefix));
+				}
+			})
+			.expireAfter(5, ChronoUnit.MINUTES)
+			.name("list_count")
+			.maxSize(config.getCountCacheSize())
+			.build();
+	}
+
+	private static String getProjectUuid(Message<JsonObject> event) {
+		JsonObject body = event.body();
+		if (body == null) {
+			return null;
+		}
+		JsonObject project = body.getJsonObject("project");
+		return project == null ? null : project.getString("uuid");
+	}
+
+	@Override
+	public void store(String key, long count) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(key, count);
+	}
+
+}
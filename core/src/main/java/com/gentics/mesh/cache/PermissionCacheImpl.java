@@ -3,6 +3,13 @@ package com.gentics.mesh.cache;
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -10,79 +17,138 @@ import javax.inject.Singleton;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
 
+import dagger.Lazy;
+import io.micrometer.core.instrument.Counter;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
- * Central LRU permission cache which is used to quickly lookup cached permissions.
+ * Central LRU permission cache which is used to quickly lookup cached permissions. The cache holds one entry per element which contains the granted and
+ * denied permissions of the users. The size of the cache is limited by the total amount of cached user and element pairs.
+ *
+ * Permission changes only invalidate the affected elements or users. Other instances in the cluster are informed via the
+ * {@link com.gentics.mesh.core.rest.MeshEvent#CLEAR_PERMISSION_STORE} event which carries the ids of the affected elements and users. A clear event
+ * without body will invalidate the whole cache.
  */
 @Singleton
-public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> implements PermissionCache {
+public class PermissionCacheImpl extends AbstractMeshCache<Object, PermissionCacheEntry> implements PermissionCache {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionCacheImpl.class);
 
+	private static final String ORIGIN_KEY = "origin";
+
+	private static final String ELEMENT_IDS_KEY = "elementIds";
+
+	private static final String USER_IDS_KEY = "userIds";
+
 	private final Vertx vertx;
 
 	private final MeshOptions options;
 
+	private final Counter hitCounter;
+
+	private final Counter missCounter;
+
+	private final Set<Object> pendingElementIds = ConcurrentHashMap.newKeySet();
+
+	private final Set<Object> pendingUserIds = ConcurrentHashMap.newKeySet();
+
+	private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
 	private static final long CACHE_SIZE = 100_000;
 
 	@Inject
-	public PermissionCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory), registry, CACHE_SIZE);
+	public PermissionCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options,
+		MetricsService metricsService, Lazy<Database> db) {
+		super(createCache(factory, options, db), registry, CACHE_SIZE);
 		this.vertx = vertx;
 		this.options = options;
+		this.hitCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.HIT, "permission"));
+		this.missCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.MISS, "permission"));
 	}
 
-	private static EventAwareCache<String, Boolean> createCache(EventAwareCacheFactory factory) {
-		return factory.<String, Boolean>builder()
+	private static EventAwareCache<Object, PermissionCacheEntry> createCache(EventAwareCacheFactory factory, MeshOptions options, Lazy<Database> db) {
+		return factory.<Object, PermissionCacheEntry>builder()
 			.events(CLEAR_PERMISSION_STORE)
 			.action((event, cache) -> {
 				if (log.isDebugEnabled()) {
 					log.debug("Clearing permission store due to received event from {" + event.address() + "}");
 				}
-				cache.invalidate();
+				handleClearEvent(event, cache, options, db.get());
 			})
 			.expireAfter(30, ChronoUnit.MINUTES)
-			.maxSize(CACHE_SIZE)
-			.name("permission")
+			// Every cached user counts, so that elements which are accessed by many users can't exceed the limit
+			.maxWeight(CACHE_SIZE, (elementId, entry) -> Math.max(1, entry.size()))
+			.name("permission_element")
 			.build();
 	}
 
-	/**
-	 * Check whether the granting user permission was stored in the cache.
-	 * 
-	 * @param userId
-	 *            Vertex id of the user
-	 * @param permission
-	 *            Permission to check against
-	 * @param elementId
-	 *            Vertex id of the element to which permissions should be checked
-	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
-	 */
-	public boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = cache.get(key);
-		return cachedPerm != null && cachedPerm;
+	private static void handleClearEvent(Message<JsonObject> event, EventAwareCache<Object, PermissionCacheEntry> cache, MeshOptions options,
+		Database db) {
+		JsonObject body = event.body();
+		if (body == null) {
+			cache.invalidate();
+			return;
+		}
+		// The local cache has already been invalidated when the event was published
+		if (Objects.equals(options.getNodeName(), body.getString(ORIGIN_KEY))) {
+			return;
+		}
+		for (Object elementId : toIds(body.getJsonArray(ELEMENT_IDS_KEY), db)) {
+			cache.invalidate(elementId);
+		}
+		Set<Object> userIds = toIds(body.getJsonArray(USER_IDS_KEY), db);
+		if (!userIds.isEmpty()) {
+			cache.invalidate((elementId, entry) -> entry.containsAnyUser(userIds));
+		}
 	}
 
 	/**
-	 * Create the cache key.
-	 * 
-	 * @param userId
-	 * @param permission
-	 * @param elementId
+	 * Convert the ids of the event into the native ids of the database.
+	 *
+	 * @param array
+	 * @param db
 	 * @return
 	 */
-	private String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	private static Set<Object> toIds(JsonArray array, Database db) {
+		Set<Object> ids = new HashSet<>();
+		if (array != null) {
+			for (Object value : array) {
+				ids.add(db.parseElementId(String.valueOf(value)));
+			}
+		}
+		return ids;
+	}
+
+	@Override
+	public Boolean getPermission(Object userId, GraphPermission permission, Object elementId) {
+		if (isDisabled()) {
+			return null;
+		}
+		PermissionCacheEntry entry = cache.get(elementId);
+		Boolean permitted = entry == null ? null : entry.get(userId, permission);
+		// The element cache also counts entries which don't contain the user or permission as hit
+		if (options.getMonitoringOptions().isEnabled()) {
+			if (permitted == null) {
+				missCounter.increment();
+			} else {
+				hitCounter.increment();
+			}
+		}
+		return permitted;
 	}
 
 	/**
 	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 *
 	 * @param notify
 	 */
 	@Override
@@ -104,17 +170,86 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 		clear(true);
 	}
 
+	@Override
+	public void invalidateElement(Object elementId) {
+		cache.invalidate(elementId);
+		if (options.getClusterOptions().isEnabled()) {
+			pendingElementIds.add(elementId);
+			scheduleFlush();
+		}
+	}
+
+	@Override
+	public void invalidateUsers(Collection<?> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		Set<Object> ids = new HashSet<>(userIds);
+		cache.invalidate((elementId, entry) -> entry.containsAnyUser(ids));
+		if (options.getClusterOptions().isEnabled()) {
+			pendingUserIds.addAll(ids);
+			scheduleFlush();
+		}
+	}
+
 	/**
-	 * Store a granting permission in the cache.
-	 * 
+	 * Schedule the publishing of the pending invalidations. Invalidations which happen in quick succession (e.g. recursive permission changes) will be
+	 * coalesced into a single event.
+	 */
+	private void scheduleFlush() {
+		if (flushScheduled.compareAndSet(false, true)) {
+			vertx.runOnContext(rh -> flush());
+		}
+	}
+
+	private void flush() {
+		flushScheduled.set(false);
+		JsonArray elementIds = drain(pendingElementIds);
+		JsonArray userIds = drain(pendingUserIds);
+		if (elementIds.isEmpty() && userIds.isEmpty()) {
+			return;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Publishing invalidation of {" + elementIds.size() + "} elements and {" + userIds.size() + "} users");
+		}
+		JsonObject body = new JsonObject()
+			.put(ORIGIN_KEY, options.getNodeName())
+			.put(ELEMENT_IDS_KEY, elementIds)
+			.put(USER_IDS_KEY, userIds);
+		vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, body);
+	}
+
+	private static JsonArray drain(Set<Object> pending) {
+		JsonArray array = new JsonArray();
+		Iterator<Object> it = pending.iterator();
+		while (it.hasNext()) {
+			array.add(String.valueOf(it.next()));
+			it.remove();
+		}
+		return array;
+	}
+
+	/**
+	 * Store a granting or denied permission in the cache.
+	 *
 	 * @param userId
-	 *            User which currently has roles which grant him the permission on the element
+	 *            User which currently has roles which grant or deny him the permission on the element
 	 * @param permission
-	 *            Permission which is granted
+	 *            Permission which is checked
 	 * @param elementId
-	 *            Id of the element to which a permission is granted
+	 *            Id of the element to which the permission applies
+	 * @param granted
+	 *            Whether the permission is granted
 	 */
-	public void store(Object userId, GraphPermission permission, Object elementId) {
-		cache.put(createCacheKey(userId, permission, elementId), true);
+	@Override
+	public void store(Object userId, GraphPermission permission, Object elementId, boolean granted) {
+		if (isDisabled()) {
+			return;
+		}
+		PermissionCacheEntry entry = cache.get(elementId, id -> new PermissionCacheEntry());
+		if (entry.store(userId, permission, granted)) {
+			// Add the entry again so that the weight of the entry includes the new user
+			cache.put(elementId, entry);
+		}
 	}
 }
@@ -0,0 +1,46 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.INDEX_CLEAR_REQUEST;
+import static com.gentics.mesh.core.rest.MeshEvent.REPAIR_FINISHED;
+
+import java.time.temporal.ChronoUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+/**
+ * LRU cache for the branch independent parts of node search documents. Updates of the contributing elements do not need to invalidate the cache since
+ * they change the cache key. The cache will only be cleared when the graph has been replaced (e.g. after a restore) since the element versions may be
+ * reused in this case.
+ */
+@Singleton
+public class SearchDocumentCacheImpl extends AbstractMeshCache<String, SearchDocumentCacheEntry> implements SearchDocumentCache {
+
+	private static final MeshEvent EVENTS[] = {
+		INDEX_CLEAR_REQUEST,
+		GRAPH_RESTORE_FINISHED,
+		GRAPH_IMPORT_FINISHED,
+		REPAIR_FINISHED };
+
+	@Inject
+	public SearchDocumentCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getSearchDocumentCacheSize());
+	}
+
+	private static EventAwareCache<String, SearchDocumentCacheEntry> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, SearchDocumentCacheEntry>builder()
+			.events(EVENTS)
+			.expireAfter(30, ChronoUnit.MINUTES)
+			.name("search_document")
+			.maxSize(config.getSearchDocumentCacheSize())
+			.build();
+	}
+
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.changelog.highlevel.change.BuildPermissionIndex;
 import com.gentics.mesh.changelog.highlevel.change.ExtractPlainText;
 import com.gentics.mesh.changelog.highlevel.change.FixNodeVersionOrder;
 import com.gentics.mesh.changelog.highlevel.change.RestructureWebrootIndex;
@@ -26,6 +27,9 @@ public class HighLevelChangesList {
 	@Inject
 	public FixNodeVersionOrder fixNodeVersionOrder;
 
+	@Inject
+	public BuildPermissionIndex buildPermissionIndex;
+
 	@Inject
 	public HighLevelChangesList() {
 	}
@@ -34,7 +38,8 @@ public class HighLevelChangesList {
 		return Arrays.asList(
 			restructureWebroot,
 			plainText,
-			fixNodeVersionOrder
+			fixNodeVersionOrder,
+			buildPermissionIndex
 		// ADD NEW CHANGES HERE!
 		);
 	}
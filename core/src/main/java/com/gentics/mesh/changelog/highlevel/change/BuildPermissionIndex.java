@@ -0,0 +1,76 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.core.data.generic.PermissionIndex;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.syncleus.ferma.FramedTransactionalGraph;
+import com.tinkerpop.blueprints.Vertex;
+
+import dagger.Lazy;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Change which builds the {@link PermissionIndex} bitsets for all elements which have role permissions assigned.
+ */
+@Singleton
+public class BuildPermissionIndex extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(BuildPermissionIndex.class);
+
+	private final Lazy<PermissionIndex> permissionIndex;
+
+	@Inject
+	public BuildPermissionIndex(Lazy<PermissionIndex> permissionIndex) {
+		this.permissionIndex = permissionIndex;
+	}
+
+	@Override
+	public String getUuid() {
+		return "5D1E0A7C3B9F4E21A07C3B9F4E61A0F2";
+	}
+
+	@Override
+	public String getName() {
+		return "Build Permission Index";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Builds the role bitset permission index from the role uuid permission properties.";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		FramedTransactionalGraph graph = Tx.getActive().getGraph();
+		PermissionIndex index = permissionIndex.get();
+		long count = 0;
+		for (Vertex vertex : graph.getVertices()) {
+			if (!hasPermissions(vertex)) {
+				continue;
+			}
+			index.rebuild(vertex);
+			count++;
+			if (count % 1000 == 0) {
+				log.info("Indexed permissions of {" + count + "} elements.");
+				graph.commit();
+			}
+		}
+		log.info("Done indexing permissions of {" + count + "} elements.");
+	}
+
+	private boolean hasPermissions(Vertex vertex) {
+		for (GraphPermission permission : GraphPermission.values()) {
+			if (vertex.getProperty(permission.propertyKey()) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
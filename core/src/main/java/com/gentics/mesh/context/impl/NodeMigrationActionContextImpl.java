@@ -1,6 +1,7 @@
 package com.gentics.mesh.context.impl;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -282,6 +283,16 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 				return true;
 			}
 
+			@Override
+			public Set<Object> filterPermittedIds(Collection<?> elementIds, GraphPermission permission) {
+				return new HashSet<>(elementIds);
+			}
+
+			@Override
+			public Set<Object> filterReadableNodeIds(Collection<?> nodeIds, String branchUuid) {
+				return new HashSet<>(nodeIds);
+			}
+
 			@Override
 			public boolean hasPermission(MeshVertex element, GraphPermission permission) {
 				return true;
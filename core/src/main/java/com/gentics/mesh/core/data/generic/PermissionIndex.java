@@ -0,0 +1,176 @@
+package com.gentics.mesh.core.data.generic;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.tinkerpop.blueprints.Element;
+import com.tinkerpop.blueprints.Vertex;
+
+/**
+ * Compact permission index which maps every role to a small integer and stores the granting roles of an element as a bitset per permission. A
+ * permission check can thus be reduced to a single intersection of the role mask of the user and the mask of the element.
+ *
+ * The index is derived from the role uuid set properties (see {@link GraphPermission#propertyKey()}) and can always be rebuilt from them. Elements
+ * which have not yet been indexed have no bitset property and need to be checked via the role uuid sets.
+ */
+@Singleton
+public class PermissionIndex {
+
+	/**
+	 * Property of the role vertex which stores the bit that has been assigned to the role.
+	 */
+	public static final String ROLE_BIT_PROPERTY_KEY = "permissionBit";
+
+	/**
+	 * Property of the role root vertex which stores the next free role bit.
+	 */
+	public static final String NEXT_ROLE_BIT_PROPERTY_KEY = "nextPermissionBit";
+
+	private final BootstrapInitializer boot;
+
+	@Inject
+	public PermissionIndex(BootstrapInitializer boot) {
+		this.boot = boot;
+	}
+
+	/**
+	 * Return the bit which was assigned to the role.
+	 *
+	 * @param role
+	 * @return Assigned bit or null if the role has not yet been added to the index
+	 */
+	public Integer getRoleBit(Vertex role) {
+		return role.getProperty(ROLE_BIT_PROPERTY_KEY);
+	}
+
+	/**
+	 * Return the bit of the role and assign a new one if the role has not yet been added to the index. The counter is stored in the role root vertex so
+	 * that concurrent assignments will conflict and be retried by the transaction.
+	 *
+	 * @param role
+	 * @return
+	 */
+	public int getOrCreateRoleBit(Vertex role) {
+		Integer bit = getRoleBit(role);
+		if (bit == null) {
+			Vertex root = boot.roleRoot().getVertex();
+			Integer next = root.getProperty(NEXT_ROLE_BIT_PROPERTY_KEY);
+			bit = next == null ? 0 : next;
+			root.setProperty(NEXT_ROLE_BIT_PROPERTY_KEY, bit + 1);
+			role.setProperty(ROLE_BIT_PROPERTY_KEY, bit);
+		}
+		return bit;
+	}
+
+	/**
+	 * Create the role mask for the given roles. Roles which have not yet been added to the index are skipped since they can't be referenced by any
+	 * indexed element.
+	 *
+	 * @param roles
+	 * @return
+	 */
+	public BitSet getRoleMask(Iterable<Vertex> roles) {
+		BitSet mask = new BitSet();
+		for (Vertex role : roles) {
+			Integer bit = getRoleBit(role);
+			if (bit != null) {
+				mask.set(bit);
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Return the role mask of the element for the given permission.
+	 *
+	 * @param element
+	 * @param permission
+	 * @return Mask or null if the element has not yet been indexed for the permission
+	 */
+	public BitSet getElementMask(Element element, GraphPermission permission) {
+		byte[] bits = element.getProperty(permission.bitsKey());
+		return bits == null ? null : BitSet.valueOf(bits);
+	}
+
+	/**
+	 * Update the index after the role has been granted the permission on the element.
+	 *
+	 * @param element
+	 * @param role
+	 * @param permission
+	 */
+	public void grant(Vertex element, Vertex role, GraphPermission permission) {
+		BitSet mask = getElementMask(element, permission);
+		if (mask == null) {
+			rebuild(element, permission);
+		} else {
+			mask.set(getOrCreateRoleBit(role));
+			setElementMask(element, permission, mask);
+		}
+	}
+
+	/**
+	 * Update the index after the permission of the role has been revoked on the element.
+	 *
+	 * @param element
+	 * @param role
+	 * @param permission
+	 */
+	public void revoke(Vertex element, Vertex role, GraphPermission permission) {
+		BitSet mask = getElementMask(element, permission);
+		if (mask == null) {
+			rebuild(element, permission);
+		} else {
+			Integer bit = getRoleBit(role);
+			if (bit != null) {
+				mask.clear(bit);
+				setElementMask(element, permission, mask);
+			}
+		}
+	}
+
+	/**
+	 * Rebuild the index of the element for all permissions.
+	 *
+	 * @param element
+	 */
+	public void rebuild(Vertex element) {
+		for (GraphPermission permission : GraphPermission.values()) {
+			rebuild(element, permission);
+		}
+	}
+
+	/**
+	 * Rebuild the index of the element for the permission from the role uuid set property.
+	 *
+	 * @param element
+	 * @param permission
+	 */
+	public void rebuild(Vertex element, GraphPermission permission) {
+		Set<String> roleUuids = element.getProperty(permission.propertyKey());
+		if (roleUuids == null) {
+			element.removeProperty(permission.bitsKey());
+			return;
+		}
+		BitSet mask = new BitSet();
+		for (String roleUuid : roleUuids) {
+			Role role = boot.roleRoot().findByUuid(roleUuid);
+			// Skip roles which have been deleted in the meantime
+			if (role != null) {
+				mask.set(getOrCreateRoleBit(role.getVertex()));
+			}
+		}
+		setElementMask(element, permission, mask);
+	}
+
+	private void setElementMask(Element element, GraphPermission permission, BitSet mask) {
+		element.setProperty(permission.bitsKey(), mask.toByteArray());
+	}
+
+}
@@ -14,6 +14,8 @@ import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -88,6 +90,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		mesh().permissionCache().invalidateUser(user.id());
 	}
 
 	@Override
@@ -96,7 +99,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUser(user.id());
 	}
 
 	@Override
@@ -109,10 +112,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		setUniqueLinkInTo(role, HAS_ROLE);
 
 		// Add shortcut edges from role to users of this group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
+			userIds.add(user.id());
 		}
-
+		mesh().permissionCache().invalidateUsers(userIds);
 	}
 
 	@Override
@@ -120,10 +125,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		unlinkIn(role, HAS_ROLE);
 
 		// Update the shortcut edges since the role does no longer belong to the group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
+			userIds.add(user.id());
 		}
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(userIds);
 	}
 
 	@Override
@@ -188,13 +195,15 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		Set<? extends User> affectedUsers = getUsers().stream().collect(Collectors.toSet());
 		getElement().remove();
+		List<Object> userIds = new ArrayList<>();
 		for (User user : affectedUsers) {
 			user.updateShortcutEdges();
 			bac.add(user.onUpdated());
 			bac.inc();
+			userIds.add(user.id());
 		}
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(userIds);
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.generic.PermissionIndex;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -105,14 +106,22 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void grantPermissions(MeshVertex vertex, GraphPermission... permissions) {
+		PermissionIndex index = mesh().permissionIndex();
+		boolean permissionGranted = false;
 		for (GraphPermission permission : permissions) {
 			Set<String> allowedRoles = vertex.property(permission.propertyKey());
 			if (allowedRoles == null) {
 				vertex.property(permission.propertyKey(), Collections.singleton(getUuid()));
+				permissionGranted = true;
 			} else {
-				allowedRoles.add(getUuid());
+				permissionGranted = allowedRoles.add(getUuid()) || permissionGranted;
 				vertex.property(permission.propertyKey(), allowedRoles);
 			}
+			index.grant(vertex.getVertex(), getVertex(), permission);
+		}
+
+		if (permissionGranted) {
+			mesh().permissionCache().invalidateElement(vertex.id());
 		}
 	}
 
@@ -144,17 +153,19 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void revokePermissions(MeshVertex vertex, GraphPermission... permissions) {
+		PermissionIndex index = mesh().permissionIndex();
 		boolean permissionRevoked = false;
 		for (GraphPermission permission : permissions) {
 			Set<String> allowedRoles = vertex.property(permission.propertyKey());
 			if (allowedRoles != null) {
 				permissionRevoked = allowedRoles.remove(getUuid()) || permissionRevoked;
 				vertex.property(permission.propertyKey(), allowedRoles);
+				index.revoke(vertex.getVertex(), getVertex(), permission);
 			}
 		}
 
 		if (permissionRevoked) {
-			mesh().permissionCache().clear();
+			mesh().permissionCache().invalidateElement(vertex.id());
 		}
 	}
 
@@ -29,6 +29,7 @@ import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.TagFamilyRoot;
@@ -63,7 +64,7 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 		// TODO why was the branch key omitted? TagEdgeImpl.BRANCH_UUID_KEY
 		index.createIndex(edgeIndex(HAS_TAG));
 		index.createIndex(edgeIndex(HAS_TAG));
-		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -108,8 +109,19 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 
 	@Override
 	public Page<? extends Tag> getTags(MeshAuthUser user, PagingParameters pagingInfo) {
-		VertexTraversal<?, ?, ?> traversal = out(HAS_TAG).has(TagImpl.class);
-		return new DynamicTransformablePageImpl<Tag>(user, traversal, pagingInfo, READ_PERM, TagImpl.class);
+		if (pagingInfo.getAfter() == null) {
+			VertexTraversal<?, ?, ?> traversal = out(HAS_TAG).has(TagImpl.class);
+			return new DynamicTransformablePageImpl<Tag>(user, traversal, pagingInfo, READ_PERM, TagImpl.class);
+		}
+		return new DynamicTransformablePageImpl<Tag>(user, this, HAS_TAG, pagingInfo, READ_PERM, TagImpl.class);
+	}
+
+	@Override
+	public TransformablePage<? extends Tag> findAll(InternalActionContext ac, PagingParameters pagingInfo) {
+		if (pagingInfo.getAfter() == null) {
+			return TagFamily.super.findAll(ac, pagingInfo);
+		}
+		return new DynamicTransformablePageImpl<Tag>(ac.getUser(), this, HAS_TAG, pagingInfo, READ_PERM, TagImpl.class);
 	}
 
 	@Override
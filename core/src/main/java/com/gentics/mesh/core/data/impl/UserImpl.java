@@ -18,6 +18,11 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
@@ -44,6 +49,7 @@ import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.generic.PermissionIndex;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.page.Page;
@@ -68,7 +74,6 @@ import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.value.FieldsSet;
 import com.gentics.mesh.util.ETag;
-import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
@@ -327,38 +332,71 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
+		return hasPermissionForId(elementId, permission, new UserRoles());
+	}
+
+	@Override
+	public Set<Object> filterPermittedIds(Collection<?> elementIds, GraphPermission permission) {
+		// The roles are loaded once and reused for the whole batch
+		UserRoles roles = new UserRoles();
+		Set<Object> permitted = new HashSet<>();
+		for (Object elementId : elementIds) {
+			if (hasPermissionForId(elementId, permission, roles)) {
+				permitted.add(elementId);
+			}
+		}
+		return permitted;
+	}
+
+	@Override
+	public Set<Object> filterReadableNodeIds(Collection<?> nodeIds, String branchUuid) {
+		UserRoles roles = new UserRoles();
+		Set<Object> readable = new HashSet<>();
+		for (Object nodeId : nodeIds) {
+			if (hasPermissionForId(nodeId, READ_PERM, roles)) {
+				readable.add(nodeId);
+			} else if (branchUuid == null || GraphFieldContainerEdgeImpl.matchesBranchAndType(nodeId, branchUuid, ContainerType.PUBLISHED)) {
+				// Check whether the node is published. In this case we need to check the read publish perm.
+				if (hasPermissionForId(nodeId, READ_PUBLISHED_PERM, roles)) {
+					readable.add(nodeId);
+				}
+			}
+		}
+		return readable;
+	}
+
+	private boolean hasPermissionForId(Object elementId, GraphPermission permission, UserRoles roles) {
 		PermissionCache permissionCache = mesh().permissionCache();
-		if (permissionCache.hasPermission(id(), permission, elementId)) {
-			return true;
+		Boolean cachedPermission = permissionCache.getPermission(id(), permission, elementId);
+		if (cachedPermission != null) {
+			return cachedPermission;
+		}
+		Vertex vertex = getGraph().getVertex(elementId);
+		PermissionIndex index = mesh().permissionIndex();
+		BitSet elementMask = index.getElementMask(vertex, permission);
+		boolean hasPermission = false;
+		if (elementMask != null) {
+			// Indexed elements can be checked with a single intersection of the role masks
+			hasPermission = elementMask.intersects(roles.getMask());
 		} else {
-			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
-			Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), this.id());
-			Vertex vertex = graph.getVertex(elementId);
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-
-				Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
-				boolean hasPermission = allowedRoles != null && allowedRoles.contains(role.<String>getProperty("uuid"));
-				if (hasPermission) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					permissionCache.store(id(), permission, elementId);
-					return true;
+			Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
+			if (allowedRoles != null) {
+				for (String roleUuid : roles.getUuids()) {
+					if (allowedRoles.contains(roleUuid)) {
+						hasPermission = true;
+						break;
+					}
 				}
 			}
-			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
-			} else {
-				return false;
-			}
 		}
-
+		// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+		if (!hasPermission && permission == READ_PUBLISHED_PERM) {
+			hasPermission = hasPermissionForId(elementId, READ_PERM, roles);
+		}
+		// Cached permissions are invalidated when the permissions of the element
+		// or the role assignments of the user change.
+		permissionCache.store(id(), permission, elementId, hasPermission);
+		return hasPermission;
 	}
 
 	@Override
@@ -512,6 +550,8 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		for (GraphPermission perm : GraphPermission.values()) {
 			String key = perm.propertyKey();
 			targetNode.property(key, sourceNode.property(key));
+			String bitsKey = perm.bitsKey();
+			targetNode.property(bitsKey, sourceNode.property(bitsKey));
 		}
 		return this;
 	}
@@ -528,9 +568,10 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// }
 		// outE(HAS_USER).removeAll();
 		bac.add(onDeleted());
+		Object userId = id();
 		getElement().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUser(userId);
 	}
 
 	/**
@@ -687,4 +728,47 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		return reframeExplicit(MeshAuthUserImpl.class);
 	}
 
+
+	/**
+	 * Lazily loaded roles of the user which can be reused for multiple permission checks.
+	 */
+	private class UserRoles {
+
+		private List<Vertex> roles;
+
+		private BitSet mask;
+
+		private Set<String> uuids;
+
+		private List<Vertex> getRoles() {
+			if (roles == null) {
+				// Find all roles that are assigned to the user by checking the
+				// shortcut edge from the index
+				String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
+				roles = new ArrayList<>();
+				for (Edge roleEdge : getGraph().getEdges(idxKey.toLowerCase(), id())) {
+					roles.add(roleEdge.getVertex(Direction.IN));
+				}
+			}
+			return roles;
+		}
+
+		BitSet getMask() {
+			if (mask == null) {
+				mask = mesh().permissionIndex().getRoleMask(getRoles());
+			}
+			return mask;
+		}
+
+		Set<String> getUuids() {
+			if (uuids == null) {
+				uuids = new HashSet<>();
+				for (Vertex role : getRoles()) {
+					uuids.add(role.getProperty("uuid"));
+				}
+			}
+			return uuids;
+		}
+	}
+
 }
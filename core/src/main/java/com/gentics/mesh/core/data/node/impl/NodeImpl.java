@@ -57,6 +57,7 @@ import org.apache.commons.lang3.NotImplementedException;
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.cache.ListCountCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -162,6 +163,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Postfix of the ordered index which is used to iterate over the nodes of a project in the order of their uuids.
+	 */
+	public static final String PROJECT_KEYSET_INDEX_POSTFIX = "project_keyset";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createType(vertexType(NodeImpl.class, MeshVertexImpl.class)
 			.withField(PARENTS_KEY_PROPERTY, STRING_SET)
@@ -182,10 +188,21 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			.withField("uuid", STRING)
 			.withField(PROJECT_KEY_PROPERTY, STRING));
 
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(PROJECT_KEYSET_INDEX_POSTFIX)
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING)
+			.ordered());
+
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("schema")
 			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING));
 
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix("schema_project")
+			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING)
+			.withField(PROJECT_KEY_PROPERTY, STRING));
+
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("parents")
 			.withField(PARENTS_KEY_PROPERTY, STRING_SET));
@@ -547,11 +564,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public Stream<Node> getChildrenStream(InternalActionContext ac) {
 		MeshAuthUser user = ac.getUser();
-		return toStream(getUnframedChildren(ac.getBranch().getUuid()))
-			.filter(node -> {
-				Object id = node.getId();
-				return user.hasPermissionForId(id, READ_PERM) || user.hasPermissionForId(id, READ_PUBLISHED_PERM);
-			}).map(node -> graph.frameElementExplicit(node, NodeImpl.class));
+		return user.filterReadableNodes(toStream(getUnframedChildren(ac.getBranch().getUuid())), Vertex::getId, null)
+			.map(node -> graph.frameElementExplicit(node, NodeImpl.class));
 	}
 
 	@Override
@@ -1567,7 +1581,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public TransformablePage<? extends Node> getChildren(InternalActionContext ac, List<String> languageTags, String branchUuid, ContainerType type,
 		PagingParameters pagingInfo) {
-		return new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo);
+		DynamicTransformableStreamPageImpl<Node> page = new DynamicTransformableStreamPageImpl<>(
+			getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo);
+		String list = "children-" + getUuid() + "-" + branchUuid + "-" + type + "-" + languageTags;
+		page.setCountCache(mesh().listCountCache(), ListCountCache.createKey(getProject().getUuid(), ac.getUser().getUuid(), list));
+		return page;
 	}
 
 	@Override
@@ -6,6 +6,7 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLI
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE_ROOT;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PROJECT_KEY_PROPERTY;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.SCHEMA_CONTAINER_KEY_PROPERTY;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
@@ -16,6 +17,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -26,6 +28,7 @@ import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.cache.ListCountCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -40,6 +43,7 @@ import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.data.page.PageCursor;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -84,7 +88,18 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 	@Override
 	public TransformablePage<? extends Node> findAll(InternalActionContext ac, PagingParameters pagingInfo) {
 		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
-		return new DynamicTransformableStreamPageImpl<>(findAllStream(ac, type), pagingInfo);
+		String projectUuid = ac.getProject().getUuid();
+		DynamicTransformableStreamPageImpl<Node> page;
+		if (pagingInfo.getAfter() == null) {
+			page = new DynamicTransformableStreamPageImpl<>(findAllStream(ac, findAll(projectUuid), type), pagingInfo);
+		} else {
+			// Use the ordered index so that the page can be continued via the cursor
+			Stream<Vertex> nodes = findAllAfter(projectUuid, PageCursor.decode(pagingInfo.getAfter()));
+			page = new DynamicTransformableStreamPageImpl<>(findAllStream(ac, nodes, type), pagingInfo, Node::getUuid);
+		}
+		String list = "nodes-" + ac.getBranch().getUuid() + "-" + type;
+		page.setCountCache(mesh().listCountCache(), ListCountCache.createKey(projectUuid, ac.getUser().getUuid(), list));
+		return page;
 	}
 
 	@Override
@@ -102,20 +117,36 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		MeshAuthUser user = ac.getUser();
 		String branchUuid = ac.getBranch().getUuid();
 
-		return findAll(ac.getProject().getUuid())
-			.filter(item -> {
-				boolean hasRead = user.hasPermissionForId(item.getId(), READ_PERM);
-				if (hasRead) {
-					return true;
-				} else {
-					// Check whether the node is published. In this case we need to check the read publish perm.
-					boolean isPublishedForBranch = GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, PUBLISHED);
-					if (isPublishedForBranch) {
-						return user.hasPermissionForId(item.getId(), READ_PUBLISHED_PERM);
-					}
-				}
-				return false;
-			})
+		// Nodes which are published in the branch are also readable with the read publish perm.
+		return user.filterReadableNodes(findAll(ac.getProject().getUuid()), Vertex::getId, branchUuid)
+			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
+	}
+
+	@Override
+	public Stream<? extends Node> findByUuidsStream(InternalActionContext ac, Collection<String> uuids) {
+		String projectUuid = ac.getProject().getUuid();
+		Stream<Vertex> nodes = uuids.stream()
+			.distinct()
+			.flatMap(uuid -> toStream(db().getVertices(
+				NodeImpl.class,
+				new String[] { "uuid", PROJECT_KEY_PROPERTY },
+				new Object[] { uuid, projectUuid })));
+		return filterReadable(ac, nodes);
+	}
+
+	@Override
+	public Stream<? extends Node> findBySchemaStream(InternalActionContext ac, String schemaUuid) {
+		Stream<Vertex> nodes = toStream(db().getVertices(
+			NodeImpl.class,
+			new String[] { SCHEMA_CONTAINER_KEY_PROPERTY, PROJECT_KEY_PROPERTY },
+			new Object[] { schemaUuid, ac.getProject().getUuid() }));
+		return filterReadable(ac, nodes);
+	}
+
+	private Stream<? extends Node> filterReadable(InternalActionContext ac, Stream<Vertex> nodes) {
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+		// Nodes which are published in the branch are also readable with the read publish perm.
+		return ac.getUser().filterReadableNodes(nodes, Vertex::getId, ac.getBranch().getUuid())
 			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
 	}
 
@@ -132,30 +163,38 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		));
 	}
 
-	private Stream<? extends Node> findAllStream(InternalActionContext ac, ContainerType type) {
+	/**
+	 * Finds the nodes of a project in the order of their uuids.
+	 * 
+	 * @param projectUuid
+	 * @param afterUuid
+	 *            Uuid of the node after which the iteration should start. The iteration will start with the first node if null.
+	 * @return
+	 */
+	private Stream<Vertex> findAllAfter(String projectUuid, String afterUuid) {
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+		return toStream(db().index().vertexRangeLookup(NodeImpl.class, NodeImpl.PROJECT_KEYSET_INDEX_POSTFIX, projectUuid, afterUuid))
+			.map(id -> graph.getVertex(id));
+	}
+
+	private Stream<? extends Node> findAllStream(InternalActionContext ac, Stream<Vertex> nodes, ContainerType type) {
 		MeshAuthUser user = ac.getUser();
 		FramedTransactionalGraph graph = Tx.get().getGraph();
 
 		Branch branch = ac.getBranch();
 		String branchUuid = branch.getUuid();
 
-		return findAll(ac.getProject().getUuid()).filter(item -> {
+		nodes = nodes.filter(item -> {
 			// Check whether the node has at least one content of the type in the selected branch - Otherwise the node should be skipped
 			return GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, type);
-		}).filter(item -> {
-			boolean hasRead = user.hasPermissionForId(item.getId(), READ_PERM);
-			if (hasRead) {
-				return true;
-			} else if (type == PUBLISHED) {
-				// Check whether the node is published. In this case we need to check the read publish perm.
-				boolean isPublishedForBranch = GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, PUBLISHED);
-				if (isPublishedForBranch) {
-					return user.hasPermissionForId(item.getId(), READ_PUBLISHED_PERM);
-				}
-			}
-			return false;
-		})
-		.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
+		});
+		if (type == PUBLISHED) {
+			// Published nodes are also readable with the read publish perm.
+			nodes = user.filterReadableNodes(nodes, Vertex::getId, branchUuid);
+		} else {
+			nodes = user.filterPermitted(nodes, Vertex::getId, READ_PERM);
+		}
+		return nodes.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
 	}
 
 	@Override
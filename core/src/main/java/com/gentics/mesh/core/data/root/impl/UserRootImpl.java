@@ -25,12 +25,15 @@ import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.impl.MeshAuthUserImpl;
 import com.gentics.mesh.core.data.impl.UserImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.page.TransformablePage;
+import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.root.UserRoot;
 import com.gentics.mesh.core.rest.user.ExpandableNode;
 import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.core.rest.user.UserCreateRequest;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.PagingParameters;
 
 /**
  * @see UserRoot
@@ -45,7 +48,7 @@ public class UserRootImpl extends AbstractRootVertex<User> implements UserRoot {
 	 */
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(UserRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_USER).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_USER).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -58,6 +61,14 @@ public class UserRootImpl extends AbstractRootVertex<User> implements UserRoot {
 		return HAS_USER;
 	}
 
+	@Override
+	public TransformablePage<? extends User> findAll(InternalActionContext ac, PagingParameters pagingInfo) {
+		if (pagingInfo.getAfter() == null) {
+			return super.findAll(ac, pagingInfo);
+		}
+		return new DynamicTransformablePageImpl<>(ac.getUser(), this, HAS_USER, pagingInfo, READ_PERM, UserImpl.class);
+	}
+
 	@Override
 	public void addUser(User user) {
 		addItem(user);
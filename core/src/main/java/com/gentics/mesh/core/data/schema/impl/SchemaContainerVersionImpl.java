@@ -85,8 +85,9 @@ public class SchemaContainerVersionImpl extends
 
 	@Override
 	public TraversalResult<? extends Node> getNodes(String branchUuid, User user, ContainerType type) {
-		return new TraversalResult<>(getSchemaContainer().getNodes().stream()
-			.filter(node -> GraphFieldContainerEdgeImpl.matchesBranchAndType(node.getId(), branchUuid, type) && user.hasPermissionForId(node.getId(), READ_PUBLISHED_PERM)));
+		Stream<? extends Node> nodes = getSchemaContainer().getNodes().stream()
+			.filter(node -> GraphFieldContainerEdgeImpl.matchesBranchAndType(node.getId(), branchUuid, type));
+		return new TraversalResult<>(user.filterPermitted(nodes, node -> node.getId(), READ_PUBLISHED_PERM));
 	}
 
 	@Override
@@ -104,6 +104,7 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		addRuntimeConfigHandler();
 		addShutdownHandler();
 		addCoordinatorHandler();
+		addImageCacheHandler();
 	}
 
 	private void addSecurityLogger() {
@@ -452,4 +453,21 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		updateConfig.handler(rc -> adminHandler.handleUpdateCoordinationConfig(wrap(rc)));
 	}
 
+	private void addImageCacheHandler() {
+		InternalEndpointRoute purgeRoute = createRoute();
+		purgeRoute.path("/imagecache/:sha512sum");
+		purgeRoute.method(DELETE);
+		purgeRoute.setMutating(false);
+		purgeRoute.produces(APPLICATION_JSON);
+		purgeRoute.description("Removes the cached image variants of the binary with the given hashsum from the image cache of this instance.");
+		purgeRoute.addUriParameter("sha512sum", "SHA512 hashsum of the binary.",
+			"ec582eb760034dd91d5fd33656c0b56f082b7365d32e2a139dd9c87ebc192bff3525f32ff4c4137463a31cad020ac19e6e356508db2b90e32d737b6d725e14c1");
+		purgeRoute.exampleResponse(OK, miscExamples.createMessageResponse(), "Image variants have been removed.");
+		purgeRoute.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			String sha512sum = ac.getParameter("sha512sum");
+			adminHandler.handleImageCachePurge(ac, sha512sum);
+		});
+	}
+
 }
@@ -33,6 +33,7 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
+import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.rest.MeshServerInfoModel;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigRequest;
 import com.gentics.mesh.core.rest.admin.cluster.coordinator.CoordinatorConfig;
@@ -85,10 +86,13 @@ public class AdminHandler extends AbstractHandler {
 
 	private final WriteLock writeLock;
 
+	private final ImageManipulator imageManipulator;
+
 	@Inject
 	public AdminHandler(Vertx vertx, Database db, RouterStorage routerStorage, BootstrapInitializer boot, SearchProvider searchProvider,
 		HandlerUtilities utils,
-		MeshOptions options, RouterStorageRegistry routerStorageRegistry, Coordinator coordinator, WriteLock writeLock) {
+		MeshOptions options, RouterStorageRegistry routerStorageRegistry, Coordinator coordinator, WriteLock writeLock,
+		ImageManipulator imageManipulator) {
 		this.vertx = vertx;
 		this.db = db;
 		this.routerStorage = routerStorage;
@@ -99,6 +103,7 @@ public class AdminHandler extends AbstractHandler {
 		this.routerStorageRegistry = routerStorageRegistry;
 		this.coordinator = coordinator;
 		this.writeLock = writeLock;
+		this.imageManipulator = imageManipulator;
 	}
 
 	public void handleMeshStatus(InternalActionContext ac) {
@@ -363,6 +368,23 @@ public class AdminHandler extends AbstractHandler {
 		}
 	}
 
+	/**
+	 * Remove the cached image variants of the binary with the given hashsum.
+	 * 
+	 * @param ac
+	 * @param sha512sum
+	 */
+	public void handleImageCachePurge(InternalActionContext ac, String sha512sum) {
+		boolean admin = db.tx(() -> ac.getUser().hasAdminRole());
+		if (!admin) {
+			ac.fail(error(FORBIDDEN, "error_admin_permission_required"));
+			return;
+		}
+		imageManipulator.purgeCacheFiles(sha512sum)
+			.map(count -> message(ac, "image_cache_purged", String.valueOf(count), sha512sum))
+			.subscribe(model -> ac.send(model, OK), ac::fail);
+	}
+
 	private static CoordinatorMasterResponse toResponse(MasterServer server) {
 		String name = server.getName();
 		String host = server.getHost();
@@ -51,7 +51,7 @@ public class AuthenticationRestHandler extends AbstractHandler {
 	public void handleLogout(InternalActionContext ac) {
 		ac.logout();
 		GenericMessageResponse message = new GenericMessageResponse("OK");
-		ac.send(message.toJson(), OK);
+		ac.send(message, OK);
 	}
 
 	/**
@@ -9,12 +9,15 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.ListCountCache;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
+import com.gentics.mesh.cache.SearchDocumentCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.binary.Binaries;
+import com.gentics.mesh.core.data.generic.PermissionIndex;
 import com.gentics.mesh.core.data.generic.PermissionProperties;
 import com.gentics.mesh.core.data.generic.UserProperties;
 import com.gentics.mesh.core.data.schema.handler.SchemaComparator;
@@ -37,6 +40,9 @@ import com.gentics.mesh.dagger.module.SearchProviderModule;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLQueryCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
+import com.gentics.mesh.graphql.cache.PersistedQueryCache;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.plugin.env.PluginEnvironment;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
@@ -49,6 +55,7 @@ import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.TrackingSearchProvider;
 import com.gentics.mesh.search.index.group.GroupIndexHandler;
+import com.gentics.mesh.search.index.metric.SyncMetersFactory;
 import com.gentics.mesh.search.index.microschema.MicroschemaContainerIndexHandler;
 import com.gentics.mesh.search.index.node.NodeIndexHandler;
 import com.gentics.mesh.search.index.project.ProjectIndexHandler;
@@ -111,6 +118,8 @@ public interface MeshComponent {
 
 	IndexHandlerRegistry indexHandlerRegistry();
 
+	SyncMetersFactory syncMetersFactory();
+
 	LocalBinaryStorage localBinaryStorage();
 
 	ProjectIndexHandler projectIndexHandler();
@@ -147,6 +156,16 @@ public interface MeshComponent {
 
 	PermissionCache permissionCache();
 
+	ListCountCache listCountCache();
+
+	SearchDocumentCache searchDocumentCache();
+
+	GraphQLSchemaCache graphQLSchemaCache();
+
+	GraphQLQueryCache graphQLQueryCache();
+
+	PersistedQueryCache persistedQueryCache();
+
 	Vertx vertx();
 
 	Provider<EventQueueBatch> batchProvider();
@@ -167,6 +186,8 @@ public interface MeshComponent {
 
 	PermissionProperties permissionProperties();
 
+	PermissionIndex permissionIndex();
+
 	WriteLock globalLock();
 
 	RoleCrudHandler roleCrudHandler();
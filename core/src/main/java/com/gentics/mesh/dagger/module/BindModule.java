@@ -4,12 +4,16 @@ import com.gentics.mesh.auth.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.auth.MeshOAuthService;
 import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
+import com.gentics.mesh.cache.ListCountCache;
+import com.gentics.mesh.cache.ListCountCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectBranchNameCacheImpl;
 import com.gentics.mesh.cache.ProjectNameCache;
 import com.gentics.mesh.cache.ProjectNameCacheImpl;
+import com.gentics.mesh.cache.SearchDocumentCache;
+import com.gentics.mesh.cache.SearchDocumentCacheImpl;
 import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cache.WebrootPathCacheImpl;
 import com.gentics.mesh.cli.BootstrapInitializer;
@@ -87,6 +91,12 @@ public abstract class BindModule {
 	@Binds
 	abstract ProjectNameCache bindProjectNameCache(ProjectNameCacheImpl e);
 
+	@Binds
+	abstract ListCountCache bindListCountCache(ListCountCacheImpl e);
+
+	@Binds
+	abstract SearchDocumentCache bindSearchDocumentCache(SearchDocumentCacheImpl e);
+
 	@Binds
 	abstract PluginEnvironment bindPluginEnv(PluginEnvironmentImpl e);
 
@@ -1733,6 +1733,11 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return null;
 	}
 
+	@Override
+	public MeshRequest<GenericMessageResponse> purgeImageCache(String sha512sum) {
+		return null;
+	}
+
 	@Override
 	public MeshRequest<EmptyResponse> ready() {
 		return null;
@@ -0,0 +1,46 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.graphql.cache.GraphQLQueryCache;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class GraphQLQueryCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private GraphQLQueryCache cache() {
+		return mesh().graphQLQueryCache();
+	}
+
+	@Test
+	public void testQueryIsReused() {
+		call(() -> client().graphqlQuery(projectName(), "{ me { username } }"));
+		assertEquals(1, cache().size());
+		call(() -> client().graphqlQuery(projectName(), "{ me { username } }"));
+		assertEquals("The parsed query should have been reused", 1, cache().size());
+		call(() -> client().graphqlQuery(projectName(), "{ me { firstname } }"));
+		assertEquals(2, cache().size());
+	}
+
+	@Test
+	public void testInvalidQueryIsCached() {
+		for (int i = 0; i < 2; i++) {
+			GraphQLResponse response = call(() -> client().graphqlQuery(projectName(), "{ bogus { firstname } }"));
+			assertEquals("The validation errors must also be returned for cached queries", 1, response.getErrors().size());
+		}
+		assertEquals(1, cache().size());
+	}
+}
@@ -0,0 +1,65 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.SchemaUpdateRequest;
+import com.gentics.mesh.core.rest.schema.impl.StringFieldSchemaImpl;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class GraphQLSchemaCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private GraphQLSchemaCache cache() {
+		return mesh().graphQLSchemaCache();
+	}
+
+	@Test
+	public void testSchemaIsReused() {
+		call(() -> client().graphqlQuery(projectName(), "{ me { username } }"));
+		assertEquals(1, cache().size());
+		call(() -> client().graphqlQuery(projectName(), "{ me { username } }"));
+		assertEquals("The schema should have been reused", 1, cache().size());
+	}
+
+	@Test
+	public void testSchemaUpdateInvalidatesCache() {
+		grantAdminRole();
+		call(() -> client().graphqlQuery(projectName(), "{ me { username } }"));
+		assertEquals(1, cache().size());
+
+		// Add a field to the folder schema
+		String schemaUuid = tx(() -> schemaContainer("folder").getUuid());
+		SchemaUpdateRequest request = call(() -> client().findSchemaByUuid(schemaUuid)).toUpdateRequest();
+		request.addField(new StringFieldSchemaImpl().setName("extra"));
+		waitForJob(() -> {
+			waitForEvent(MeshEvent.SCHEMA_UPDATED, () -> {
+				call(() -> client().updateSchema(schemaUuid, request));
+			});
+		});
+		// Event is processed async and thus the cache clear is also done async
+		sleep(100);
+		assertEquals("The cache should have been invalidated.", 0, cache().size());
+
+		// The new field must be part of the rebuilt schema
+		GraphQLResponse response = call(() -> client().graphqlQuery(projectName(),
+			"{ nodes { elements { ... on folder { fields { extra } } } } }"));
+		assertTrue("The query should not fail: " + response.getErrors(), response.getErrors() == null || response.getErrors().isEmpty());
+		assertEquals(1, cache().size());
+	}
+}
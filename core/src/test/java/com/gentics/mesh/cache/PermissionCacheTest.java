@@ -0,0 +1,76 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = PROJECT, startServer = false)
+public class PermissionCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testCacheEntry() {
+		PermissionCacheEntry entry = new PermissionCacheEntry();
+		assertTrue(entry.store("#1:1", READ_PERM, true));
+		assertFalse(entry.store("#1:1", UPDATE_PERM, false));
+		assertEquals(1, entry.size());
+		assertEquals(Boolean.TRUE, entry.get("#1:1", READ_PERM));
+		assertEquals(Boolean.FALSE, entry.get("#1:1", UPDATE_PERM));
+		assertNull(entry.get("#1:2", READ_PERM));
+		assertTrue(entry.containsAnyUser(Collections.singleton("#1:1")));
+		assertFalse(entry.containsAnyUser(Collections.singleton("#1:2")));
+	}
+
+	@Test
+	public void testDeniedPermissions() {
+		try (Tx tx = tx()) {
+			PermissionCache cache = meshDagger().permissionCache();
+			Node node = folder("news");
+			role().revokePermissions(node, UPDATE_PERM);
+			assertNull(cache.getPermission(user().id(), UPDATE_PERM, node.id()));
+
+			// Denied permissions are cached as well
+			assertFalse(user().hasPermission(node, UPDATE_PERM));
+			assertEquals(Boolean.FALSE, cache.getPermission(user().id(), UPDATE_PERM, node.id()));
+			assertTrue(user().hasPermission(node, READ_PERM));
+			assertEquals(Boolean.TRUE, cache.getPermission(user().id(), READ_PERM, node.id()));
+
+			// Granting permissions invalidates the element
+			role().grantPermissions(node, UPDATE_PERM);
+			assertNull(cache.getPermission(user().id(), UPDATE_PERM, node.id()));
+			assertTrue(user().hasPermission(node, UPDATE_PERM));
+		}
+	}
+
+	@Test
+	public void testTargetedInvalidation() {
+		try (Tx tx = tx()) {
+			PermissionCache cache = meshDagger().permissionCache();
+			Node news = folder("news");
+			Node deals = folder("deals");
+			assertTrue(user().hasPermission(news, READ_PERM));
+			assertTrue(user().hasPermission(deals, READ_PERM));
+
+			// Revoking permissions on one element must not affect other elements
+			role().revokePermissions(news, UPDATE_PERM);
+			assertNull(cache.getPermission(user().id(), READ_PERM, news.id()));
+			assertEquals(Boolean.TRUE, cache.getPermission(user().id(), READ_PERM, deals.id()));
+
+			// Invalidating the user removes all entries of the user
+			cache.invalidateUser(user().id());
+			assertNull(cache.getPermission(user().id(), READ_PERM, deals.id()));
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLDataLoaderTest extends AbstractMeshTest {
+
+	@Test
+	public void testBatchedFieldsOfSiblings() {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{ nodes(perPage: 1000) { elements { uuid parent { uuid } breadcrumb { uuid } tags { elements { uuid } } } } }"));
+		assertNull(response.getErrors());
+		JsonArray elements = response.getData().getJsonObject("nodes").getJsonArray("elements");
+		assertTrue("The query should return multiple nodes", elements.size() > 1);
+
+		for (int i = 0; i < elements.size(); i++) {
+			JsonObject element = elements.getJsonObject(i);
+			String uuid = element.getString("uuid");
+			NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+			JsonObject parent = element.getJsonObject("parent");
+			JsonArray breadcrumb = element.getJsonArray("breadcrumb");
+			assertEquals(uuid, breadcrumb.getJsonObject(breadcrumb.size() - 1).getString("uuid"));
+			if (node.getParentNode() == null) {
+				assertNull(parent);
+			} else {
+				assertEquals(node.getParentNode().getUuid(), parent.getString("uuid"));
+				assertEquals(node.getParentNode().getUuid(), breadcrumb.getJsonObject(breadcrumb.size() - 2).getString("uuid"));
+			}
+
+			Set<String> expectedTags = node.getTags().stream().map(tag -> tag.getUuid()).collect(Collectors.toSet());
+			assertEquals("The tags of node {" + uuid + "} do not match", expectedTags, uuids(element.getJsonObject("tags").getJsonArray("elements")));
+		}
+	}
+
+	@Test
+	public void testTagPermissionsOfSiblings() {
+		try (Tx tx = tx()) {
+			role().revokePermissions(tag("red"), GraphPermission.READ_PERM);
+			tx.success();
+		}
+		String redUuid = tx(() -> tag("red").getUuid());
+		String planeUuid = tx(() -> tag("plane").getUuid());
+		String concordeUuid = tx(() -> content("concorde").getUuid());
+
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{ nodes(perPage: 1000) { elements { uuid tags { elements { uuid } } } } }"));
+		assertNull(response.getErrors());
+		JsonArray elements = response.getData().getJsonObject("nodes").getJsonArray("elements");
+		for (int i = 0; i < elements.size(); i++) {
+			JsonObject element = elements.getJsonObject(i);
+			Set<String> tags = uuids(element.getJsonObject("tags").getJsonArray("elements"));
+			assertFalse("The tag without read permission must not be listed", tags.contains(redUuid));
+			if (concordeUuid.equals(element.getString("uuid"))) {
+				assertTrue(tags.contains(planeUuid));
+			}
+		}
+	}
+
+	private Set<String> uuids(JsonArray elements) {
+		Set<String> uuids = new HashSet<>();
+		for (int i = 0; i < elements.size(); i++) {
+			uuids.add(elements.getJsonObject(i).getString("uuid"));
+		}
+		return uuids;
+	}
+}
@@ -1,13 +1,18 @@
 package com.gentics.mesh.core.graphql;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.Test;
 
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
@@ -53,6 +58,55 @@ public class GraphQLEndpointFilterTest extends AbstractMeshTest {
 		assertThat(json).compliesToAssertions("filtering/nodes-de-field-correct-language");
 	}
 
+	@Test
+	public void testUuidFilter() {
+		String concordeUuid = tx(() -> content("concorde").getUuid());
+		String newsUuid = tx(() -> folder("news").getUuid());
+		Set<String> uuids = uuids(String.format("{uuid: {oneOf: [\"%s\", \"%s\", \"%s\"]}}", concordeUuid, newsUuid, concordeUuid));
+		assertThat(uuids).containsOnly(concordeUuid, newsUuid);
+
+		try (Tx tx = tx()) {
+			role().revokePermissions(content("concorde"), READ_PERM, READ_PUBLISHED_PERM);
+			tx.success();
+		}
+		uuids = uuids(String.format("{uuid: {equals: \"%s\"}}", concordeUuid));
+		assertThat(uuids).as("Nodes without read permission must not be found").isEmpty();
+	}
+
+	@Test
+	public void testSchemaFilter() {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ nodes(perPage: 1000) { elements { uuid schema { name } } } }"));
+		JsonArray all = new JsonObject(response.toJson()).getJsonObject("data").getJsonObject("nodes").getJsonArray("elements");
+		Set<String> folders = new HashSet<>();
+		for (int i = 0; i < all.size(); i++) {
+			JsonObject node = all.getJsonObject(i);
+			if ("folder".equals(node.getJsonObject("schema").getString("name"))) {
+				folders.add(node.getString("uuid"));
+			}
+		}
+		assertThat(folders).isNotEmpty();
+		assertThat(uuids("{schema: {is: folder}}")).isEqualTo(folders);
+		assertThat(uuids("{schema: {name: {equals: \"folder\"}}}")).isEqualTo(folders);
+
+		String newsUuid = tx(() -> folder("news").getUuid());
+		String concordeUuid = tx(() -> content("concorde").getUuid());
+		String filter = String.format("{schema: {is: folder}, uuid: {oneOf: [\"%s\", \"%s\"]}}", newsUuid, concordeUuid);
+		assertThat(uuids(filter)).containsOnly(newsUuid);
+	}
+
+	private Set<String> uuids(String filter) {
+		String query = "{ nodes(perPage: 1000, filter: " + filter + ") { elements { uuid } } }";
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertThat(response.getErrors()).isNull();
+		JsonArray elements = new JsonObject(response.toJson()).getJsonObject("data").getJsonObject("nodes").getJsonArray("elements");
+		Set<String> uuids = new HashSet<>();
+		for (int i = 0; i < elements.size(); i++) {
+			uuids.add(elements.getJsonObject(i).getString("uuid"));
+		}
+		assertThat(uuids).as("The uuids should be unique").hasSize(elements.size());
+		return uuids;
+	}
+
 	private void createNodeOfNonDefaultLanguage() {
 		NodeCreateRequest request = new NodeCreateRequest();
 		request.setSchemaName("folder");
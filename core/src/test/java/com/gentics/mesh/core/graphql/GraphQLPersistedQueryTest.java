@@ -0,0 +1,77 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.json.JSONException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.graphql.cache.PersistedQueryCache;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.MeshJSONAssert;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLPersistedQueryTest extends AbstractMeshTest {
+
+	private static final String QUERY = "{me{firstname}}";
+
+	@Before
+	public void enablePersistedQueries() {
+		getTestContext().getOptions().getGraphQLOptions().setPersistedQueries(true);
+	}
+
+	@After
+	public void disablePersistedQueries() {
+		getTestContext().getOptions().getGraphQLOptions().setPersistedQueries(false);
+	}
+
+	@Test
+	public void testRegisterAndExecute() throws JSONException {
+		String hash = PersistedQueryCache.hash(QUERY);
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, persistedQuery(hash).setQuery(QUERY)));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+
+		response = call(() -> client().graphql(PROJECT_NAME, persistedQuery(hash)));
+		assertNull(response.getErrors());
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+	}
+
+	@Test
+	public void testUnknownHash() {
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, persistedQuery(PersistedQueryCache.hash("{me{lastname}}"))));
+		assertEquals(1, response.getErrors().size());
+		assertEquals("PersistedQueryNotFound", response.getErrors().get(0).getMessage());
+	}
+
+	@Test
+	public void testHashMismatch() {
+		String hash = PersistedQueryCache.hash("{me{lastname}}");
+		call(() -> client().graphql(PROJECT_NAME, persistedQuery(hash).setQuery(QUERY)), BAD_REQUEST,
+			"graphql_error_persisted_query_hash_mismatch", hash);
+	}
+
+	@Test
+	public void testDisabled() {
+		getTestContext().getOptions().getGraphQLOptions().setPersistedQueries(false);
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, persistedQuery(PersistedQueryCache.hash(QUERY))));
+		assertEquals("PersistedQueryNotSupported", response.getErrors().get(0).getMessage());
+	}
+
+	private GraphQLRequest persistedQuery(String hash) {
+		JsonObject extensions = new JsonObject().put("persistedQuery", new JsonObject()
+			.put("version", 1)
+			.put("sha256Hash", hash));
+		return new GraphQLRequest().setExtensions(extensions);
+	}
+}
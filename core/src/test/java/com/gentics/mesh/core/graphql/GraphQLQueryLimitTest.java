@@ -0,0 +1,125 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_QUERY_SLOW;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_QUERY_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_QUERY_TIMEOUT;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLQueryLimitTest extends AbstractMeshTest {
+
+	/**
+	 * Query which resolves enough fields to exceed a timeout or threshold of one millisecond.
+	 */
+	private static final String SLOW_QUERY = "{ nodes(perPage: 1000) { elements { uuid path languages { uuid path language } "
+		+ "children(perPage: 1000) { elements { uuid path breadcrumb { uuid path } } } } } }";
+
+	private GraphQLOptions graphQLOptions() {
+		return getTestContext().getOptions().getGraphQLOptions();
+	}
+
+	@After
+	public void resetLimits() {
+		graphQLOptions().setMaxQueryDepth(0).setMaxQueryCost(0).setQueryTimeout(0).setEstimatedPageSize(100)
+			.setSlowQueryThreshold(10_000);
+	}
+
+	@Test
+	public void testMaxDepth() {
+		graphQLOptions().setMaxQueryDepth(3);
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ me { groups { elements { name } } } }"));
+		assertNull(response.getData());
+		assertEquals(1, response.getErrors().size());
+		assertEquals("QueryLimitExceeded", response.getErrors().get(0).getType());
+		assertEquals("The query depth of 4 exceeds the maximum depth of 3.", response.getErrors().get(0).getMessage());
+
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ me { groups { totalCount } } }"));
+		assertNotNull("Queries within the limit should be executed", response.getData());
+	}
+
+	@Test
+	public void testMaxCost() {
+		graphQLOptions().setMaxQueryCost(100);
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ nodes(perPage: 50) { elements { uuid } } }"));
+		assertEquals("The estimated query cost of 101 exceeds the maximum cost of 100.", response.getErrors().get(0).getMessage());
+
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ nodes(perPage: 49) { elements { uuid } } }"));
+		assertNull(response.getErrors());
+	}
+
+	@Test
+	public void testMaxCostWithoutPageSize() {
+		graphQLOptions().setMaxQueryCost(100);
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ nodes { elements { uuid } } }"));
+		assertEquals("The estimated query cost of 201 exceeds the maximum cost of 100.", response.getErrors().get(0).getMessage());
+
+		graphQLOptions().setEstimatedPageSize(10);
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ nodes { elements { uuid } } }"));
+		assertNull(response.getErrors());
+	}
+
+	@Test
+	public void testMaxCostWithVariables() {
+		graphQLOptions().setMaxQueryCost(100);
+		String query = "query($perPage: Long) { nodes(perPage: $perPage) { elements { uuid } } }";
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest()
+			.setQuery(query)
+			.setVariables(new JsonObject().put("perPage", 1000))));
+		assertEquals("QueryLimitExceeded", response.getErrors().get(0).getType());
+
+		response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest()
+			.setQuery(query)
+			.setVariables(new JsonObject().put("perPage", 10))));
+		assertNull(response.getErrors());
+	}
+
+	@Test
+	public void testQueryTimeout() {
+		MetricsService metrics = meshDagger().metrics();
+		double timeouts = metrics.counter(GRAPHQL_QUERY_TIMEOUT).count();
+		graphQLOptions().setQueryTimeout(1);
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, SLOW_QUERY));
+		assertNull("No partial data should be returned", response.getData());
+		assertEquals(1, response.getErrors().size());
+		assertEquals("QueryTimeout", response.getErrors().get(0).getType());
+		assertEquals("The query exceeded the timeout of 1 ms.", response.getErrors().get(0).getMessage());
+		assertEquals(timeouts + 1, metrics.counter(GRAPHQL_QUERY_TIMEOUT).count(), 0);
+
+		graphQLOptions().setQueryTimeout(0);
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, SLOW_QUERY));
+		assertNull(response.getErrors());
+		assertEquals("Queries without timeout should not be counted", timeouts + 1, metrics.counter(GRAPHQL_QUERY_TIMEOUT).count(), 0);
+	}
+
+	@Test
+	public void testSlowQuery() {
+		MetricsService metrics = meshDagger().metrics();
+		double slowQueries = metrics.counter(GRAPHQL_QUERY_SLOW).count();
+		long executions = metrics.timer(GRAPHQL_QUERY_TIME).count();
+		call(() -> client().graphqlQuery(PROJECT_NAME, SLOW_QUERY));
+		assertEquals("The query should not exceed the default threshold", slowQueries, metrics.counter(GRAPHQL_QUERY_SLOW).count(), 0);
+		assertEquals(executions + 1, metrics.timer(GRAPHQL_QUERY_TIME).count());
+
+		graphQLOptions().setSlowQueryThreshold(1);
+		call(() -> client().graphqlQuery(PROJECT_NAME, SLOW_QUERY));
+		assertEquals(slowQueries + 1, metrics.counter(GRAPHQL_QUERY_SLOW).count(), 0);
+		assertEquals(executions + 2, metrics.timer(GRAPHQL_QUERY_TIME).count());
+	}
+}
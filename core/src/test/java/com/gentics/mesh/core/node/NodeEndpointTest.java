@@ -10,6 +10,8 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLI
 import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
 import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
 import static com.gentics.mesh.rest.client.MeshRestClientUtil.onErrorCodeResumeNext;
@@ -56,6 +58,7 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.common.CountStrategy;
 import com.gentics.mesh.core.rest.common.Permission;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
@@ -74,6 +77,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.demo.UserInfo;
 import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.VersioningParameters;
 import com.gentics.mesh.parameter.client.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
@@ -627,6 +631,69 @@ public class NodeEndpointTest extends AbstractMeshTest implements BasicRestTestc
 		assertEquals(getNodeCount(), restResponse.getData().size());
 	}
 
+	@Test
+	public void testReadNodesWithCountStrategy() {
+		PagingParameters estimate = new PagingParametersImpl(1, 2L).setCountStrategy(CountStrategy.ESTIMATE);
+
+		// No count has been cached yet and the exact count needs to be determined
+		NodeListResponse response = call(() -> client().findNodes(PROJECT_NAME, estimate, new VersioningParametersImpl().draft()));
+		assertEquals(CountStrategy.EXACT, response.getMetainfo().getCountStrategy());
+		long totalCount = response.getMetainfo().getTotalCount();
+		assertEquals(getNodeCount(), totalCount);
+
+		response = call(() -> client().findNodes(PROJECT_NAME, estimate, new VersioningParametersImpl().draft()));
+		assertEquals(CountStrategy.ESTIMATE, response.getMetainfo().getCountStrategy());
+		assertEquals(totalCount, response.getMetainfo().getTotalCount());
+		assertEquals((long) Math.ceil(totalCount / 2.0), response.getMetainfo().getPageCount());
+
+		PagingParameters skip = new PagingParametersImpl(1, 2L).setCountStrategy(CountStrategy.SKIP);
+		response = call(() -> client().findNodes(PROJECT_NAME, skip, new VersioningParametersImpl().draft()));
+		assertEquals(CountStrategy.SKIP, response.getMetainfo().getCountStrategy());
+		assertEquals(-1, response.getMetainfo().getTotalCount());
+		assertEquals(-1, response.getMetainfo().getPageCount());
+		assertEquals(2, response.getData().size());
+		assertNull("Pages without cursor don't use keyset paging", response.getMetainfo().getNextCursor());
+
+		// Start keyset paging with the first page
+		skip.setAfter(PagingParameters.START_CURSOR);
+		response = call(() -> client().findNodes(PROJECT_NAME, skip, new VersioningParametersImpl().draft()));
+		assertEquals(2, response.getData().size());
+
+		// The cached count is also used for pages which start after a cursor
+		String cursor = response.getMetainfo().getNextCursor();
+		assertNotNull(cursor);
+		response = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 2L).setAfter(cursor), new VersioningParametersImpl()
+			.draft()));
+		assertEquals(CountStrategy.ESTIMATE, response.getMetainfo().getCountStrategy());
+		assertEquals(totalCount, response.getMetainfo().getTotalCount());
+	}
+
+	@Test
+	public void testCountCacheInvalidationOnPublish() {
+		String uuid = contentUuid();
+		PagingParameters estimate = new PagingParametersImpl(1, 2L).setCountStrategy(CountStrategy.ESTIMATE);
+		waitForEvent(NODE_UNPUBLISHED, () -> {
+			call(() -> client().takeNodeOffline(PROJECT_NAME, uuid));
+		});
+		// Event is processed async and thus the cache clear is also done async
+		sleep(100);
+
+		NodeListResponse response = call(() -> client().findNodes(PROJECT_NAME, estimate, new VersioningParametersImpl().published()));
+		long publishedCount = response.getMetainfo().getTotalCount();
+		response = call(() -> client().findNodes(PROJECT_NAME, estimate, new VersioningParametersImpl().published()));
+		assertEquals(CountStrategy.ESTIMATE, response.getMetainfo().getCountStrategy());
+		assertEquals(publishedCount, response.getMetainfo().getTotalCount());
+
+		waitForEvent(NODE_PUBLISHED, () -> {
+			call(() -> client().publishNode(PROJECT_NAME, uuid));
+		});
+		sleep(100);
+
+		response = call(() -> client().findNodes(PROJECT_NAME, estimate, new VersioningParametersImpl().published()));
+		assertEquals("The cached count should have been invalidated", CountStrategy.EXACT, response.getMetainfo().getCountStrategy());
+		assertEquals(publishedCount + 1, response.getMetainfo().getTotalCount());
+	}
+
 	@Test
 	public void testReadMultipleAndAssertOrder() {
 		try (Tx tx = tx()) {
@@ -25,6 +25,7 @@ import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.image.spi.CacheFileInfo;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.field.BinaryField;
@@ -60,6 +61,24 @@ public class NodeImageResizeEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testPurgeImageCache() throws Exception {
+		Node node = folder("news");
+		String uuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+		String sha512sum = tx(() -> node.getLatestDraftFieldContainer(english()).getBinary("image").getBinary().getSHA512Sum());
+
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(100).setHeight(102);
+		call(() -> client().downloadBinaryField(PROJECT_NAME, uuid, "en", "image", params)).close();
+		CacheFileInfo cacheFile = meshDagger().imageManipulator().getCacheFilePath(sha512sum, params).blockingGet();
+		assertTrue(cacheFile.exists);
+
+		GenericMessageResponse message = call(() -> client().purgeImageCache(sha512sum));
+		assertThat(message.getMessage()).contains("1");
+		assertFalse("The cache file should have been removed", new File(cacheFile.path).exists());
+		assertFalse(meshDagger().imageManipulator().getCacheFilePath(sha512sum, params).blockingGet().exists);
+	}
+
 	@Test
 	public void testImageResizeOverLimit() throws Exception {
 		Node node = folder("news");
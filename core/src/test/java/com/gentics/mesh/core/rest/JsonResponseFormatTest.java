@@ -0,0 +1,71 @@
+package com.gentics.mesh.core.rest;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.apache.http.HttpHeaders.AUTHORIZATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.user.AuthenticationEndpointTest.TestCookieJar;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class JsonResponseFormatTest extends AbstractMeshTest {
+
+	private OkHttpClient client;
+
+	@Before
+	public void login() throws IOException {
+		client = httpClient().newBuilder().cookieJar(new TestCookieJar()).build();
+		String credentials = Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+		Response response = client.newCall(new Request.Builder()
+			.get()
+			.url(url("/auth/login"))
+			.header(AUTHORIZATION, "Basic " + credentials)
+			.build()).execute();
+		assertEquals(200, response.code());
+	}
+
+	@Test
+	public void testMinifiedByDefault() throws IOException {
+		String body = get("/auth/me");
+		assertFalse("The JSON should not contain any line breaks", body.contains("\n"));
+		assertEquals("admin", new JsonObject(body).getString("username"));
+	}
+
+	@Test
+	public void testPrettyParameter() throws IOException {
+		String body = get("/auth/me?pretty=true");
+		assertTrue("The JSON should be pretty printed", body.contains("\n"));
+		assertEquals("admin", new JsonObject(body).getString("username"));
+
+		body = get("/auth/me?pretty=false");
+		assertFalse(body.contains("\n"));
+	}
+
+	private String get(String path) throws IOException {
+		Response response = client.newCall(new Request.Builder()
+			.get()
+			.url(url(path))
+			.build()).execute();
+		assertEquals(200, response.code());
+		return response.body().string();
+	}
+
+	private String url(String path) {
+		return String.format("http://%s:%s/api/v2%s", "localhost", port(), path);
+	}
+}
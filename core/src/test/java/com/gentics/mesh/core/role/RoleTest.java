@@ -25,6 +25,7 @@ import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.generic.PermissionIndex;
 import com.gentics.mesh.core.data.impl.MeshAuthUserImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
@@ -110,6 +111,29 @@ public class RoleTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testPermissionIndex() {
+		try (Tx tx = tx()) {
+			PermissionIndex index = meshDagger().permissionIndex();
+			Role role = role();
+			Node node = folder("news");
+			role.revokePermissions(node, UPDATE_PERM);
+			role.grantPermissions(node, READ_PERM);
+
+			int bit = index.getOrCreateRoleBit(role.getVertex());
+			assertTrue(index.getElementMask(node.getVertex(), READ_PERM).get(bit));
+			assertFalse(index.getElementMask(node.getVertex(), UPDATE_PERM).get(bit));
+			assertTrue(user().hasPermission(node, READ_PERM));
+			assertFalse(user().hasPermission(node, UPDATE_PERM));
+
+			// Rebuilding the index from the role uuid sets must yield the same result
+			node.getVertex().removeProperty(READ_PERM.bitsKey());
+			assertNull(index.getElementMask(node.getVertex(), READ_PERM));
+			index.rebuild(node.getVertex());
+			assertTrue(index.getElementMask(node.getVertex(), READ_PERM).get(bit));
+		}
+	}
+
 	@Test
 	public void testGrantPermissionTwice() {
 		try (Tx tx = tx()) {
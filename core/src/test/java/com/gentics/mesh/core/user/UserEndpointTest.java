@@ -40,7 +40,9 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -56,6 +58,7 @@ import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.UserRoot;
+import com.gentics.mesh.core.rest.common.CountStrategy;
 import com.gentics.mesh.core.rest.common.ListResponse;
 import com.gentics.mesh.core.rest.common.Permission;
 import com.gentics.mesh.core.rest.error.GenericRestException;
@@ -69,6 +72,7 @@ import com.gentics.mesh.core.rest.user.UserPermissionResponse;
 import com.gentics.mesh.core.rest.user.UserResetTokenResponse;
 import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.core.rest.user.UserUpdateRequest;
+import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.client.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -505,6 +509,32 @@ public class UserEndpointTest extends AbstractMeshTest implements BasicRestTestc
 		call(() -> client().findUsers(new PagingParametersImpl(-1, 25L)), BAD_REQUEST, "error_page_parameter_must_be_positive", "-1");
 	}
 
+	@Test
+	public void testReadMultipleWithCursor() {
+		UserListResponse allUsers = call(() -> client().findUsers());
+		Set<String> expectedUuids = allUsers.getData().stream().map(UserResponse::getUuid).collect(Collectors.toSet());
+
+		Set<String> loadedUuids = new HashSet<>();
+		String cursor = PagingParameters.START_CURSOR;
+		int pages = 0;
+		do {
+			PagingParameters params = new PagingParametersImpl(1, 2L).setCountStrategy(CountStrategy.SKIP).setAfter(cursor);
+			UserListResponse page = call(() -> client().findUsers(params));
+			assertEquals("The total count should not be determined", -1, page.getMetainfo().getTotalCount());
+			assertEquals(-1, page.getMetainfo().getPageCount());
+			for (UserResponse user : page.getData()) {
+				assertTrue("User {" + user.getUuid() + "} was returned twice", loadedUuids.add(user.getUuid()));
+			}
+			cursor = page.getMetainfo().getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertEquals("All users should have been loaded via the cursor", expectedUuids, loadedUuids);
+		assertEquals((int) Math.ceil(expectedUuids.size() / 2.0), pages);
+
+		call(() -> client().findUsers(new PagingParametersImpl().setAfter("invalid")), BAD_REQUEST, "error_invalid_paging_cursor", "invalid");
+	}
+
 	@Test
 	@Override
 	public void testUpdateMultithreaded() throws InterruptedException {
@@ -20,6 +20,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
@@ -124,6 +130,26 @@ public class UserTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testFilterPermittedIds() {
+		try (Tx tx = tx()) {
+			User user = user();
+			Node news = folder("news");
+			Node deals = folder("deals");
+			role().revokePermissions(deals, UPDATE_PERM);
+
+			Set<Object> permitted = user.filterPermittedIds(Arrays.asList(news.id(), deals.id()), UPDATE_PERM);
+			assertEquals(1, permitted.size());
+			assertTrue(permitted.contains(news.id()));
+
+			permitted = user.filterPermittedIds(Arrays.asList(news.id(), deals.id()), READ_PERM);
+			assertEquals(2, permitted.size());
+
+			List<Node> readable = user.filterReadableNodes(Stream.of(news, deals), node -> node.id(), null).collect(Collectors.toList());
+			assertEquals(Arrays.asList(news, deals), readable);
+		}
+	}
+
 	@Test
 	public void testHasPermission() {
 		try (Tx tx = tx()) {
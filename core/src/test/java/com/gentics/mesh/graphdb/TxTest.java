@@ -4,6 +4,7 @@ import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -75,6 +76,26 @@ public class TxTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testReadTx() {
+		String username = tx(() -> user().getUsername());
+		assertEquals(username, db().readTx(() -> user().getUsername()));
+	}
+
+	@Test
+	public void testWriteInReadTx() {
+		String firstname = tx(() -> user().getFirstname());
+		try {
+			db().readTx(tx -> {
+				user().setFirstname("changed");
+			});
+			fail("Write operations within a read-only transaction should be rejected");
+		} catch (IllegalStateException e) {
+			// Expected
+		}
+		assertEquals("The write operation should have been discarded", firstname, tx(() -> user().getFirstname()));
+	}
+
 	@Test
 	public void testMultiThreadedModifications() throws InterruptedException {
 		User user = db().tx(() -> user());
@@ -7,6 +7,7 @@ import static com.gentics.mesh.test.context.ElasticsearchTestMode.CONTAINER_ES6;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Map;
 
@@ -33,6 +34,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.search.EntityMetrics;
 import com.gentics.mesh.core.rest.search.SearchStatusResponse;
 import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.search.index.metric.SyncMetersFactory;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
@@ -282,6 +284,38 @@ public class BasicIndexSyncTest extends AbstractMeshTest {
 		assertMetrics("node", 0, 2, 1);
 	}
 
+	@Test
+	public void testConcurrentSync() throws Exception {
+		options().getSearchOptions().setSyncConcurrency(4);
+		try {
+			// Create more documents than fit into a single chunk
+			tx(() -> {
+				for (int i = 0; i < 400; i++) {
+					boot().groupRoot().create("group_" + i, user(), null);
+				}
+				folder("2015").createGraphFieldContainer(german(), initialBranch(), user());
+			});
+			syncIndex();
+			assertMetrics("group", 400, 0, 0);
+			assertMetrics("node", 1, 2, 0);
+
+			SyncMetersFactory syncMeters = meshDagger().syncMetersFactory();
+			long indexCount = meshDagger().indexHandlerRegistry().getHandlers().stream()
+				.mapToLong(handler -> handler.getIndices().size())
+				.sum();
+			long syncedCount = call(() -> client().searchStatus()).getMetrics().values().stream()
+				.mapToLong(metrics -> metrics.getInsert().getSynced() + metrics.getUpdate().getSynced() + metrics.getDelete().getSynced())
+				.sum();
+			assertEquals("All indices should have been compared", 0, syncMeters.getPendingIndices());
+			assertEquals(indexCount, syncMeters.getSyncedIndices());
+			assertEquals(syncedCount, syncMeters.getWrittenDocuments());
+			assertTrue("The written documents should have been diffed. Diffed: " + syncMeters.getDiffedDocuments(),
+				syncMeters.getDiffedDocuments() >= syncedCount);
+		} finally {
+			options().getSearchOptions().setSyncConcurrency(1);
+		}
+	}
+
 	@Test
 	public void testSchemaSync() throws Exception {
 		// Assert insert
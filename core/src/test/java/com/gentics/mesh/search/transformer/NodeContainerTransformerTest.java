@@ -1,5 +1,6 @@
 package com.gentics.mesh.search.transformer;
 
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
@@ -10,6 +11,7 @@ import java.util.HashSet;
 
 import org.junit.Test;
 
+import com.gentics.mesh.cache.SearchDocumentCache;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.Branch;
@@ -25,7 +27,7 @@ public class NodeContainerTransformerTest extends AbstractMeshTest {
 
 	@Test
 	public void testNodeTagFamilyTransformer() {
-		NodeContainerTransformer transformer = new NodeContainerTransformer(options());
+		NodeContainerTransformer transformer = new NodeContainerTransformer(options(), meshDagger().searchDocumentCache());
 		try (Tx tx = tx()) {
 			Branch branch = project().getLatestBranch();
 			NodeGraphFieldContainer node = content("concorde").getGraphFieldContainer(english(), branch, PUBLISHED);
@@ -53,4 +55,30 @@ public class NodeContainerTransformerTest extends AbstractMeshTest {
 			assertEquals("The role information was not correctly set", 2, roleUuids.size());
 		}
 	}
+
+	@Test
+	public void testDocumentCache() {
+		SearchDocumentCache cache = meshDagger().searchDocumentCache();
+		cache.clear();
+		NodeContainerTransformer transformer = new NodeContainerTransformer(options(), cache);
+		try (Tx tx = tx()) {
+			Branch branch = project().getLatestBranch();
+			NodeGraphFieldContainer container = content("concorde").getGraphFieldContainer(english(), branch, PUBLISHED);
+			JsonObject document = transformer.toDocument(container, branch.getUuid(), PUBLISHED);
+			assertEquals("The branch independent part should have been cached", 1, cache.size());
+
+			// Modifications of the returned document must not affect the cached document
+			document.put("language", "xx");
+			JsonObject cachedDocument = transformer.toDocument(container, branch.getUuid(), PUBLISHED);
+			assertEquals(1, cache.size());
+			assertEquals("en", cachedDocument.getString("language"));
+			assertEquals(document.getString("version"), cachedDocument.getString("version"));
+			assertEquals("The cached version must match the generated version", transformer.generateVersion(container, branch.getUuid(), PUBLISHED),
+				cachedDocument.getString("version"));
+
+			// The permission info differs per type
+			transformer.toDocument(container, branch.getUuid(), DRAFT);
+			assertEquals(2, cache.size());
+		}
+	}
 }
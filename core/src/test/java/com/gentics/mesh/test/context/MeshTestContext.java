@@ -450,6 +450,9 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		meshDagger.permissionCache().clear(false);
+		meshDagger.graphQLSchemaCache().clear();
+		meshDagger.graphQLQueryCache().clear();
+		meshDagger.persistedQueryCache().clear();
 	}
 
 	public TestDataProvider getData() {
@@ -19,7 +19,9 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.common.CountStrategy;
 import com.gentics.mesh.core.rest.common.ListResponse;
+import com.gentics.mesh.core.rest.common.PagingMetaInfo;
 import com.gentics.mesh.core.rest.common.PermissionInfo;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
@@ -174,6 +176,14 @@ public class JsonUtilTest {
 		assertNotNull(field);
 		assertEquals("testtext", field.getString());
 	}
+
+	@Test
+	public void testCountStrategyEncoding() {
+		PagingMetaInfo info = new PagingMetaInfo().setCountStrategy(CountStrategy.ESTIMATE);
+		String json = JsonUtil.toJson(info);
+		assertEquals("The strategy should use the same name as the query parameter", "estimate", new JsonObject(json).getString("countStrategy"));
+		assertEquals(CountStrategy.ESTIMATE, JsonUtil.readValue(json, PagingMetaInfo.class).getCountStrategy());
+	}
 }
 
 class Loop {
@@ -1,7 +1,12 @@
 package com.gentics.mesh.graphdb;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.syncleus.ferma.AbstractEdgeFrame;
 import com.syncleus.ferma.AbstractVertexFrame;
 import com.syncleus.ferma.EdgeFrame;
@@ -10,17 +15,39 @@ import com.syncleus.ferma.traversals.EdgeTraversal;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.Element;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
 import com.tinkerpop.gremlin.Tokens;
 
 /**
  * This type resolver will use the Java class stored in the 'java_class' on the element.
+ * 
+ * Vertices are created using the OrientDB class which matches the simple name of their Java class. The resolved Java class is thus cached per OrientDB
+ * cluster and vertices of known clusters are resolved via the cluster id of their record id. This way neither the record nor the type property needs to
+ * be loaded. Edges and vertices of clusters whose class does not match the type property are resolved via the type property.
+ * 
+ * A cluster may still contain vertices whose type property differs from the class of the cluster. Whenever the cached type of a cluster does not match
+ * the requested kind, the type property of the vertex is checked. Clusters which turn out not to be uniform are resolved per vertex via the type property
+ * from then on. This also applies to all clusters of a class once a vertex of the class is initialized with a different type, since the cluster of a
+ * vertex which has not yet been stored is not known.
  */
 public class MeshTypeResolver implements TypeResolver {
 	public final static String TYPE_RESOLUTION_KEY = "ferma_type";
 
+	/**
+	 * Marker for clusters whose vertices need to be resolved via the type property.
+	 */
+	private static final Class<?> UNRESOLVABLE_CLUSTER = Void.class;
+
 	private final SimpleReflectionCache reflectionCache;
 	private final String typeResolutionKey;
 
+	/**
+	 * Resolved Java classes indexed by the OrientDB cluster id. The array is replaced when a cluster gets added.
+	 */
+	private volatile Class<?>[] clusterTypes = new Class<?>[0];
+
+	private final Map<Class<?>, Set<? extends String>> subTypeNames = new ConcurrentHashMap<>();
+
 	public MeshTypeResolver(String... basePaths) {
 		this.reflectionCache = new SimpleReflectionCache(basePaths);
 		this.typeResolutionKey = TYPE_RESOLUTION_KEY;
@@ -28,18 +55,22 @@ public class MeshTypeResolver implements TypeResolver {
 
 	@Override
 	public <T> Class<? extends T> resolve(final Element element, final Class<T> kind) {
-		final String nodeClazz = element.getProperty(this.typeResolutionKey);
-		if (nodeClazz == null) {
-			return kind;
+		Class<?> nodeKind = resolveByCluster(element);
+		if (nodeKind == null) {
+			nodeKind = resolveByProperty(element, true);
+		} else if (!matches(kind, nodeKind)) {
+			// Check on a miss whether the vertex actually has the type of its cluster
+			Class<?> propertyKind = resolveByProperty(element, true);
+			if (propertyKind != nodeKind) {
+				cacheClusterType(clusterId(element), UNRESOLVABLE_CLUSTER);
+				nodeKind = propertyKind;
+			}
 		}
-
-		final Class<T> nodeKind = (Class<T>) this.reflectionCache.forName(nodeClazz);
 		if (nodeKind == null) {
-			throw new RuntimeException("Did not find class in cache {" + nodeClazz + "}");
+			return kind;
 		}
-		if (kind.isAssignableFrom(nodeKind) || kind.equals(VertexFrame.class) || kind.equals(EdgeFrame.class)
-			|| kind.equals(AbstractVertexFrame.class) || kind.equals(AbstractEdgeFrame.class) || kind.equals(Object.class)) {
-			return nodeKind;
+		if (matches(kind, nodeKind)) {
+			return (Class<? extends T>) nodeKind;
 		} else {
 			return kind;
 		}
@@ -47,16 +78,151 @@ public class MeshTypeResolver implements TypeResolver {
 
 	@Override
 	public Class<?> resolve(final Element element) {
-		final String typeResolutionName = element.getProperty(this.typeResolutionKey);
-		if (typeResolutionName == null)
+		Class<?> type = resolveByCluster(element);
+		if (type != null) {
+			return type;
+		}
+		return resolveByProperty(element, false);
+	}
+
+	/**
+	 * Check whether the resolved class may be used for the requested kind.
+	 * 
+	 * @param kind
+	 * @param nodeKind
+	 * @return
+	 */
+	private boolean matches(final Class<?> kind, final Class<?> nodeKind) {
+		return kind.isAssignableFrom(nodeKind) || kind.equals(VertexFrame.class) || kind.equals(EdgeFrame.class)
+			|| kind.equals(AbstractVertexFrame.class) || kind.equals(AbstractEdgeFrame.class) || kind.equals(Object.class);
+	}
+
+	/**
+	 * Return the id of the cluster of the element.
+	 * 
+	 * @param element
+	 * @return Cluster id or -1 if the element is not a stored vertex
+	 */
+	private int clusterId(final Element element) {
+		if (element instanceof OrientVertex) {
+			ORID id = ((OrientVertex) element).getIdentity();
+			// Records which have not yet been stored may not have a cluster
+			if (id.isPersistent()) {
+				return id.getClusterId();
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Resolve the Java class of the element via the cached type of its cluster.
+	 * 
+	 * @param element
+	 * @return Resolved class or null if the element needs to be resolved via the type property
+	 */
+	private Class<?> resolveByCluster(final Element element) {
+		int clusterId = clusterId(element);
+		if (clusterId < 0) {
+			return null;
+		}
+		Class<?>[] types = clusterTypes;
+		Class<?> type = clusterId < types.length ? types[clusterId] : null;
+		if (type == null) {
+			type = resolveClusterType((OrientVertex) element, clusterId);
+		}
+		return type == UNRESOLVABLE_CLUSTER ? null : type;
+	}
+
+	/**
+	 * Resolve the Java class via the type property of the element.
+	 * 
+	 * @param element
+	 * @param failOnUnknownType
+	 * @return
+	 */
+	private Class<?> resolveByProperty(final Element element, boolean failOnUnknownType) {
+		final String nodeClazz = element.getProperty(this.typeResolutionKey);
+		if (nodeClazz == null) {
 			return null;
+		}
+		final Class<?> nodeKind = this.reflectionCache.forName(nodeClazz);
+		if (nodeKind == null && failOnUnknownType) {
+			throw new RuntimeException("Did not find class in cache {" + nodeClazz + "}");
+		}
+		return nodeKind;
+	}
 
-		return this.reflectionCache.forName(typeResolutionName);
+	/**
+	 * Determine and cache the Java class of the vertices in the cluster of the given vertex. The cluster can only be resolved via the OrientDB class if it
+	 * matches the type property of the vertex.
+	 * 
+	 * @param vertex
+	 * @param clusterId
+	 * @return Java class or {@link #UNRESOLVABLE_CLUSTER}
+	 */
+	private Class<?> resolveClusterType(final OrientVertex vertex, int clusterId) {
+		String className = vertex.getRecord().getClassName();
+		String typeName = vertex.getProperty(this.typeResolutionKey);
+		Class<?> type = UNRESOLVABLE_CLUSTER;
+		if (className != null && className.equals(typeName)) {
+			Class<?> clazz = this.reflectionCache.forName(className);
+			if (clazz != null) {
+				type = clazz;
+			}
+		}
+		cacheClusterType(clusterId, type);
+		return type;
+	}
+
+	/**
+	 * Store the Java class of the vertices in the cluster.
+	 * 
+	 * @param clusterId
+	 * @param type
+	 *            Java class or {@link #UNRESOLVABLE_CLUSTER}
+	 */
+	private synchronized void cacheClusterType(int clusterId, Class<?> type) {
+		Class<?>[] types = clusterTypes;
+		if (clusterId >= types.length) {
+			types = Arrays.copyOf(types, clusterId + 1);
+		} else {
+			types = types.clone();
+		}
+		types[clusterId] = type;
+		clusterTypes = types;
+	}
+
+	/**
+	 * Clear the cached cluster types. This is required whenever the database was replaced since the cluster ids may refer to different classes.
+	 */
+	public synchronized void clearCache() {
+		clusterTypes = new Class<?>[0];
 	}
 
 	@Override
 	public void init(final Element element, final Class<?> kind) {
 		element.setProperty(this.typeResolutionKey, kind.getSimpleName());
+		if (element instanceof OrientVertex) {
+			OClass clazz = ((OrientVertex) element).getRecord().getSchemaClass();
+			// The clusters of the class are no longer uniform
+			if (clazz != null && !clazz.getName().equals(kind.getSimpleName())) {
+				markUnresolvable(clazz.getClusterIds());
+			}
+		}
+	}
+
+	/**
+	 * Mark the given clusters to be resolved via the type property.
+	 * 
+	 * @param clusterIds
+	 */
+	private void markUnresolvable(int[] clusterIds) {
+		Class<?>[] types = clusterTypes;
+		for (int clusterId : clusterIds) {
+			if (clusterId >= types.length || types[clusterId] != UNRESOLVABLE_CLUSTER) {
+				cacheClusterType(clusterId, UNRESOLVABLE_CLUSTER);
+			}
+		}
 	}
 
 	@Override
@@ -66,14 +232,22 @@ public class MeshTypeResolver implements TypeResolver {
 
 	@Override
 	public VertexTraversal<?, ?, ?> hasType(final VertexTraversal<?, ?, ?> traverser, final Class<?> type) {
-		final Set<? extends String> allAllowedValues = this.reflectionCache.getSubTypeNames(type.getSimpleName());
-		return traverser.has(typeResolutionKey, Tokens.T.in, allAllowedValues);
+		return traverser.has(typeResolutionKey, Tokens.T.in, getSubTypeNames(type));
 	}
 
 	@Override
 	public EdgeTraversal<?, ?, ?> hasType(final EdgeTraversal<?, ?, ?> traverser, final Class<?> type) {
-		final Set<? extends String> allAllowedValues = this.reflectionCache.getSubTypeNames(type.getSimpleName());
-		return traverser.has(typeResolutionKey, Tokens.T.in, allAllowedValues);
+		return traverser.has(typeResolutionKey, Tokens.T.in, getSubTypeNames(type));
+	}
+
+	/**
+	 * Return the cached type names of the given type and its sub types.
+	 * 
+	 * @param type
+	 * @return
+	 */
+	private Set<? extends String> getSubTypeNames(final Class<?> type) {
+		return subTypeNames.computeIfAbsent(type, t -> this.reflectionCache.getSubTypeNames(t.getSimpleName()));
 	}
 
 }
@@ -2,17 +2,25 @@ package com.gentics.mesh.graphdb;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.metric.SimpleMetric.COMMIT_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_REJECTED_COUNT;
 import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_TIMEOUT_COUNT;
 import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_WAITING_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.TX_CONFLICT;
 import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY;
 import static com.gentics.mesh.metric.SimpleMetric.TX_TIME;
 import static com.gentics.mesh.util.StreamUtil.toStream;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,6 +39,7 @@ import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigRequest;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigResponse;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterServerConfig;
 import com.gentics.mesh.core.rest.admin.cluster.ServerRole;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.etc.config.ClusterOptions;
@@ -51,12 +60,17 @@ import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.metric.SimpleMetric;
 import com.gentics.mesh.util.ETag;
+import com.google.common.util.concurrent.Striped;
 import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
 import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration.ROLES;
@@ -65,8 +79,8 @@ import com.orientechnologies.orient.server.hazelcast.OHazelcastPlugin;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
+import com.syncleus.ferma.ext.orientdb3.OrientDBReadOnlyTx;
 import com.syncleus.ferma.ext.orientdb3.OrientDBTx;
-import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Element;
 import com.tinkerpop.blueprints.Graph;
@@ -79,6 +93,7 @@ import com.tinkerpop.blueprints.util.wrappers.wrapped.WrappedVertex;
 import com.tinkerpop.pipes.util.FastNoSuchElementException;
 
 import dagger.Lazy;
+import io.reactivex.Completable;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Vertx;
@@ -95,7 +110,9 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private static final String RIDBAG_PARAM_KEY = "ridBag.embeddedToSbtreeBonsaiThreshold";
 
-	private TypeResolver resolver;
+	private static final String UNKNOWN_CONFLICT_CLASS = "unknown";
+
+	private MeshTypeResolver resolver;
 
 	private OrientStorage txProvider;
 
@@ -123,10 +140,19 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private Counter topologyLockTimeoutCounter;
 
+	private Counter topologyLockRejectedCounter;
+
 	private Mesh mesh;
 
 	private WriteLock writeLock;
 
+	/**
+	 * Locks which serialize the retries of transactions that conflicted on the same element. Null if disabled.
+	 */
+	private Striped<Lock> conflictLocks;
+
+	private final Map<Integer, String> clusterClassNames = new ConcurrentHashMap<>();
+
 	@Inject
 	public OrientDBDatabase(Lazy<Vertx> vertx, Lazy<BootstrapInitializer> boot, MetricsService metrics, OrientDBTypeHandler typeHandler,
 		OrientDBIndexHandler indexHandler,
@@ -141,6 +167,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 			txRetryCounter = metrics.counter(TX_RETRY);
 			topologyLockTimer = metrics.timer(TOPOLOGY_LOCK_WAITING_TIME);
 			topologyLockTimeoutCounter = metrics.counter(TOPOLOGY_LOCK_TIMEOUT_COUNT);
+			topologyLockRejectedCounter = metrics.counter(TOPOLOGY_LOCK_REJECTED_COUNT);
 			commitTimer = metrics.timer(COMMIT_TIME);
 		}
 		this.typeHandler = typeHandler;
@@ -171,6 +198,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 	@Override
 	public void clear() {
 		txProvider.clear();
+		clearTypeCache();
 	}
 
 	@Override
@@ -200,6 +228,9 @@ public class OrientDBDatabase extends AbstractDatabase {
 		if (storageOptions.getTxCommitTimeout() != 0) {
 			startTxCleanupTask();
 		}
+
+		int conflictLockStripes = storageOptions.getTxConflictLockStripes();
+		conflictLocks = conflictLockStripes > 0 ? Striped.lazyWeakLock(conflictLockStripes) : null;
 	}
 
 	/**
@@ -269,11 +300,22 @@ public class OrientDBDatabase extends AbstractDatabase {
 		}
 		// Open the storage
 		txProvider.open();
+		clearTypeCache();
 	}
 
 	@Override
 	public void closeConnectionPool() {
 		txProvider.close();
+		clearTypeCache();
+	}
+
+	/**
+	 * Clear the type cache of the resolver since the cluster ids of the database may now refer to other classes.
+	 */
+	private void clearTypeCache() {
+		if (resolver != null) {
+			resolver.clearCache();
+		}
 	}
 
 	@Override
@@ -370,34 +412,79 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return new OrientDBTx(this, boot.get(), txProvider, resolver, commitTimer);
 	}
 
+	@Override
+	public Tx readTx() {
+		return new OrientDBReadOnlyTx(this, boot.get(), txProvider, resolver);
+	}
+
+	@Override
+	public <T> T readTx(TxAction<T> txHandler) {
+		// Reads don't conflict with other transactions and are thus never retried
+		Timer.Sample sample = Timer.start();
+		try {
+			// Check the status to prevent transactions during shutdown
+			checkStatus();
+			try (Tx tx = readTx()) {
+				return txHandler.handle(tx);
+			}
+		} catch (RuntimeException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read-only transaction", e);
+			}
+			throw e;
+		} catch (Exception e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read-only transaction", e);
+			}
+			throw new RuntimeException("Transaction error", e);
+		} finally {
+			sample.stop(txTimer);
+		}
+	}
+
 	@Override
 	public void blockingTopologyLockCheck() {
+		// Transactions which are already running are not rejected. Requests are limited by the TopologyLockHandler before they start.
+		awaitTopologyUnlock(Integer.MAX_VALUE).blockingAwait();
+	}
+
+	@Override
+	public Completable awaitTopologyUnlock() {
+		return awaitTopologyUnlock(options.getClusterOptions().getTopologyLockMaxWaiters());
+	}
+
+	/**
+	 * Wait for the release of the topology lock.
+	 *
+	 * @param maxWaiters
+	 *            Maximum amount of waiters. The returned completable fails with a 503 error if the limit has been reached.
+	 * @return
+	 */
+	private Completable awaitTopologyUnlock(int maxWaiters) {
 		ClusterOptions clusterOptions = options.getClusterOptions();
 		long lockTimeout = clusterOptions.getTopologyLockTimeout();
-		if (clusterOptions.isEnabled() && clusterManager() != null && lockTimeout != 0) {
-			long start = System.currentTimeMillis();
-			long i = 0;
-			Timer.Sample sample = Timer.start();
-			while (clusterManager().isClusterTopologyLocked()) {
-				long dur = System.currentTimeMillis() - start;
-				if (i % 250 == 0) {
-					log.info("Write operation locked due to topology lock. Locked since " + dur + "ms");
-				}
-				if (dur > lockTimeout) {
-					topologyLockTimeoutCounter.increment();
-					log.warn("Tx global lock timeout of {" + lockTimeout + "} reached.");
-					break;
-				}
-				try {
-					Thread.sleep(100);
-				} catch (InterruptedException e) {
-					log.error("Interrupting topology lock delay.", e);
-					break;
-				}
-				i++;
-			}
-			sample.stop(this.topologyLockTimer);
+		if (!clusterOptions.isEnabled() || clusterManager() == null || lockTimeout == 0) {
+			return Completable.complete();
 		}
+		return Completable.defer(() -> {
+			if (!clusterManager().isClusterTopologyLocked()) {
+				return Completable.complete();
+			}
+			Completable waiter = clusterManager().getTopologyLockWaitQueue().await(maxWaiters);
+			if (waiter == null) {
+				topologyLockRejectedCounter.increment();
+				log.warn("Rejecting write operation since too many operations are waiting for the topology lock.");
+				GenericRestException error = error(SERVICE_UNAVAILABLE, "error_cluster_topology_locked");
+				error.setProperty(AbstractRestException.RETRY_AFTER_PROPERTY, TimeUnit.MILLISECONDS.toSeconds(lockTimeout + 999));
+				return Completable.error(error);
+			}
+			log.info("Write operation locked due to topology lock.");
+			Timer.Sample sample = Timer.start();
+			return waiter.timeout(lockTimeout, TimeUnit.MILLISECONDS, Completable.fromAction(() -> {
+				topologyLockTimeoutCounter.increment();
+				log.warn("Tx global lock timeout of {" + lockTimeout + "} reached.");
+			})).doFinally(() -> sample.stop(topologyLockTimer));
+		});
 	}
 
 	@Override
@@ -408,31 +495,39 @@ public class OrientDBDatabase extends AbstractDatabase {
 		 */
 		T handlerResult = null;
 		boolean handlerFinished = false;
-		int maxRetry = options.getStorageOptions().getTxRetryLimit();
+		GraphStorageOptions storageOptions = options.getStorageOptions();
+		int maxRetry = storageOptions.getTxRetryLimit();
+		long retryBudget = storageOptions.getTxRetryBudget();
+		long start = System.currentTimeMillis();
+		// Element on which the previous attempt conflicted
+		ORID conflictingElement = null;
 		for (int retry = 0; retry < maxRetry; retry++) {
+			Lock conflictLock = acquireConflictLock(conflictingElement);
 			Timer.Sample sample = Timer.start();
-			// Check the status to prevent transactions during shutdown
-			checkStatus();
-			try (Tx tx = tx()) {
-				handlerResult = txHandler.handle(tx);
-				handlerFinished = true;
-				tx.success();
+			try {
+				// Check the status to prevent transactions during shutdown
+				checkStatus();
+				try (Tx tx = tx()) {
+					handlerResult = txHandler.handle(tx);
+					handlerFinished = true;
+					tx.success();
+				}
 			} catch (OSchemaException e) {
 				log.error("OrientDB schema exception detected.");
 				// TODO maybe we should invoke a metadata getschema reload?
 				// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
 				// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
-			} catch (InterruptedException | ONeedRetryException | FastNoSuchElementException e) {
+			} catch (ONeedRetryException e) {
 				if (log.isTraceEnabled()) {
-					log.trace("Error while handling transaction. Retrying " + retry, e);
+					log.trace("Conflict while handling transaction. Retrying " + retry, e);
 				}
-				int delay = options.getStorageOptions().getTxRetryDelay();
-				if (retry > 0 && delay > 0) {
-					try {
-						Thread.sleep(delay);
-					} catch (InterruptedException e1) {
-						e1.printStackTrace();
-					}
+				conflictingElement = recordConflict(e);
+				// Reset previous result
+				handlerFinished = false;
+				handlerResult = null;
+			} catch (InterruptedException | FastNoSuchElementException e) {
+				if (log.isTraceEnabled()) {
+					log.trace("Error while handling transaction. Retrying " + retry, e);
 				}
 				// Reset previous result
 				handlerFinished = false;
@@ -455,20 +550,128 @@ public class OrientDBDatabase extends AbstractDatabase {
 				throw new RuntimeException("Transaction error", e);
 			} finally {
 				sample.stop(txTimer);
-			}
-			if (!handlerFinished && log.isDebugEnabled()) {
-				log.debug("Retrying .. {" + retry + "}");
-				if (metrics.isEnabled()) {
-					txRetryCounter.increment();
+				if (conflictLock != null) {
+					conflictLock.unlock();
 				}
 			}
 			if (handlerFinished) {
 				return handlerResult;
 			}
+			if (log.isDebugEnabled()) {
+				log.debug("Retrying .. {" + retry + "}");
+			}
+			if (metrics.isEnabled()) {
+				txRetryCounter.increment();
+			}
+			// Retries of conflicting transactions queue up on the conflict lock instead of waiting
+			if (conflictLocks == null || conflictingElement == null) {
+				long delay = retryDelay(retry);
+				if (retryBudget > 0 && System.currentTimeMillis() - start + delay > retryBudget) {
+					throw new RuntimeException("Retry budget {" + retryBudget + "} ms for trx exceeded after {" + (retry + 1) + "} attempts");
+				}
+				if (delay > 0) {
+					try {
+						Thread.sleep(delay);
+					} catch (InterruptedException e1) {
+						// Abort the retries so that the interrupted thread can terminate
+						Thread.currentThread().interrupt();
+						throw new RuntimeException("Interrupted while waiting for the retry of the trx after {" + (retry + 1) + "} attempts", e1);
+					}
+				}
+			} else if (retryBudget > 0 && System.currentTimeMillis() - start > retryBudget) {
+				throw new RuntimeException("Retry budget {" + retryBudget + "} ms for trx exceeded after {" + (retry + 1) + "} attempts");
+			}
 		}
 		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
+	/**
+	 * Return the randomized delay which is applied after the given failed attempt. The first retry happens immediately. Afterwards the delay starts with
+	 * the configured retry delay and doubles with every attempt until the maximum delay is reached. Each delay is randomized between its half and its full
+	 * value so that concurrent transactions which conflicted with each other don't retry in lockstep.
+	 *
+	 * @param retry
+	 *            Index of the failed attempt
+	 * @return Delay in milliseconds
+	 */
+	long retryDelay(int retry) {
+		GraphStorageOptions storageOptions = options.getStorageOptions();
+		long baseDelay = storageOptions.getTxRetryDelay();
+		if (retry == 0 || baseDelay <= 0) {
+			return 0;
+		}
+		long maxDelay = Math.max(baseDelay, storageOptions.getTxRetryMaxDelay());
+		long delay = Math.min(maxDelay, baseDelay << Math.min(retry - 1, 30));
+		return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+	}
+
+	/**
+	 * Track the conflict in the metrics and return the conflicting element.
+	 *
+	 * @param e
+	 * @return Id of the conflicting element or null if the exception does not reference an element
+	 */
+	private ORID recordConflict(ONeedRetryException e) {
+		ORID rid = null;
+		if (e instanceof OConcurrentModificationException) {
+			rid = ((OConcurrentModificationException) e).getRid();
+		}
+		if (metrics.isEnabled()) {
+			metrics.counter(TX_CONFLICT, "class", conflictClass(rid)).increment();
+		}
+		return rid;
+	}
+
+	/**
+	 * Return the name of the class of the conflicting element. The names are cached per cluster.
+	 *
+	 * @param rid
+	 * @return
+	 */
+	private String conflictClass(ORID rid) {
+		if (rid == null) {
+			return UNKNOWN_CONFLICT_CLASS;
+		}
+		String name = clusterClassNames.get(rid.getClusterId());
+		// Loading the schema requires a new graph instance, which must not replace a transaction that is still active on this thread
+		if (name == null && Tx.get() == null) {
+			OrientGraphNoTx graph = rawNoTx();
+			try {
+				OClass clazz = graph.getRawGraph().getMetadata().getSchema().getClassByClusterId(rid.getClusterId());
+				name = clazz == null ? UNKNOWN_CONFLICT_CLASS : clazz.getName();
+			} finally {
+				graph.shutdown();
+			}
+			clusterClassNames.put(rid.getClusterId(), name);
+		}
+		return name == null ? UNKNOWN_CONFLICT_CLASS : name;
+	}
+
+	/**
+	 * Acquire the conflict lock for the element on which the previous attempt of the transaction conflicted. Transactions which conflict on the same
+	 * element will thus be retried one after another.
+	 *
+	 * @param rid
+	 *            Conflicting element or null if the previous attempt did not conflict on a known element
+	 * @return Acquired lock or null if no lock was acquired
+	 */
+	private Lock acquireConflictLock(ORID rid) {
+		if (rid == null || conflictLocks == null) {
+			return null;
+		}
+		Lock lock = conflictLocks.get(rid);
+		try {
+			// The timeout prevents dead locks between nested transactions which conflicted on different elements
+			if (lock.tryLock(options.getStorageOptions().getSynchronizeWritesTimeout(), TimeUnit.MILLISECONDS)) {
+				return lock;
+			}
+			log.warn("Timeout while waiting for the conflict lock of element {" + rid + "}. Retrying without lock.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return null;
+	}
+
 	private void checkStatus() {
 		MeshStatus status = mesh.getStatus();
 		switch (status) {
@@ -488,6 +691,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 	@Override
 	public void restoreGraph(String backupFile) throws IOException {
 		txProvider.restore(backupFile);
+		clearTypeCache();
 	}
 
 	@Override
@@ -498,6 +702,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 	@Override
 	public void importGraph(String importFile) throws IOException {
 		txProvider.importGraph(importFile);
+		clearTypeCache();
 	}
 
 	@Override
@@ -510,6 +715,11 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return ETag.hash(uuid + e.getRecord().getVersion());
 	}
 
+	@Override
+	public Object parseElementId(String id) {
+		return new ORecordId(id);
+	}
+
 	@Override
 	public String getVendorName() {
 		return "orientdb";
@@ -82,6 +82,8 @@ public class OrientDBClusterManager implements ClusterManager {
 
 	private TopologyEventBridge topologyEventBridge;
 
+	private final TopologyLockWaitQueue topologyLockWaitQueue = new TopologyLockWaitQueue(this::isClusterTopologyLocked);
+
 	private final Mesh mesh;
 
 	private final Lazy<Vertx> vertx;
@@ -551,6 +553,15 @@ public class OrientDBClusterManager implements ClusterManager {
 		}
 	}
 
+	/**
+	 * Return the queue of writers which wait for the release of the topology lock.
+	 * 
+	 * @return
+	 */
+	public TopologyLockWaitQueue getTopologyLockWaitQueue() {
+		return topologyLockWaitQueue;
+	}
+
 	@Override
 	public Completable waitUntilWriteQuorumReached() {
 		return Completable.defer(() -> {
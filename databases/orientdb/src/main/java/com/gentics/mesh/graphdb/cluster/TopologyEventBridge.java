@@ -89,6 +89,7 @@ public class TopologyEventBridge implements ODistributedLifecycleListener {
 	@Override
 	public void onNodeLeft(String nodeName) {
 		databaseStatusMap.remove(nodeName);
+		manager.getTopologyLockWaitQueue().onTopologyChange();
 
 		if (log.isDebugEnabled()) {
 			log.debug("Node {" + nodeName + "} left the cluster");
@@ -112,6 +113,7 @@ public class TopologyEventBridge implements ODistributedLifecycleListener {
 			}
 		}
 		databaseStatusMap.put(nodeName, iNewStatus);
+		manager.getTopologyLockWaitQueue().onTopologyChange();
 		log.info("Node {" + nodeName + "} Database {" + iDatabaseName + "} changed status {" + iNewStatus.name() + "}");
 		if (isVertxReady()) {
 			JsonObject statusInfo = new JsonObject();
@@ -0,0 +1,78 @@
+package com.gentics.mesh.graphdb.cluster;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import io.reactivex.Completable;
+import io.reactivex.subjects.CompletableSubject;
+
+/**
+ * Bounded queue of writers which wait for the release of the cluster topology lock. The waiters are released by the {@link TopologyEventBridge} once a
+ * topology change unlocked the cluster. Waiting thus does not occupy a thread.
+ */
+public class TopologyLockWaitQueue {
+
+	private final Queue<CompletableSubject> waiters = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final BooleanSupplier lockCheck;
+
+	/**
+	 * Create a new queue.
+	 * 
+	 * @param lockCheck
+	 *            Check which returns whether the topology is currently locked
+	 */
+	public TopologyLockWaitQueue(BooleanSupplier lockCheck) {
+		this.lockCheck = lockCheck;
+	}
+
+	/**
+	 * Enqueue a new waiter.
+	 * 
+	 * @param maxWaiters
+	 *            Maximum amount of waiters in the queue
+	 * @return Completable which completes once the topology lock has been released or null if the queue is full
+	 */
+	public Completable await(int maxWaiters) {
+		if (size.incrementAndGet() > maxWaiters) {
+			size.decrementAndGet();
+			return null;
+		}
+		CompletableSubject waiter = CompletableSubject.create();
+		waiters.add(waiter);
+		// The lock may have been released before the waiter was added
+		onTopologyChange();
+		return waiter.doOnDispose(() -> {
+			if (waiters.remove(waiter)) {
+				size.decrementAndGet();
+			}
+		});
+	}
+
+	/**
+	 * Release all waiters if the topology is no longer locked. Invoked whenever the status of a database in the cluster changes.
+	 */
+	public void onTopologyChange() {
+		if (waiters.isEmpty() || lockCheck.getAsBoolean()) {
+			return;
+		}
+		CompletableSubject waiter;
+		while ((waiter = waiters.poll()) != null) {
+			size.decrementAndGet();
+			waiter.onComplete();
+		}
+	}
+
+	/**
+	 * Return the amount of waiting writers.
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return size.get();
+	}
+}
@@ -4,7 +4,10 @@ import static com.gentics.mesh.graphdb.FieldTypeMapper.toSubType;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toType;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Map.Entry;
 
 import javax.inject.Inject;
@@ -22,6 +25,7 @@ import com.gentics.mesh.madl.index.EdgeIndexDefinition;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
 import com.gentics.mesh.madl.index.VertexIndexDefinition;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
@@ -34,6 +38,7 @@ import com.syncleus.ferma.ElementFrame;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
+import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Graph;
 import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
@@ -149,6 +154,85 @@ public class OrientDBIndexHandler implements IndexHandler {
 		return ids;
 	}
 
+	@Override
+	public Iterator<Object> edgeRangeLookup(String edgeLabel, Direction direction, Object vertexId, Object afterId) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		OrientEdgeType edgeType = orientBaseGraph.getEdgeType(edgeLabel);
+		if (edgeType == null) {
+			return Collections.emptyIterator();
+		}
+		String indexName = "e." + edgeLabel.toLowerCase() + (direction == Direction.OUT ? "_outin" : "_inout");
+		OIndex<?> index = edgeType.getClassIndex(indexName);
+		if (index == null) {
+			throw new RuntimeException("Could not find ordered index {" + indexName + "} for edge type {" + edgeLabel + "}");
+		}
+		Object after = afterId instanceof String ? new ORecordId((String) afterId) : afterId;
+		return rangeLookup(index, vertexId, after);
+	}
+
+	@Override
+	public Iterator<Object> vertexRangeLookup(Class<?> classOfVertex, String indexPostfix, Object key, Object after) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		String name = classOfVertex.getSimpleName();
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(name);
+		if (vertexType == null) {
+			return Collections.emptyIterator();
+		}
+		String indexName = name + "_" + indexPostfix;
+		OIndex<?> index = vertexType.getClassIndex(indexName);
+		if (index == null) {
+			throw new RuntimeException("Could not find ordered index {" + indexName + "} for vertex type {" + name + "}");
+		}
+		return rangeLookup(index, key, after);
+	}
+
+	/**
+	 * Iterate over the entries of the composite SB-tree index which start with the given key. The iteration starts after the entry with the given second
+	 * key or with the first entry if no second key was given.
+	 * 
+	 * @param index
+	 * @param key
+	 * @param after
+	 * @return Lazy iterator over the values of the found entries
+	 */
+	private Iterator<Object> rangeLookup(OIndex<?> index, Object key, Object after) {
+		OIndexCursor cursor;
+		if (after == null) {
+			cursor = index.iterateEntriesMajor(new OCompositeKey(key), true, true);
+		} else {
+			cursor = index.iterateEntriesMajor(new OCompositeKey(key, after), false, true);
+		}
+		return new Iterator<Object>() {
+
+			private Entry<Object, OIdentifiable> next = fetch();
+
+			private Entry<Object, OIdentifiable> fetch() {
+				Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+				if (entry == null) {
+					return null;
+				}
+				// The cursor will also return entries which belong to the following keys
+				OCompositeKey entryKey = (OCompositeKey) entry.getKey();
+				return key.equals(entryKey.getKeys().get(0)) ? entry : null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public Object next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				Object id = next.getValue().getIdentity();
+				next = fetch();
+				return id;
+			}
+		};
+	}
+
 	@Override
 	public void removeVertexIndex(String indexName, Class<? extends VertexFrame> clazz) {
 		if (log.isDebugEnabled()) {
@@ -262,6 +346,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		boolean includeIn = def.isIncludeIn();
 		boolean includeOut = def.isIncludeOut();
 		boolean includeInOut = def.isIncludeInOut();
+		boolean includeOutIn = def.isIncludeOutIn();
 		String[] extraFields = {};
 
 		OrientGraphNoTx noTx = db.get().getTxProvider().rawNoTx();
@@ -288,10 +373,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 				}
 			}
 
-			if ((includeIn || includeInOut) && e.getProperty("in") == null) {
+			if ((includeIn || includeInOut || includeOutIn) && e.getProperty("in") == null) {
 				e.createProperty("in", OType.LINK);
 			}
-			if ((includeOut || includeInOut) && e.getProperty("out") == null) {
+			if ((includeOut || includeInOut || includeOutIn) && e.getProperty("out") == null) {
 				e.createProperty("out", OType.LINK);
 			}
 			for (String key : extraFields) {
@@ -306,6 +391,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 			if (includeInOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "in", "out" });
 			}
+			name = indexName + "_outin";
+			if (includeOutIn && e.getClassIndex(name) == null) {
+				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "out", "in" });
+			}
 			name = indexName + "_out";
 			if (includeOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX, new String[] { "out" });
@@ -327,7 +416,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 			name = name.toLowerCase();
 			if (fields != null && fields.size() != 0 && e.getClassIndex(name) == null) {
 				String[] fieldArray = fields.keySet().stream().toArray(String[]::new);
-				String indexType = unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString();
+				String indexType = toIndexType(unique, def.isOrdered());
 				OIndex<?> idx = e.createIndex(name, indexType, null, new ODocument().fields("ignoreNullValues", true), fieldArray);
 				if (idx == null) {
 					new RuntimeException("Index for {" + label + "/" + indexPostfix + "} was not created.");
@@ -377,8 +466,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 			if (fields != null && fields.size() != 0 && v.getClassIndex(indexName) == null) {
 				String[] fieldArray = fields.keySet().stream().toArray(String[]::new);
-				v.createIndex(indexName, unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString(),
-					null, new ODocument().fields("ignoreNullValues", true), fieldArray);
+				v.createIndex(indexName, toIndexType(unique, def.isOrdered()), null, new ODocument().fields("ignoreNullValues", true), fieldArray);
 			}
 		} finally {
 			noTx.shutdown();
@@ -386,6 +474,20 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 	}
 
+	/**
+	 * Determine the OrientDB index type. Ordered indices are backed by a SB-tree while all other indices use a hash index.
+	 * 
+	 * @param unique
+	 * @param ordered
+	 * @return
+	 */
+	private static String toIndexType(boolean unique, boolean ordered) {
+		if (ordered) {
+			return unique ? OClass.INDEX_TYPE.UNIQUE.toString() : OClass.INDEX_TYPE.NOTUNIQUE.toString();
+		}
+		return unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString();
+	}
+
 	@Override
 	public <T extends VertexFrame> T findByUuid(Class<? extends T> classOfT, String uuid) {
 		Class<?> foundImpl = persistenceClassMap.get(classOfT);
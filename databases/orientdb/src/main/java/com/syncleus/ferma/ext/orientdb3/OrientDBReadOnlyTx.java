@@ -0,0 +1,49 @@
+package com.syncleus.ferma.ext.orientdb3;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.tx.OrientStorage;
+import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
+import com.syncleus.ferma.typeresolvers.TypeResolver;
+import com.tinkerpop.blueprints.impls.orient.OrientGraph;
+
+/**
+ * Transaction which is only used to read from the graph. The transaction is never committed and thus skips the topology lock check, the commit and the
+ * version checks of the written records. Write operations within the transaction are discarded and will cause an {@link IllegalStateException} when the
+ * transaction gets closed.
+ */
+public class OrientDBReadOnlyTx extends OrientDBTx {
+
+	public OrientDBReadOnlyTx(Database db, BootstrapInitializer boot, OrientStorage provider, TypeResolver typeResolver) {
+		super(db, boot, provider, typeResolver, null);
+	}
+
+	@Override
+	public void close() {
+		// Transactions which are nested in another transaction are handled by the outer transaction
+		if (isWrapped) {
+			return;
+		}
+		try {
+			int changes = countChanges();
+			rollback();
+			if (changes > 0) {
+				throw new IllegalStateException("The read-only transaction contained {" + changes + "} write operations which have been discarded.");
+			}
+		} finally {
+			getGraph().shutdown();
+			Tx.setActive(null);
+		}
+	}
+
+	/**
+	 * Return the amount of records which were created, updated or deleted within the transaction.
+	 *
+	 * @return
+	 */
+	private int countChanges() {
+		OrientGraph graph = ((DelegatingFramedOrientGraph) getGraph()).getBaseGraph();
+		return graph.getRawGraph().getTransaction().getEntryCount();
+	}
+}
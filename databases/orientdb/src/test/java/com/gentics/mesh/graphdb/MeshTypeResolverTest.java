@@ -0,0 +1,125 @@
+package com.gentics.mesh.graphdb;
+
+import static com.gentics.mesh.graphdb.MeshTypeResolver.TYPE_RESOLUTION_KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.graphdb.orientdb.graph.Group;
+import com.gentics.mesh.graphdb.orientdb.graph.Person;
+import com.syncleus.ferma.VertexFrame;
+import com.tinkerpop.blueprints.impls.orient.OrientGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+
+public class MeshTypeResolverTest {
+
+	private OrientGraphFactory factory;
+
+	private OrientGraph graph;
+
+	private MeshTypeResolver resolver;
+
+	@Before
+	public void setup() {
+		factory = new OrientGraphFactory("memory:" + UUID.randomUUID());
+		OrientGraphNoTx noTx = factory.getNoTx();
+		try {
+			// Use a single cluster per class so that all vertices of a class share the cluster
+			noTx.createVertexType("Person", "V", 1);
+			noTx.createVertexType("Unknown", "V", 1);
+		} finally {
+			noTx.shutdown();
+		}
+		graph = factory.getTx();
+		resolver = new MeshTypeResolver("com.gentics.mesh.graphdb.orientdb.graph");
+	}
+
+	@After
+	public void teardown() {
+		graph.shutdown();
+		factory.drop();
+	}
+
+	@Test
+	public void testCachedClusterType() {
+		OrientVertex first = addVertex("Person", "Person");
+		OrientVertex second = addVertex("Person", "Person");
+		assertEquals(Person.class, resolver.resolve(first));
+
+		// The type of the second vertex is resolved via the cluster without loading the type property
+		second.removeProperty(TYPE_RESOLUTION_KEY);
+		assertEquals(Person.class, resolver.resolve(second));
+		assertEquals(Person.class, resolver.resolve(second, VertexFrame.class));
+	}
+
+	@Test
+	public void testMixedCluster() {
+		OrientVertex person = addVertex("Person", "Person");
+		OrientVertex group = addVertex("Person", "Group");
+		assertEquals(Person.class, resolver.resolve(person));
+
+		// The cached type of the cluster does not match the requested kind
+		assertEquals(Group.class, resolver.resolve(group, Group.class));
+		// The cluster is resolved per vertex from now on
+		assertEquals(Group.class, resolver.resolve(group));
+		assertEquals(Person.class, resolver.resolve(person));
+	}
+
+	@Test
+	public void testInitWithDifferentType() {
+		OrientVertex person = addVertex("Person", "Person");
+		assertEquals(Person.class, resolver.resolve(person));
+
+		// The vertex has not yet been stored and thus has no cluster
+		OrientVertex group = graph.addVertex("class:Person");
+		resolver.init(group, Group.class);
+		graph.commit();
+		assertEquals(Group.class, resolver.resolve(group));
+		assertEquals(Person.class, resolver.resolve(person));
+	}
+
+	@Test
+	public void testInitWithDifferentTypeBeforeResolve() {
+		OrientVertex group = graph.addVertex("class:Person");
+		resolver.init(group, Group.class);
+		graph.commit();
+		OrientVertex person = addVertex("Person", "Person");
+
+		// The cluster must not be cached for the type of the other vertex
+		assertEquals(Person.class, resolver.resolve(person));
+		assertEquals(Group.class, resolver.resolve(group));
+	}
+
+	@Test
+	public void testUnknownType() {
+		OrientVertex vertex = addVertex("Unknown", "Unknown");
+		assertNull(resolver.resolve(vertex));
+		try {
+			resolver.resolve(vertex, Person.class);
+			fail("Resolving an unknown type should fail");
+		} catch (RuntimeException e) {
+			assertEquals("Did not find class in cache {Unknown}", e.getMessage());
+		}
+
+		OrientVertex untyped = addVertex("Unknown", null);
+		assertNull(resolver.resolve(untyped));
+		assertEquals(Person.class, resolver.resolve(untyped, Person.class));
+	}
+
+	private OrientVertex addVertex(String className, String type) {
+		OrientVertex vertex = graph.addVertex("class:" + className);
+		if (type != null) {
+			vertex.setProperty(TYPE_RESOLUTION_KEY, type);
+		}
+		graph.commit();
+		return vertex;
+	}
+}
@@ -0,0 +1,166 @@
+package com.gentics.mesh.graphdb;
+
+import static com.gentics.mesh.metric.SimpleMetric.TX_CONFLICT;
+import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.MeshStatus;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.cluster.OrientDBClusterManager;
+import com.gentics.mesh.metric.MetricsService;
+import com.orientechnologies.common.concur.ONeedRetryException;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+
+import dagger.Lazy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class OrientDBDatabaseRetryTest {
+
+	private MeshOptions options;
+
+	private MeterRegistry registry;
+
+	private OrientDBDatabase db;
+
+	@Before
+	public void setup() throws Exception {
+		options = new MeshOptions();
+		options.getStorageOptions().setDirectory(null);
+		registry = new SimpleMeterRegistry();
+		MetricsService metrics = mock(MetricsService.class, withSettings().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+		doReturn(true).when(metrics).isEnabled();
+		doReturn(registry).when(metrics).getMetricRegistry();
+		Lazy<BootstrapInitializer> boot = mock(Lazy.class);
+		when(boot.get()).thenReturn(mock(BootstrapInitializer.class));
+		Mesh mesh = mock(Mesh.class);
+		when(mesh.getStatus()).thenReturn(MeshStatus.READY);
+		db = new OrientDBDatabase(null, boot, metrics, null, null, new OrientDBClusterManager(null, null, null, options, null), null, mesh, null);
+	}
+
+	@Test
+	public void testRetryDelay() throws Exception {
+		options.getStorageOptions().setTxRetryDelay(10).setTxRetryMaxDelay(100);
+		db.init(options, null);
+		assertEquals("The first retry should happen immediately", 0, db.retryDelay(0));
+		for (int i = 0; i < 100; i++) {
+			for (int retry = 1; retry < 40; retry++) {
+				long expected = Math.min(100, 10L << Math.min(retry - 1, 30));
+				long delay = db.retryDelay(retry);
+				assertTrue("Delay {" + delay + "} of retry {" + retry + "} should be between " + expected / 2 + " and " + expected,
+					delay >= expected / 2 && delay <= expected);
+			}
+		}
+	}
+
+	@Test
+	public void testRetryBudget() throws Exception {
+		options.getStorageOptions().setTxRetryLimit(100).setTxRetryDelay(50).setTxRetryMaxDelay(50).setTxRetryBudget(200);
+		db.init(options, null);
+		db.setupConnectionPool();
+		AtomicInteger attempts = new AtomicInteger();
+		try {
+			db.tx(tx -> {
+				attempts.incrementAndGet();
+				throw new ConflictException();
+			});
+			fail("The retries should have been stopped");
+		} catch (RuntimeException e) {
+			assertEquals("Retry budget {200} ms for trx exceeded after {" + attempts.get() + "} attempts", e.getMessage());
+		}
+		// The first retry happens immediately and every further retry waits at least 25 ms. No retry may wait beyond the budget.
+		assertTrue("The transaction should have been retried after a delay. Attempts: " + attempts.get(), attempts.get() >= 3);
+		assertTrue("The transaction should not have been retried after the budget was exhausted. Attempts: " + attempts.get(), attempts.get() <= 10);
+		assertEquals("Every failed attempt should be counted", attempts.get(), registry.counter(TX_RETRY.key()).count(), 0);
+		assertEquals(attempts.get(), registry.counter(TX_CONFLICT.key(), "class", "unknown").count(), 0);
+	}
+
+	@Test
+	public void testInterruptedRetry() throws Exception {
+		options.getStorageOptions().setTxRetryLimit(100).setTxRetryDelay(1000).setTxRetryMaxDelay(1000);
+		db.init(options, null);
+		db.setupConnectionPool();
+		AtomicInteger attempts = new AtomicInteger();
+		try {
+			db.tx(tx -> {
+				// The first retry happens immediately. The second retry waits for the delay.
+				if (attempts.incrementAndGet() == 2) {
+					Thread.currentThread().interrupt();
+				}
+				throw new ConflictException();
+			});
+			fail("The retries should have been aborted");
+		} catch (RuntimeException e) {
+			assertEquals("Interrupted while waiting for the retry of the trx after {2} attempts", e.getMessage());
+			assertTrue(e.getCause() instanceof InterruptedException);
+		} finally {
+			assertTrue("The interrupt flag should have been restored", Thread.interrupted());
+		}
+		assertEquals(2, attempts.get());
+		assertEquals(2, registry.counter(TX_RETRY.key()).count(), 0);
+	}
+
+	@Test
+	public void testConflictMetric() throws Exception {
+		db.init(options, null);
+		db.setupConnectionPool();
+		OrientGraphNoTx graph = db.rawNoTx();
+		ORID rid;
+		try {
+			graph.createVertexType("ConflictTestVertex");
+			OrientVertex vertex = graph.addVertex("class:ConflictTestVertex");
+			rid = vertex.getIdentity();
+		} finally {
+			graph.shutdown();
+		}
+
+		AtomicInteger attempts = new AtomicInteger();
+		String result = db.tx(tx -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new OConcurrentModificationException(rid, 2, 1, ORecordOperation.UPDATED);
+			}
+			return "done";
+		});
+		assertEquals("done", result);
+		assertEquals(2, registry.counter(TX_CONFLICT.key(), "class", "ConflictTestVertex").count(), 0);
+
+		attempts.set(0);
+		db.tx(tx -> {
+			if (attempts.incrementAndGet() < 2) {
+				throw new ConflictException();
+			}
+			return null;
+		});
+		assertEquals("Conflicts without an element should be tracked as unknown", 1, registry.counter(TX_CONFLICT.key(), "class", "unknown").count(), 0);
+	}
+
+	/**
+	 * Conflict which does not reference an element.
+	 */
+	private static class ConflictException extends ONeedRetryException {
+
+		private static final long serialVersionUID = 1L;
+
+		ConflictException() {
+			super("Conflict");
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.gentics.mesh.graphdb.cluster;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import io.reactivex.Completable;
+import io.reactivex.observers.TestObserver;
+
+public class TopologyLockWaitQueueTest {
+
+	@Test
+	public void testReleaseOnTopologyChange() {
+		AtomicBoolean locked = new AtomicBoolean(true);
+		TopologyLockWaitQueue queue = new TopologyLockWaitQueue(locked::get);
+		TestObserver<Void> waiter = queue.await(10).test();
+		waiter.assertNotComplete();
+		assertEquals(1, queue.size());
+
+		// Changes which keep the lock must not release the waiters
+		queue.onTopologyChange();
+		waiter.assertNotComplete();
+
+		locked.set(false);
+		queue.onTopologyChange();
+		waiter.assertComplete();
+		assertEquals(0, queue.size());
+	}
+
+	@Test
+	public void testQueueLimit() {
+		TopologyLockWaitQueue queue = new TopologyLockWaitQueue(() -> true);
+		assertNotNull(queue.await(2));
+		assertNotNull(queue.await(2));
+		assertNull("The queue should be full", queue.await(2));
+		assertNull("A limit of zero should reject all waiters", new TopologyLockWaitQueue(() -> true).await(0));
+	}
+
+	@Test
+	public void testTimeoutRemovesWaiter() {
+		TopologyLockWaitQueue queue = new TopologyLockWaitQueue(() -> true);
+		queue.await(1).timeout(10, TimeUnit.MILLISECONDS, Completable.complete()).blockingAwait();
+		assertEquals(0, queue.size());
+		assertNotNull("The slot of the timed out waiter should be free again", queue.await(1));
+	}
+}
@@ -301,7 +301,7 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		}).collect(() -> listResponse.getData(), (x, y) -> {
 			x.add(y);
 		}).subscribe(list -> {
-			ac.send(listResponse.toJson(), OK);
+			ac.send(listResponse, OK);
 		}, error -> {
 			log.error("Error while processing search response items", error);
 			ac.fail(error);
@@ -3,9 +3,14 @@ package com.gentics.mesh.search.index.entry;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.gentics.elasticsearch.client.ElasticsearchClient;
@@ -21,29 +26,31 @@ import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.UpdateBulkEntry;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.search.EntityMetrics;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.event.EventQueueBatch;
-import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.MappingProvider;
 import com.gentics.mesh.search.index.Transformer;
 import com.gentics.mesh.search.index.metric.SyncMeters;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
+import com.gentics.mesh.search.index.sync.BucketDigests;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
-import io.reactivex.Single;
 import io.reactivex.functions.Action;
 import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -62,6 +69,23 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	public static final int ES_SYNC_FETCH_BATCH_SIZE = 1000;
 
+	/**
+	 * Maximum amount of buckets which will be selected via prefix queries. The documents of larger selections will be filtered after loading them.
+	 */
+	public static final int ES_SYNC_MAX_PREFIX_CLAUSES = 512;
+
+	/**
+	 * Amount of documents which will be transformed within a single transaction during the sync. Chunks are only transformed when the bulk processing
+	 * requests more documents.
+	 */
+	public static final int ES_SYNC_DOCUMENT_CHUNK_SIZE = 100;
+
+	/**
+	 * Maximum amount of versions per index which are retained while computing the bucket digests of the graph. The differing buckets of indices within
+	 * this limit can be compared without loading the elements and computing their versions again.
+	 */
+	public static final int ES_SYNC_MAX_RETAINED_VERSIONS = 100_000;
+
 	protected final SearchProvider searchProvider;
 
 	protected final Database db;
@@ -76,6 +100,8 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	protected final SyncMeters meters;
 
+	protected final SyncMetersFactory syncMetersFactory;
+
 	public AbstractIndexHandler(SearchProvider searchProvider, Database db, BootstrapInitializer boot, MeshHelper helper, MeshOptions options, SyncMetersFactory syncMetersFactory) {
 		this.searchProvider = searchProvider;
 		this.db = db;
@@ -83,6 +109,7 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 		this.helper = helper;
 		this.options = options;
 		this.complianceMode = options.getSearchOptions().getComplianceMode();
+		this.syncMetersFactory = syncMetersFactory;
 		this.meters = syncMetersFactory.createSyncMetric(getType());
 	}
 
@@ -190,135 +217,325 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 	/**
 	 * Diff the source (graph) with the sink (ES index) and create {@link EventQueueBatch} objects add, delete or update entries.
 	 * 
+	 * The versions of both sides are first reduced to {@link BucketDigests}. Only the documents within buckets that have differing digests will be loaded
+	 * and compared (see {@link #diffBuckets(String, Set, BucketDigests, Function, Function)}).
+	 * 
 	 * @param indexName
 	 * @param projectUuid
 	 * @return
 	 */
 	protected Flowable<SearchRequest> diffAndSync(String indexName, String projectUuid) {
-		return Single.zip(
-			loadVersionsFromIndex(indexName),
-			Single.fromCallable(this::loadVersionsFromGraph),
-			(sinkVersions, sourceVersions) -> {
-				log.info("Handling index sync on handler {" + getClass().getName() + "}");
-
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
-					log.info("No diff detected. Index {" + indexName + "} is in sync.");
-					return Flowable.<SearchRequest>empty();
+		return trackIndexSync(Flowable.defer(() -> {
+			log.info("Handling index sync on handler {" + getClass().getName() + "}");
+
+			BucketDigests sourceDigests = db.tx(() -> {
+				BucketDigests digests = new BucketDigests(BucketDigests.DEFAULT_PREFIX_LENGTH, ES_SYNC_MAX_RETAINED_VERSIONS);
+				loadAllElements().forEach(element -> digests.add(element.getUuid(), generateVersion(element)));
+				return digests;
+			});
+			BucketDigests sinkDigests = loadDigestsFromIndex(indexName);
+
+			Set<String> buckets = sourceDigests.differingBuckets(sinkDigests);
+			if (buckets.isEmpty()) {
+				log.info("No diff detected. Index {" + indexName + "} is in sync.");
+				return Flowable.<SearchRequest>empty();
+			}
+			log.info("Found {" + buckets.size() + "} differing buckets with {" + sourceDigests.documentCount(buckets) + "} elements on index {"
+				+ indexName + "}");
+
+			// The versions need to be loaded again if the index was too large to retain them
+			Supplier<BucketDigests> differingDigests = Suppliers.memoize(() -> {
+				if (sourceDigests.hasVersions()) {
+					return sourceDigests;
 				}
+				Predicate<String> filter = sourceDigests.filter(buckets);
+				return db.tx(() -> {
+					BucketDigests digests = new BucketDigests(BucketDigests.DEFAULT_PREFIX_LENGTH, Integer.MAX_VALUE);
+					loadAllElements()
+						.filter(element -> filter.test(element.getUuid()))
+						.forEach(element -> digests.add(element.getUuid(), generateVersion(element)));
+					return digests;
+				});
+			});
+			return diffBuckets(indexName, buckets, sourceDigests, keys -> differingDigests.get().takeVersions(keys),
+				uuid -> getTransformer().toDocument(getElement(uuid)));
+		}));
+	}
+
+	/**
+	 * Diff the documents of the given buckets. The buckets are compared in batches of up to {@link #ES_SYNC_MAX_PREFIX_CLAUSES} buckets. The versions of a
+	 * batch are only loaded once the requests of the previous batch have been consumed.
+	 * 
+	 * @param indexName
+	 * @param buckets
+	 *            Keys of the differing buckets
+	 * @param sourceDigests
+	 *            Digests of the graph
+	 * @param sourceVersionLoader
+	 *            Function which returns the versions of the graph (document id -> version) for a batch of buckets
+	 * @param documentLoader
+	 *            Function which creates the document for the given document id. The function will be invoked within a transaction.
+	 * @return
+	 */
+	protected Flowable<SearchRequest> diffBuckets(String indexName, Set<String> buckets, BucketDigests sourceDigests,
+		Function<Set<String>, Map<String, String>> sourceVersionLoader, Function<String, JsonObject> documentLoader) {
+		return Flowable.fromIterable(Iterables.partition(buckets, ES_SYNC_MAX_PREFIX_CLAUSES))
+			.concatMap(batch -> Flowable.defer(() -> {
+				Set<String> keys = new HashSet<>(batch);
+				Map<String, String> sourceVersions = sourceVersionLoader.apply(keys);
+				Map<String, String> sinkVersions = loadVersionsFromIndex(indexName, keys, sourceDigests.filter(keys));
+				return diff(indexName, sourceVersions, sinkVersions, documentLoader);
+			}), 1);
+	}
 
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
+	/**
+	 * Merge the syncs of independent indices. Up to {@link com.gentics.mesh.etc.config.search.ElasticSearchOptions#getSyncConcurrency()} syncs will be
+	 * subscribed in parallel. Each sync must be deferred so that the versions of an index are only loaded once the sync is subscribed.
+	 * 
+	 * @param syncs
+	 * @return
+	 */
+	protected Flowable<SearchRequest> mergeSyncs(List<Flowable<SearchRequest>> syncs) {
+		int concurrency = Math.max(1, options.getSearchOptions().getSyncConcurrency());
+		if (concurrency == 1) {
+			return Flowable.concat(syncs);
+		}
+		return Flowable.fromIterable(syncs)
+			.flatMap(sync -> sync.subscribeOn(Schedulers.io()), concurrency);
+	}
 
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
+	/**
+	 * Track the progress of the sync of a single index.
+	 * 
+	 * @param sync
+	 * @return
+	 */
+	protected Flowable<SearchRequest> trackIndexSync(Flowable<SearchRequest> sync) {
+		return sync
+			.doOnSubscribe(ignore -> syncMetersFactory.indexStarted())
+			.doOnComplete(syncMetersFactory::indexSynced);
+	}
 
-				meters.getInsertMeter().addPending(needInsertionInES.size());
-				meters.getUpdateMeter().addPending((needUpdateInEs.size()));
-				meters.getDeleteMeter().addPending((needRemovalInES.size()));
+	/**
+	 * Compare the given versions and create the requests which are needed to bring the index in sync with the graph. The documents are transformed in
+	 * chunks of {@link #ES_SYNC_DOCUMENT_CHUNK_SIZE} within a single transaction. A chunk is only transformed once the previous chunk has been consumed.
+	 * 
+	 * @param indexName
+	 * @param sourceVersions
+	 *            Versions of the graph (document id -> version)
+	 * @param sinkVersions
+	 *            Versions of the index (document id -> version)
+	 * @param documentLoader
+	 *            Function which creates the document for the given document id. The function will be invoked within a transaction and may return null if
+	 *            the element has been deleted in the meantime.
+	 * @return
+	 */
+	protected Flowable<SearchRequest> diff(String indexName, Map<String, String> sourceVersions, Map<String, String> sinkVersions,
+		Function<String, JsonObject> documentLoader) {
+		MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
+		if (diff.areEqual()) {
+			log.info("No diff detected. Index {" + indexName + "} is in sync.");
+			return Flowable.empty();
+		}
+
+		Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
+		Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
+		Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
 
-				Function<Action, Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(getElement(uuid)));
-					return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
-				};
+		log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
+		log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
+		log.info("Pending updates on {" + indexName + "}:" + needUpdateInEs.size());
 
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
+		syncMetersFactory.documentsDiffed(sourceVersions.size() + needRemovalInES.size());
+		meters.getInsertMeter().addPending(needInsertionInES.size());
+		meters.getUpdateMeter().addPending(needUpdateInEs.size());
+		meters.getDeleteMeter().addPending(needRemovalInES.size());
 
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
+		Flowable<SearchRequest> toInsert = createDocumentRequests(indexName, needInsertionInES, documentLoader, meters.getInsertMeter()::synced);
+		Flowable<SearchRequest> toUpdate = createDocumentRequests(indexName, needUpdateInEs, documentLoader, meters.getUpdateMeter()::synced);
 
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
+		Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
+			.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, () -> {
+				meters.getDeleteMeter().synced();
+				syncMetersFactory.documentWritten();
+			}));
 
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-			}).flatMapPublisher(x -> x);
+		return Flowable.concatArray(toInsert, toUpdate, toDelete);
+	}
+
+	/**
+	 * Create the requests which store the given documents. The documents are transformed in chunks.
+	 * 
+	 * @param indexName
+	 * @param documentIds
+	 * @param documentLoader
+	 * @param action
+	 *            Action which will be invoked once a document has been stored
+	 * @return
+	 */
+	private Flowable<SearchRequest> createDocumentRequests(String indexName, Set<String> documentIds, Function<String, JsonObject> documentLoader,
+		Action action) {
+		return Flowable.fromIterable(documentIds)
+			.buffer(ES_SYNC_DOCUMENT_CHUNK_SIZE)
+			.concatMapIterable(chunk -> db.tx(() -> {
+				List<SearchRequest> requests = new ArrayList<>(chunk.size());
+				for (String documentId : chunk) {
+					JsonObject document = documentLoader.apply(documentId);
+					if (document == null) {
+						// The element has been deleted since the versions were loaded
+						action.run();
+						continue;
+					}
+					requests.add(helper.createDocumentRequest(indexName, documentId, document, complianceMode, () -> {
+						action.run();
+						syncMetersFactory.documentWritten();
+					}));
+				}
+				return requests;
+			}), 1);
 	}
 
 	protected T getElement(String elementUuid) {
 		return elementLoader().apply(elementUuid);
 	}
 
-	private Map<String, String> loadVersionsFromGraph() {
-		return db.tx(() -> loadAllElements()
-			.collect(Collectors.toMap(
-				MeshElement::getUuid,
-				this::generateVersion)));
+	/**
+	 * Load the bucket digests of all documents within the index.
+	 * 
+	 * @param indexName
+	 * @return
+	 */
+	public BucketDigests loadDigestsFromIndex(String indexName) {
+		BucketDigests digests = new BucketDigests();
+		JsonObject query = new JsonObject().put("match_all", new JsonObject());
+		scrollIndex(indexName, query, hit -> digests.add(getDocumentId(hit), getDocumentVersion(hit)));
+		return digests;
 	}
 
-	// TODO Async
-	public Single<Map<String, String>> loadVersionsFromIndex(String indexName) {
-		return Single.fromCallable(() -> {
-			String fullIndexName = searchProvider.installationPrefix() + indexName;
-			Map<String, String> versions = new HashMap<>();
-			log.debug("Loading document info from index {" + fullIndexName + "}");
-			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
-			JsonObject query = new JsonObject();
-			query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
-			query.put("_source", new JsonArray().add("uuid").add("version"));
-			query.put("query", new JsonObject().put("match_all", new JsonObject()));
-			query.put("sort", new JsonArray().add("_doc"));
-
-			RequestBuilder<JsonObject> builder = client.searchScroll(query, "1m", fullIndexName);
-			JsonObject result = new JsonObject();
-			try {
-				result = builder.sync();
-				if (log.isTraceEnabled()) {
-					log.trace("Got response {" + result.encodePrettily() + "}");
-				}
-				JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
-				processHits(hits, versions);
-
-				// Check whether we need to process more scrolls
-				if (hits.size() != 0) {
-					String nextScrollId = result.getString("_scroll_id");
-					try {
-						while (true) {
-							final String currentScroll = nextScrollId;
-							log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
-							JsonObject scrollResult = client.scroll("1m", currentScroll).sync();
-							JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
-							if (log.isTraceEnabled()) {
-								log.trace("Got response {" + scrollHits.encodePrettily() + "}");
-							}
-							if (scrollHits.size() != 0) {
-								processHits(scrollHits, versions);
-								// Update the scrollId for the next fetch
-								nextScrollId = scrollResult.getString("_scroll_id");
-								if (log.isDebugEnabled()) {
-									log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
-								}
-							} else {
-								// The scroll yields no more data. We are done
-								break;
+	/**
+	 * Load the versions of the documents within the given buckets.
+	 * 
+	 * @param indexName
+	 * @param buckets
+	 *            Keys of the buckets
+	 * @param filter
+	 *            Filter which accepts the document ids of the buckets
+	 * @return Map of document id to version
+	 */
+	public Map<String, String> loadVersionsFromIndex(String indexName, Set<String> buckets, Predicate<String> filter) {
+		JsonObject query;
+		if (buckets.size() <= ES_SYNC_MAX_PREFIX_CLAUSES) {
+			// Let Elasticsearch only return the documents of the differing buckets
+			JsonArray prefixes = new JsonArray();
+			for (String bucket : buckets) {
+				prefixes.add(new JsonObject().put("prefix", new JsonObject().put("uuid", bucket)));
+			}
+			query = new JsonObject().put("bool", new JsonObject()
+				.put("should", prefixes)
+				.put("minimum_should_match", 1));
+		} else {
+			query = new JsonObject().put("match_all", new JsonObject());
+		}
+		Map<String, String> versions = new HashMap<>();
+		scrollIndex(indexName, query, hit -> {
+			String id = getDocumentId(hit);
+			if (filter.test(id)) {
+				versions.put(id, getDocumentVersion(hit));
+			}
+		});
+		return versions;
+	}
+
+	/**
+	 * Scroll through all documents of the index which match the query and pass the hits to the given handler. Only the uuid and version of the documents
+	 * will be loaded.
+	 * 
+	 * @param indexName
+	 * @param query
+	 * @param hitHandler
+	 */
+	private void scrollIndex(String indexName, JsonObject query, Consumer<JsonObject> hitHandler) {
+		String fullIndexName = searchProvider.installationPrefix() + indexName;
+		log.debug("Loading document info from index {" + fullIndexName + "}");
+		ElasticsearchClient<JsonObject> client = searchProvider.getClient();
+		JsonObject request = new JsonObject();
+		request.put("size", ES_SYNC_FETCH_BATCH_SIZE);
+		request.put("_source", new JsonArray().add("uuid").add("version"));
+		request.put("query", query);
+		request.put("sort", new JsonArray().add("_doc"));
+
+		RequestBuilder<JsonObject> builder = client.searchScroll(request, "1m", fullIndexName);
+		JsonObject result = new JsonObject();
+		try {
+			result = builder.sync();
+			if (log.isTraceEnabled()) {
+				log.trace("Got response {" + result.encodePrettily() + "}");
+			}
+			JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
+			processHits(hits, hitHandler);
+
+			// Check whether we need to process more scrolls
+			if (hits.size() != 0) {
+				String nextScrollId = result.getString("_scroll_id");
+				try {
+					while (true) {
+						final String currentScroll = nextScrollId;
+						log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
+						JsonObject scrollResult = client.scroll("1m", currentScroll).sync();
+						JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
+						if (log.isTraceEnabled()) {
+							log.trace("Got response {" + scrollHits.encodePrettily() + "}");
+						}
+						if (scrollHits.size() != 0) {
+							processHits(scrollHits, hitHandler);
+							// Update the scrollId for the next fetch
+							nextScrollId = scrollResult.getString("_scroll_id");
+							if (log.isDebugEnabled()) {
+								log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
 							}
+						} else {
+							// The scroll yields no more data. We are done
+							break;
 						}
-					} finally {
-						// Clearing used scroll in order to free memory in ES
-						client.clearScroll(nextScrollId).sync();
 					}
+				} finally {
+					// Clearing used scroll in order to free memory in ES
+					client.clearScroll(nextScrollId).sync();
 				}
-			} catch (HttpErrorException e) {
-				log.error("Error while loading version information from index {" + indexName + "}", e.toString());
-				log.error(e);
-				throw e;
 			}
-
-			return versions;
-		});
+		} catch (HttpErrorException e) {
+			log.error("Error while loading version information from index {" + indexName + "}", e.toString());
+			log.error(e);
+			throw e;
+		}
 	}
 
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
+	private void processHits(JsonArray hits, Consumer<JsonObject> hitHandler) {
 		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			String uuid = source.getString("uuid");
-			String version = source.getString("version");
-			versions.put(uuid, version);
+			hitHandler.accept(hits.getJsonObject(i));
 		}
 	}
 
+	/**
+	 * Return the document id of the search hit.
+	 * 
+	 * @param hit
+	 * @return
+	 */
+	protected String getDocumentId(JsonObject hit) {
+		return hit.getJsonObject("_source").getString("uuid");
+	}
+
+	/**
+	 * Return the version of the document of the search hit.
+	 * 
+	 * @param hit
+	 * @return
+	 */
+	protected String getDocumentVersion(JsonObject hit) {
+		return hit.getJsonObject("_source").getString("version");
+	}
+
 	@Override
 	public Completable createIndex(CreateIndexEntry entry) {
 		String indexName = entry.getIndexName();
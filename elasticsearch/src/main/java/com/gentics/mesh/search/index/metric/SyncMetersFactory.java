@@ -1,22 +1,43 @@
 package com.gentics.mesh.search.index.metric;
 
+import static com.gentics.mesh.search.index.metric.SyncProgressMetric.DOCUMENTS_DIFFED;
+import static com.gentics.mesh.search.index.metric.SyncProgressMetric.DOCUMENTS_WRITTEN;
+import static com.gentics.mesh.search.index.metric.SyncProgressMetric.INDICES_PENDING;
+import static com.gentics.mesh.search.index.metric.SyncProgressMetric.INDICES_SYNCED;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.metric.MetricsService;
 
+/**
+ * Factory for the per type index sync meters. The factory also tracks the overall progress of the index sync.
+ */
 @Singleton
 public class SyncMetersFactory {
 	private final MetricsService registry;
 
 	private final Map<String, SyncMeters> meters = new ConcurrentHashMap<>();
 
+	private final AtomicLong pendingIndices;
+
+	private final AtomicLong syncedIndices;
+
+	private final AtomicLong diffedDocuments;
+
+	private final AtomicLong writtenDocuments;
+
 	@Inject
 	public SyncMetersFactory(MetricsService registry) {
 		this.registry = registry;
+		this.pendingIndices = registry.longGauge(INDICES_PENDING);
+		this.syncedIndices = registry.longGauge(INDICES_SYNCED);
+		this.diffedDocuments = registry.longGauge(DOCUMENTS_DIFFED);
+		this.writtenDocuments = registry.longGauge(DOCUMENTS_WRITTEN);
 	}
 
 	public SyncMeters createSyncMetric(String type) {
@@ -25,5 +46,56 @@ public class SyncMetersFactory {
 
 	public void reset() {
 		meters.values().forEach(SyncMeters::reset);
+		pendingIndices.set(0);
+		syncedIndices.set(0);
+		diffedDocuments.set(0);
+		writtenDocuments.set(0);
+	}
+
+	/**
+	 * Mark the start of the comparison of an index.
+	 */
+	public void indexStarted() {
+		pendingIndices.incrementAndGet();
+	}
+
+	/**
+	 * Mark the end of the comparison of an index. All requests for the index have been generated at this point.
+	 */
+	public void indexSynced() {
+		pendingIndices.decrementAndGet();
+		syncedIndices.incrementAndGet();
+	}
+
+	/**
+	 * Add the amount of documents which have been compared one by one.
+	 * 
+	 * @param amount
+	 */
+	public void documentsDiffed(long amount) {
+		diffedDocuments.addAndGet(amount);
+	}
+
+	/**
+	 * Mark a document as written to the index.
+	 */
+	public void documentWritten() {
+		writtenDocuments.incrementAndGet();
+	}
+
+	public long getPendingIndices() {
+		return pendingIndices.get();
+	}
+
+	public long getSyncedIndices() {
+		return syncedIndices.get();
+	}
+
+	public long getDiffedDocuments() {
+		return diffedDocuments.get();
+	}
+
+	public long getWrittenDocuments() {
+		return writtenDocuments.get();
 	}
 }
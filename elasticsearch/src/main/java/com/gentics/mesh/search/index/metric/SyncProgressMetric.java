@@ -0,0 +1,36 @@
+package com.gentics.mesh.search.index.metric;
+
+import com.gentics.mesh.metric.Metric;
+
+/**
+ * Metrics which track the overall progress of the index sync.
+ */
+public enum SyncProgressMetric implements Metric {
+
+	INDICES_PENDING("indices_pending", "Amount of indices which are currently being compared by the index sync."),
+
+	INDICES_SYNCED("indices_synced", "Amount of indices which have been compared by the index sync."),
+
+	DOCUMENTS_DIFFED("documents_diffed", "Amount of documents which have been compared one by one by the index sync."),
+
+	DOCUMENTS_WRITTEN("documents_written", "Amount of documents which have been inserted, updated or deleted by the index sync.");
+
+	private final String key;
+
+	private final String description;
+
+	private SyncProgressMetric(String key, String description) {
+		this.key = key;
+		this.description = description;
+	}
+
+	@Override
+	public String key() {
+		return "mesh_index_sync_" + key;
+	}
+
+	@Override
+	public String description() {
+		return description;
+	}
+}
@@ -19,6 +19,9 @@ import javax.inject.Singleton;
 import org.apache.commons.lang3.NotImplementedException;
 import org.jsoup.Jsoup;
 
+import com.gentics.mesh.cache.SearchDocumentCache;
+import com.gentics.mesh.cache.SearchDocumentCacheEntry;
+import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
@@ -75,9 +78,12 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 
 	private final MeshOptions options;
 
+	private final SearchDocumentCache documentCache;
+
 	@Inject
-	public NodeContainerTransformer(MeshOptions options) {
+	public NodeContainerTransformer(MeshOptions options, SearchDocumentCache documentCache) {
 		this.options = options;
+		this.documentCache = documentCache;
 	}
 
 	/**
@@ -485,7 +491,9 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	}
 
 	/**
-	 * Transform the role to the document which can be stored in ES.
+	 * Transform the role to the document which can be stored in ES. The branch independent part of the document will be loaded from the
+	 * {@link SearchDocumentCache} so that the fields of a container are only transformed once for all branches. The version of the document is cached
+	 * within the same entry.
 	 * 
 	 * @param container
 	 * @param branchUuid
@@ -494,6 +502,42 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	 */
 	public JsonObject toDocument(NodeGraphFieldContainer container, String branchUuid, ContainerType type) {
 		Node node = container.getParentNode();
+		JsonObject document;
+		String version;
+		if (documentCache.isDisabled()) {
+			document = toBranchIndependentDocument(container, node, type);
+			version = generateVersion(container, branchUuid, type);
+		} else {
+			SearchDocumentCacheEntry entry = documentCache.get(createDocumentCacheKey(container, node, type),
+				key -> new SearchDocumentCacheEntry(toBranchIndependentDocument(container, node, type)));
+			document = entry.getDocument().copy();
+			// The version only depends on elements which are part of the key and the branch
+			version = entry.getVersion(branchUuid, uuid -> generateVersion(container, uuid, type));
+		}
+
+		// The basenode has no parent.
+		Node parentNode = node.getParentNode(branchUuid);
+		if (parentNode != null) {
+			addParentNodeInfo(document, parentNode);
+		}
+		document.put(VERSION_KEY, version);
+		if (log.isTraceEnabled()) {
+			String json = document.toString();
+			log.trace("Search index json:");
+			log.trace(json);
+		}
+		return document;
+	}
+
+	/**
+	 * Create the part of the document which does not depend on the branch.
+	 * 
+	 * @param container
+	 * @param node
+	 * @param type
+	 * @return
+	 */
+	private JsonObject toBranchIndependentDocument(NodeGraphFieldContainer container, Node node, ContainerType type) {
 		JsonObject document = new JsonObject();
 		document.put("uuid", node.getUuid());
 		addUser(document, "editor", container.getEditor());
@@ -507,29 +551,53 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 		addTagFamilies(document, node.getTags(node.getProject().getLatestBranch()));
 		addPermissionInfo(document, node, type);
 
-		// The basenode has no parent.
-		if (node.getParentNode(branchUuid) != null) {
-			addParentNodeInfo(document, node.getParentNode(branchUuid));
-		}
-
 		String language = container.getLanguageTag();
 		document.put("language", language);
 		addSchema(document, container.getSchemaContainerVersion());
 
 		addFields(document, "fields", container, container.getSchemaContainerVersion().getSchema().getFields());
-		if (log.isTraceEnabled()) {
-			String json = document.toString();
-			log.trace("Search index json:");
-			log.trace(json);
-		}
 
 		// Add display field value
 		JsonObject displayField = new JsonObject();
 		displayField.put("key", container.getSchemaContainerVersion().getSchema().getDisplayField());
 		displayField.put("value", container.getDisplayFieldValue());
 		document.put("displayField", displayField);
-		document.put(VERSION_KEY, generateVersion(container, branchUuid, type));
 		return document;
 	}
 
+	/**
+	 * Create the key for the {@link SearchDocumentCache}. The key contains the element versions of all elements which contribute to the branch
+	 * independent part of the document. Tags are loaded from the latest branch, thus the latest branch is part of the key.
+	 * 
+	 * @param container
+	 * @param node
+	 * @param type
+	 * @return
+	 */
+	private String createDocumentCacheKey(NodeGraphFieldContainer container, Node node, ContainerType type) {
+		Project project = node.getProject();
+		Branch latestBranch = project.getLatestBranch();
+
+		StringBuilder builder = new StringBuilder();
+		builder.append(container.getUuid());
+		builder.append("|");
+		builder.append(type.name());
+		builder.append("|");
+		builder.append(container.getElementVersion());
+		builder.append("|");
+		builder.append(node.getElementVersion());
+		builder.append("|");
+		builder.append(project.getElementVersion());
+		builder.append("|");
+		builder.append(latestBranch.getUuid());
+		builder.append("|");
+		builder.append(container.getSchemaContainerVersion().getElementVersion());
+		for (Tag tag : node.getTags(latestBranch)) {
+			builder.append("|");
+			builder.append(tag.getElementVersion());
+			builder.append(tag.getTagFamily().getElementVersion());
+		}
+		return builder.toString();
+	}
+
 }
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,7 +40,6 @@ import com.gentics.mesh.core.data.search.context.GenericEntryContext;
 import com.gentics.mesh.core.data.search.context.MoveEntryContext;
 import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.schema.Schema;
@@ -50,16 +50,15 @@ import com.gentics.mesh.graphdb.spi.Transactional;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
+import com.gentics.mesh.search.index.sync.BucketDigests;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
-import io.reactivex.functions.Action;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -230,101 +229,152 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 					.flatMap(branch -> branch.findActiveSchemaVersions().stream()
 						.flatMap(version -> Stream.of(DRAFT, PUBLISHED)
 							.map(type -> diffAndSync(project, branch, version, type)))))
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
+				.collect(Collectors.collectingAndThen(Collectors.toList(), this::mergeSyncs));
 		}));
 	}
 
 	/**
+	 * Load the bucket digests of the containers of the given schema version. The digests retain the versions of the containers up to
+	 * {@link #ES_SYNC_MAX_RETAINED_VERSIONS} per index.
 	 *
 	 * @param branch
 	 * @param version
 	 * @param type
-	 * @return indexName -> documentName -> NodeGraphFieldContainer
+	 * @return indexName -> digests
 	 */
-	private Map<String, Map<String, NodeGraphFieldContainer>> loadVersionsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type) {
+	private Map<String, BucketDigests> loadDigestsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type) {
 		return db.tx(() -> {
 			String branchUuid = branch.getUuid();
 			List<String> indexLanguages = version.getSchema().findOverriddenSearchLanguages().collect(Collectors.toList());
+			Map<String, BucketDigests> digests = new HashMap<>();
+			version.getFieldContainers(branchUuid)
+				.filter(c -> c.isType(type, branchUuid))
+				.forEach(c -> digests.computeIfAbsent(composeIndexName(branch, version, type, indexLanguages, c),
+					key -> new BucketDigests(BucketDigests.DEFAULT_PREFIX_LENGTH, ES_SYNC_MAX_RETAINED_VERSIONS))
+					.add(composeDocumentId(c), generateVersion(c, branchUuid, type)));
+			return digests;
+		});
+	}
 
-			return version.getFieldContainers(branchUuid)
+	/**
+	 * Load the versions of the containers of the given schema version which are accepted by the filter of their index.
+	 *
+	 * @param branch
+	 * @param version
+	 * @param type
+	 * @param filters
+	 *            Document id filters per index
+	 * @return indexName -> digests which retain the versions of the accepted containers
+	 */
+	private Map<String, BucketDigests> loadVersionsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type,
+		Map<String, Predicate<String>> filters) {
+		return db.tx(() -> {
+			String branchUuid = branch.getUuid();
+			List<String> indexLanguages = version.getSchema().findOverriddenSearchLanguages().collect(Collectors.toList());
+			Map<String, BucketDigests> digests = new HashMap<>();
+			version.getFieldContainers(branchUuid)
 				.filter(c -> c.isType(type, branchUuid))
-				.collect(Collectors.groupingBy(content -> {
-					String languageTag = content.getLanguageTag();
-					return NodeGraphFieldContainer.composeIndexName(
-							branch.getProject().getUuid(),
-							branchUuid,
-							version.getUuid(),
-							type,
-							indexLanguages.contains(languageTag)
-								? languageTag
-								: null
-						);
-					},
-					Collectors.toMap(c -> c.getParentNode().getUuid() + "-" + c.getLanguageTag(), Function.identity())
-				));
+				.forEach(c -> {
+					String indexName = composeIndexName(branch, version, type, indexLanguages, c);
+					Predicate<String> filter = filters.get(indexName);
+					String documentId = composeDocumentId(c);
+					if (filter != null && filter.test(documentId)) {
+						digests.computeIfAbsent(indexName, key -> new BucketDigests(BucketDigests.DEFAULT_PREFIX_LENGTH, Integer.MAX_VALUE))
+							.add(documentId, generateVersion(c, branchUuid, type));
+					}
+				});
+			return digests;
 		});
 	}
 
+	/**
+	 * Load the container which is stored in the document with the given id.
+	 *
+	 * @param documentId
+	 * @param branchUuid
+	 * @param type
+	 * @return Found container or null if the node or container no longer exists
+	 */
+	private NodeGraphFieldContainer loadContainer(String documentId, String branchUuid, ContainerType type) {
+		// The id consists of the node uuid and the language tag (see #composeDocumentId)
+		int separator = documentId.indexOf('-');
+		Node node = elementLoader().apply(documentId.substring(0, separator));
+		return node == null ? null : node.getGraphFieldContainer(documentId.substring(separator + 1), branchUuid, type);
+	}
+
+	private String composeIndexName(Branch branch, SchemaContainerVersion version, ContainerType type, List<String> indexLanguages,
+		NodeGraphFieldContainer container) {
+		String languageTag = container.getLanguageTag();
+		return NodeGraphFieldContainer.composeIndexName(
+			branch.getProject().getUuid(),
+			branch.getUuid(),
+			version.getUuid(),
+			type,
+			indexLanguages.contains(languageTag)
+				? languageTag
+				: null);
+	}
+
+	private String composeDocumentId(NodeGraphFieldContainer container) {
+		return container.getParentNode().getUuid() + "-" + container.getLanguageTag();
+	}
+
 	/**
 	 * We need to override the default method since the UUID alone is not enough to id a document in the node index. We also need to append the language.
 	 */
 	@Override
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			// The id contains the UUID + language
-			String uuidAndLang = hit.getString("_id");
-			String version = source.getString("version");
-			versions.put(uuidAndLang, version);
-		}
+	protected String getDocumentId(JsonObject hit) {
+		// The id contains the UUID + language
+		return hit.getString("_id");
 	}
 
 	private Flowable<SearchRequest> diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type) {
 		return Flowable.defer(() -> {
-			Map<String, Map<String, NodeGraphFieldContainer>> sourceNodesPerIndex = loadVersionsFromGraph(branch, version, type);
-			return Flowable.fromIterable(getIndexNames(project, branch, version, type))
-				.flatMap(indexName -> loadVersionsFromIndex(indexName).flatMapPublisher(sinkVersions -> {
-				log.info("Handling index sync on handler {" + getClass().getName() + "}");
-				Map<String, NodeGraphFieldContainer> sourceNodes = sourceNodesPerIndex.getOrDefault(indexName, Collections.emptyMap());
-				String branchUuid = branch.getUuid();
-
-				Map<String, String> sourceVersions = db.tx(() -> sourceNodes.entrySet().stream()
-					.collect(Collectors.toMap(Map.Entry::getKey, x -> generateVersion(x.getValue(), branchUuid, type))));
-
-				// 3. Diff the maps
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
-					return Flowable.empty();
+			log.info("Handling index sync on handler {" + getClass().getName() + "}");
+			Map<String, BucketDigests> sourceDigestsPerIndex = loadDigestsFromGraph(branch, version, type);
+
+			// 1. Compare the bucket digests of each index
+			Map<String, Set<String>> bucketsPerIndex = new HashMap<>();
+			// Filters of the indices which were too large to retain the versions
+			Map<String, Predicate<String>> filters = new HashMap<>();
+			for (String indexName : getIndexNames(project, branch, version, type)) {
+				BucketDigests sourceDigests = sourceDigestsPerIndex.getOrDefault(indexName, new BucketDigests());
+				Set<String> buckets = sourceDigests.differingBuckets(loadDigestsFromIndex(indexName));
+				if (buckets.isEmpty()) {
+					log.info("No diff detected. Index {" + indexName + "} is in sync.");
+					syncMetersFactory.indexStarted();
+					syncMetersFactory.indexSynced();
+				} else {
+					log.info("Found {" + buckets.size() + "} differing buckets with {" + sourceDigests.documentCount(buckets) + "} containers on index {"
+						+ indexName + "}");
+					bucketsPerIndex.put(indexName, buckets);
+					if (!sourceDigests.hasVersions()) {
+						filters.put(indexName, sourceDigests.filter(buckets));
+					}
 				}
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
-
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-				log.info("Pending updates on {" + indexName + "}:" + needUpdateInEs.size());
-
-				meters.getInsertMeter().addPending(needInsertionInES.size());
-				meters.getDeleteMeter().addPending(needRemovalInES.size());
-				meters.getUpdateMeter().addPending(needUpdateInEs.size());
-
-				io.reactivex.functions.Function<Action, io.reactivex.functions.Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(sourceNodes.get(uuid), branchUuid, type));
-					return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
-				};
-
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
-
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
-
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
+			}
+			if (bucketsPerIndex.isEmpty()) {
+				return Flowable.empty();
+			}
 
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-			}));
+			// 2. Diff the differing buckets. The versions of indices which were too large to retain them are loaded again in a single pass.
+			Supplier<Map<String, BucketDigests>> reloadedDigestsPerIndex = Suppliers.memoize(() -> filters.isEmpty()
+				? Collections.<String, BucketDigests>emptyMap()
+				: loadVersionsFromGraph(branch, version, type, filters));
+			String branchUuid = branch.getUuid();
+			return Flowable.fromIterable(bucketsPerIndex.keySet())
+				.concatMap(indexName -> trackIndexSync(Flowable.defer(() -> {
+					BucketDigests sourceDigests = sourceDigestsPerIndex.getOrDefault(indexName, new BucketDigests());
+					return diffBuckets(indexName, bucketsPerIndex.get(indexName), sourceDigests, keys -> {
+						BucketDigests versions = sourceDigests.hasVersions()
+							? sourceDigests
+							: reloadedDigestsPerIndex.get().getOrDefault(indexName, new BucketDigests());
+						return versions.takeVersions(keys);
+					}, documentId -> {
+						NodeGraphFieldContainer container = loadContainer(documentId, branchUuid, type);
+						return container == null ? null : getTransformer().toDocument(container, branchUuid, type);
+					});
+				})), 1);
 		});
 	}
 
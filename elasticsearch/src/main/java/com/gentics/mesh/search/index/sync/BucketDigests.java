@@ -0,0 +1,220 @@
+package com.gentics.mesh.search.index.sync;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Digests of document versions which are grouped into buckets. The bucket of a document is determined by the leading characters of the document id.
+ * Since the document ids start with a random uuid the documents are evenly distributed across the buckets.
+ *
+ * The digest of a bucket is the sum of the hashes of all id/version pairs within the bucket. It does not depend on the order in which the documents were
+ * added and can thus be computed while streaming the documents from the graph and the search index. Only the buckets with differing digests need to be
+ * compared document by document.
+ *
+ * The digests can optionally retain the versions of the added documents up to a limit. The versions of the differing buckets can then be compared without
+ * computing them again. The retained versions are dropped once the limit is exceeded.
+ */
+public class BucketDigests {
+
+	/**
+	 * Amount of leading id characters which form the bucket key. Three hex characters result in 4096 buckets.
+	 */
+	public static final int DEFAULT_PREFIX_LENGTH = 3;
+
+	private static final HashFunction HASH = Hashing.murmur3_128();
+
+	private final int prefixLength;
+
+	private final Map<String, Bucket> buckets = new HashMap<>();
+
+	private int maxRetainedVersions;
+
+	private int retainedVersions = 0;
+
+	public BucketDigests() {
+		this(DEFAULT_PREFIX_LENGTH);
+	}
+
+	public BucketDigests(int prefixLength) {
+		this(prefixLength, 0);
+	}
+
+	/**
+	 * Create new digests which retain the versions of the added documents.
+	 *
+	 * @param prefixLength
+	 * @param maxRetainedVersions
+	 *            Maximum amount of versions which will be retained. No versions will be retained if the limit is exceeded.
+	 */
+	public BucketDigests(int prefixLength, int maxRetainedVersions) {
+		this.prefixLength = prefixLength;
+		this.maxRetainedVersions = maxRetainedVersions;
+	}
+
+	/**
+	 * Return the key of the bucket to which the document belongs.
+	 *
+	 * @param documentId
+	 * @return
+	 */
+	public String bucketOf(String documentId) {
+		return documentId.length() <= prefixLength ? documentId : documentId.substring(0, prefixLength);
+	}
+
+	/**
+	 * Add the document to the digest of its bucket.
+	 *
+	 * @param documentId
+	 * @param version
+	 */
+	public void add(String documentId, String version) {
+		long hash = HASH.newHasher()
+			.putString(documentId, UTF_8)
+			.putByte((byte) 0)
+			.putString(String.valueOf(version), UTF_8)
+			.hash()
+			.asLong();
+		Bucket bucket = buckets.computeIfAbsent(bucketOf(documentId), key -> new Bucket());
+		bucket.add(hash);
+		if (maxRetainedVersions > 0) {
+			if (retainedVersions < maxRetainedVersions) {
+				bucket.retain(documentId, version);
+				retainedVersions++;
+			} else {
+				dropVersions();
+			}
+		}
+	}
+
+	private void dropVersions() {
+		maxRetainedVersions = 0;
+		retainedVersions = 0;
+		for (Bucket bucket : buckets.values()) {
+			bucket.versions = null;
+		}
+	}
+
+	/**
+	 * Check whether the versions of all added documents have been retained.
+	 *
+	 * @return
+	 */
+	public boolean hasVersions() {
+		return maxRetainedVersions > 0;
+	}
+
+	/**
+	 * Remove the retained versions of the given buckets from the digests and return them.
+	 *
+	 * @param bucketKeys
+	 * @return Map of document id to version
+	 */
+	public Map<String, String> takeVersions(Set<String> bucketKeys) {
+		Map<String, String> versions = new HashMap<>();
+		for (String key : bucketKeys) {
+			Bucket bucket = buckets.get(key);
+			if (bucket != null && bucket.versions != null) {
+				versions.putAll(bucket.versions);
+				retainedVersions -= bucket.versions.size();
+				bucket.versions = null;
+			}
+		}
+		return versions;
+	}
+
+	/**
+	 * Compare the digests with the given digests and return the keys of all buckets which differ.
+	 *
+	 * @param other
+	 * @return
+	 */
+	public Set<String> differingBuckets(BucketDigests other) {
+		Set<String> keys = new HashSet<>(buckets.keySet());
+		keys.addAll(other.buckets.keySet());
+		Set<String> differing = new HashSet<>();
+		for (String key : keys) {
+			if (!Bucket.equals(buckets.get(key), other.buckets.get(key))) {
+				differing.add(key);
+			}
+		}
+		return differing;
+	}
+
+	/**
+	 * Return a filter which accepts the ids of the documents which belong to one of the given buckets.
+	 *
+	 * @param bucketKeys
+	 * @return
+	 */
+	public Predicate<String> filter(Set<String> bucketKeys) {
+		if (bucketKeys.isEmpty()) {
+			return id -> false;
+		}
+		Set<String> keys = Collections.unmodifiableSet(new HashSet<>(bucketKeys));
+		return id -> keys.contains(bucketOf(id));
+	}
+
+	/**
+	 * Return the total amount of documents which have been added.
+	 *
+	 * @return
+	 */
+	public long documentCount() {
+		long count = 0;
+		for (Bucket bucket : buckets.values()) {
+			count += bucket.count;
+		}
+		return count;
+	}
+
+	/**
+	 * Return the amount of documents within the given buckets.
+	 *
+	 * @param bucketKeys
+	 * @return
+	 */
+	public long documentCount(Set<String> bucketKeys) {
+		long count = 0;
+		for (String key : bucketKeys) {
+			Bucket bucket = buckets.get(key);
+			if (bucket != null) {
+				count += bucket.count;
+			}
+		}
+		return count;
+	}
+
+	private static class Bucket {
+		private long count;
+		private long digest;
+		private Map<String, String> versions;
+
+		private void add(long hash) {
+			count++;
+			digest += hash;
+		}
+
+		private void retain(String documentId, String version) {
+			if (versions == null) {
+				versions = new HashMap<>();
+			}
+			versions.put(documentId, version);
+		}
+
+		private static boolean equals(Bucket a, Bucket b) {
+			if (a == null || b == null) {
+				return a == b;
+			}
+			return a.count == b.count && a.digest == b.digest;
+		}
+	}
+}
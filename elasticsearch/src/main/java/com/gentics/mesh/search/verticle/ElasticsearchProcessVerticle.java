@@ -25,6 +25,7 @@ import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.ElasticsearchResponseErrorStreamable;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
+import com.gentics.mesh.search.verticle.bulk.RequestSequencer;
 import com.gentics.mesh.search.verticle.eventhandler.MainEventHandler;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
 
@@ -54,6 +55,8 @@ import io.vertx.reactivex.core.eventbus.MessageConsumer;
  *     <li>Bulk bulkable requests together</li>
  *     <li>Send request to elasticsearch</li>
  * </ol>
+ * <p>Up to {@link ElasticSearchOptions#getBulkConcurrency()} requests will be sent concurrently. Requests which modify the same document and
+ * non-bulkable requests will be kept in order by the {@link RequestSequencer}.</p>
  */
 public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private static final Logger log = LoggerFactory.getLogger(ElasticsearchProcessVerticle.class);
@@ -176,15 +179,16 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 			options.getBulkLimit(),
 			options.getBulkLengthLimit()
 		);
+		RequestSequencer sequencer = new RequestSequencer();
 		requests
 			.compose(this::bufferEvents)
 			.concatMap(this::generateRequests, 1)
 			.lift(bulker)
-			.concatMap(request ->
+			.flatMap(request -> sequencer.sequence(request, () ->
 				this.sendRequest(request)
 				// To make sure the subscription stays alive
 				.onErrorResumeNext(Flowable.empty())
-			, 1)
+			), Math.max(1, options.getBulkConcurrency()))
 			// To make sure the subscription stays alive
 			.doOnError(err -> log.info("Error at end of ES process chain", err))
 			.retry()
@@ -0,0 +1,112 @@
+package com.gentics.mesh.search.verticle.bulk;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.reactivestreams.Publisher;
+
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.subjects.CompletableSubject;
+
+/**
+ * Keeps the order of search requests which are sent to Elasticsearch concurrently.
+ * The execution of a request will be delayed until the following conditions are met:
+ * <ul>
+ *     <li>All previously sequenced requests which modify one of the documents of the request have terminated</li>
+ *     <li>All previously sequenced non-bulkable requests have terminated</li>
+ *     <li>For non-bulkable requests: All previously sequenced requests have terminated</li>
+ * </ul>
+ * Requests which modify different documents can thus be executed in parallel while non-bulkable requests (e.g. index creation) act as a barrier.
+ */
+public class RequestSequencer {
+
+	private final Map<String, CompletableSubject> pendingDocuments = new HashMap<>();
+	private final Set<CompletableSubject> pendingRequests = new HashSet<>();
+	private CompletableSubject barrier;
+
+	/**
+	 * Returns a flowable which subscribes to the execution once all requests that the given request depends on have terminated.
+	 * This method must be called in the order in which the requests have been generated.
+	 *
+	 * @param request
+	 * @param execution
+	 *            Supplier of the execution of the request
+	 * @return
+	 */
+	public <T> Flowable<T> sequence(SearchRequest request, Callable<? extends Publisher<? extends T>> execution) {
+		CompletableSubject done = CompletableSubject.create();
+		Collection<String> documentKeys = documentKeys(request);
+		List<Completable> dependencies = register(documentKeys, done);
+		return Completable.merge(dependencies)
+			.andThen(Flowable.<T>defer(execution))
+			.doFinally(() -> release(documentKeys, done));
+	}
+
+	/**
+	 * Returns the amount of requests that have been sequenced but not yet terminated.
+	 * @return
+	 */
+	public synchronized int pendingRequests() {
+		return pendingRequests.size();
+	}
+
+	private synchronized List<Completable> register(Collection<String> documentKeys, CompletableSubject done) {
+		List<Completable> dependencies = new ArrayList<>();
+		if (barrier != null) {
+			dependencies.add(barrier);
+		}
+		if (documentKeys == null) {
+			dependencies.addAll(pendingRequests);
+			barrier = done;
+		} else {
+			for (String key : documentKeys) {
+				CompletableSubject previous = pendingDocuments.put(key, done);
+				if (previous != null && previous != done) {
+					dependencies.add(previous);
+				}
+			}
+		}
+		pendingRequests.add(done);
+		return dependencies;
+	}
+
+	private void release(Collection<String> documentKeys, CompletableSubject done) {
+		synchronized (this) {
+			pendingRequests.remove(done);
+			if (barrier == done) {
+				barrier = null;
+			}
+			if (documentKeys != null) {
+				for (String key : documentKeys) {
+					pendingDocuments.remove(key, done);
+				}
+			}
+		}
+		done.onComplete();
+	}
+
+	/**
+	 * Returns the keys of the documents which are modified by the request or null if the request is not bulkable.
+	 * @param request
+	 * @return
+	 */
+	private Collection<String> documentKeys(SearchRequest request) {
+		if (request instanceof Bulkable) {
+			Collection<String> keys = ((Bulkable) request).documentKeys();
+			return keys == null ? Collections.emptySet() : new HashSet<>(keys);
+		} else {
+			return null;
+		}
+	}
+}
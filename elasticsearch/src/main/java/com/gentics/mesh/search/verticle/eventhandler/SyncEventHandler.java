@@ -108,15 +108,19 @@ public class SyncEventHandler implements EventHandler {
 		return Collections.singletonList(INDEX_SYNC_REQUEST);
 	}
 
+	/**
+	 * Sync the indices of all handlers. The handlers are processed one after another. Each handler compares up to
+	 * {@link com.gentics.mesh.etc.config.search.ElasticSearchOptions#getSyncConcurrency()} of its indices in parallel.
+	 */
 	private Flowable<SearchRequest> syncIndices() {
 		return Flowable.fromIterable(registry.get().getHandlers())
-			.flatMap(handler ->
+			.concatMap(handler ->
 				handler.init()
 					.doOnSubscribe(ignore -> log.debug("Init for {}", handler.getClass()))
 					.doOnComplete(() -> log.debug("Init for {} complete", handler.getClass()))
 				.andThen(handler.syncIndices()
 					.doOnSubscribe(ignore -> log.debug("Syncing for {}", handler.getClass()))
-			));
+			), 1);
 	}
 
 	private Flowable<SearchRequest> purgeOldIndices() {
@@ -0,0 +1,80 @@
+package com.gentics.mesh.search.index.sync;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+public class BucketDigestsTest {
+
+	@Test
+	public void testDigestIsOrderIndependent() {
+		BucketDigests source = new BucketDigests();
+		source.add("abc1", "v1");
+		source.add("abc2", "v2");
+		source.add("def1", "v1");
+
+		BucketDigests sink = new BucketDigests();
+		sink.add("def1", "v1");
+		sink.add("abc2", "v2");
+		sink.add("abc1", "v1");
+
+		assertThat(source.differingBuckets(sink)).isEmpty();
+		assertThat(source.documentCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void testDifferingBuckets() {
+		BucketDigests source = new BucketDigests();
+		source.add("abc1", "v1");
+		source.add("abc2", "v2");
+		source.add("def1", "v1");
+		source.add("fed1", "v1");
+
+		BucketDigests sink = new BucketDigests();
+		// Changed version
+		sink.add("abc1", "v2");
+		sink.add("abc2", "v2");
+		// Missing in source
+		sink.add("123a", "v1");
+		// In sync
+		sink.add("def1", "v1");
+
+		assertThat(source.differingBuckets(sink)).containsOnly("abc", "123", "fed");
+		assertThat(sink.differingBuckets(source)).containsOnly("abc", "123", "fed");
+		assertThat(source.documentCount(new HashSet<>(Arrays.asList("abc", "fed")))).isEqualTo(3);
+	}
+
+	@Test
+	public void testRetainedVersions() {
+		BucketDigests digests = new BucketDigests(BucketDigests.DEFAULT_PREFIX_LENGTH, 3);
+		digests.add("abc1", "v1");
+		digests.add("abc2", "v2");
+		digests.add("def1", "v1");
+		assertThat(digests.hasVersions()).isTrue();
+		assertThat(digests.takeVersions(new HashSet<>(Arrays.asList("abc")))).containsOnlyKeys("abc1", "abc2").containsEntry("abc2", "v2");
+		assertThat(digests.takeVersions(new HashSet<>(Arrays.asList("abc")))).isEmpty();
+
+		// Exceeding the limit drops all retained versions
+		digests.add("def2", "v1");
+		digests.add("fed1", "v1");
+		assertThat(digests.hasVersions()).isTrue();
+		digests.add("fed2", "v1");
+		assertThat(digests.hasVersions()).isFalse();
+		assertThat(digests.takeVersions(new HashSet<>(Arrays.asList("def")))).isEmpty();
+		assertThat(digests.documentCount()).isEqualTo(6);
+	}
+
+	@Test
+	public void testFilter() {
+		BucketDigests digests = new BucketDigests();
+		Predicate<String> filter = digests.filter(new HashSet<>(Arrays.asList("abc", "def")));
+		assertThat(filter.test("abc123-en")).isTrue();
+		assertThat(filter.test("def")).isTrue();
+		assertThat(filter.test("abd123-en")).isFalse();
+		assertThat(digests.filter(new HashSet<>()).test("abc")).isFalse();
+	}
+}
@@ -0,0 +1,92 @@
+package com.gentics.mesh.search.verticle;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.search.verticle.bulk.RequestSequencer;
+
+import io.reactivex.Flowable;
+import io.reactivex.subjects.CompletableSubject;
+
+public class RequestSequencerTest {
+
+	private RequestSequencer sequencer;
+	private List<String> started;
+
+	@Before
+	public void setUp() {
+		sequencer = new RequestSequencer();
+		started = new ArrayList<>();
+	}
+
+	private DeleteDocumentRequest delete(String id) {
+		return new DeleteDocumentRequest("index", "mesh-index", id, ComplianceMode.ES_7);
+	}
+
+	/**
+	 * Sequences the request and returns a subject which completes the execution of the request.
+	 */
+	private CompletableSubject sequence(String name, SearchRequest request) {
+		CompletableSubject execution = CompletableSubject.create();
+		sequencer.sequence(request, () -> execution
+			.doOnSubscribe(ignore -> started.add(name))
+			.andThen(Flowable.just(request)))
+			.test();
+		return execution;
+	}
+
+	@Test
+	public void testDifferentDocumentsRunConcurrently() {
+		sequence("a", new BulkRequest(delete("1"), delete("2")));
+		sequence("b", new BulkRequest(delete("3")));
+		assertThat(started).containsExactly("a", "b");
+	}
+
+	@Test
+	public void testSameDocumentIsOrdered() {
+		CompletableSubject first = sequence("a", new BulkRequest(delete("1"), delete("2")));
+		CompletableSubject second = sequence("b", new BulkRequest(delete("2")));
+		sequence("c", new BulkRequest(delete("2"), delete("3")));
+		sequence("d", new BulkRequest(delete("4")));
+		assertThat(started).containsExactly("a", "d");
+
+		first.onComplete();
+		assertThat(started).containsExactly("a", "d", "b");
+
+		second.onComplete();
+		assertThat(started).containsExactly("a", "d", "b", "c");
+	}
+
+	@Test
+	public void testNonBulkableRequestIsBarrier() {
+		CompletableSubject first = sequence("a", new BulkRequest(delete("1")));
+		CompletableSubject barrier = sequence("b", mock(SearchRequest.class));
+		sequence("c", new BulkRequest(delete("2")));
+		assertThat(started).containsExactly("a");
+
+		first.onComplete();
+		assertThat(started).containsExactly("a", "b");
+
+		barrier.onComplete();
+		assertThat(started).containsExactly("a", "b", "c");
+		assertThat(sequencer.pendingRequests()).isEqualTo(1);
+	}
+
+	@Test
+	public void testFailedRequestReleasesDependents() {
+		CompletableSubject first = sequence("a", new BulkRequest(delete("1")));
+		sequence("b", new BulkRequest(delete("1")));
+		first.onError(new RuntimeException("Request failed"));
+		assertThat(started).containsExactly("a", "b");
+	}
+}
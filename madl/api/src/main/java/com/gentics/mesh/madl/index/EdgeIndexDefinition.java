@@ -30,6 +30,13 @@ public interface EdgeIndexDefinition extends ElementIndexDefinition {
 	 */
 	boolean isIncludeInOut();
 
+	/**
+	 * Whether a dedicate index for out and in bound vertices should be created.
+	 * 
+	 * @return
+	 */
+	boolean isIncludeOutIn();
+
 	/**
 	 * Whether a dedicate index for out-bound vertices should be created.
 	 * 
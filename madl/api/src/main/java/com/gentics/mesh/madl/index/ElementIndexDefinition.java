@@ -18,6 +18,13 @@ public interface ElementIndexDefinition {
 	 */
 	boolean isUnique();
 
+	/**
+	 * Whether the index should keep the keys in order. Ordered indices can be used for range lookups.
+	 * 
+	 * @return
+	 */
+	boolean isOrdered();
+
 	/**
 	 * Return the fields which are part of the index.
 	 * 
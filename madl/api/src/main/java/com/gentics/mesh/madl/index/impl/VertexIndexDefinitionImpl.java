@@ -26,6 +26,7 @@ public class VertexIndexDefinitionImpl extends AbstractIndexDefinition implement
 			def.clazz = clazz;
 			def.name = name;
 			def.unique = unique;
+			def.ordered = ordered;
 			def.postfix = postfix;
 			def.fields = fields;
 			return def;
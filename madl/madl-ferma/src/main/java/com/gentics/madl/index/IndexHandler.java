@@ -1,5 +1,6 @@
 package com.gentics.madl.index;
 
+import java.util.Iterator;
 import java.util.List;
 
 import com.gentics.mesh.madl.field.FieldMap;
@@ -8,6 +9,7 @@ import com.gentics.mesh.madl.index.impl.EdgeIndexDefinitionImpl.EdgeIndexDefinit
 import com.gentics.mesh.madl.index.impl.VertexIndexDefinitionImpl.VertexIndexDefinitionBuilder;
 import com.syncleus.ferma.ElementFrame;
 import com.syncleus.ferma.VertexFrame;
+import com.tinkerpop.blueprints.Direction;
 
 public interface IndexHandler {
 
@@ -52,6 +54,42 @@ public interface IndexHandler {
 	 */
 	List<Object> edgeLookup(String edgeLabel, String indexPostfix, Object key);
 
+	/**
+	 * Perform a range lookup on the ordered edge index for the given edge label. The lookup returns the ids of the edges which are connected to the given
+	 * vertex. The edges are returned in the order of the ids of the vertices on the other side of the edges. Only edges which point to a vertex with an id
+	 * greater than the given after id will be returned. The {@code _outin} index is used for the {@link Direction#OUT} direction and the {@code _inout} index
+	 * for the {@link Direction#IN} direction.
+	 * 
+	 * @param edgeLabel
+	 * @param direction
+	 *            Direction of the edges from the point of view of the given vertex
+	 * @param vertexId
+	 *            Id of the vertex which is used to filter the edges
+	 * @param afterId
+	 *            Id (or string representation of the id) of the vertex after which the iteration should start. The iteration will start at the first edge
+	 *            when the value is null.
+	 * @return Lazy iterator over the found edge ids
+	 * @throws IllegalArgumentException
+	 *             if the after id does not represent a valid id
+	 */
+	Iterator<Object> edgeRangeLookup(String edgeLabel, Direction direction, Object vertexId, Object afterId);
+
+	/**
+	 * Perform a range lookup on an ordered composite vertex index. The index must contain two fields. The first field is used to filter the vertices and
+	 * the second field is used to determine the order.
+	 * 
+	 * @param classOfVertex
+	 *            Vertex class of the index
+	 * @param indexPostfix
+	 *            Postfix of the index
+	 * @param key
+	 *            Value of the first index field
+	 * @param after
+	 *            Value of the second index field after which the iteration should start. The iteration will start at the first vertex when the value is null.
+	 * @return Lazy iterator over the ids of the found vertices
+	 */
+	Iterator<Object> vertexRangeLookup(Class<?> classOfVertex, String indexPostfix, Object key, Object after);
+
 	/**
 	 * Add edge index for the given fields.
 	 * 
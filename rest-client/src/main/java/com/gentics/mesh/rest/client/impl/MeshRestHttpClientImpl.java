@@ -1478,6 +1478,12 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(GET, "/admin/debuginfo" + includeString, MeshBinaryResponse.class);
 	}
 
+	@Override
+	public MeshRequest<GenericMessageResponse> purgeImageCache(String sha512sum) {
+		Objects.requireNonNull(sha512sum, "sha512sum must not be null");
+		return prepareRequest(DELETE, "/admin/imagecache/" + sha512sum, GenericMessageResponse.class);
+	}
+
 	@Override
 	public MeshRequest<EmptyResponse> ready() {
 		return prepareRequest(GET, "/health/ready", EmptyResponse.class);
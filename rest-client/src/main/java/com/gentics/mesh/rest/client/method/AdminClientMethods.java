@@ -100,4 +100,13 @@ public interface AdminClientMethods {
 	 * @return
 	 */
 	MeshRequest<MeshBinaryResponse> debugInfo(String... include);
+
+	/**
+	 * Remove the cached image variants of the binary with the given hashsum from the image cache of the instance.
+	 * 
+	 * @param sha512sum
+	 *            Hashsum of the binary
+	 * @return
+	 */
+	MeshRequest<GenericMessageResponse> purgeImageCache(String sha512sum);
 }
@@ -0,0 +1,62 @@
+package com.gentics.mesh.core.rest.common;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Enum which contains the strategies which can be used to determine the total count of elements of a paged list. The strategies are referenced via their
+ * simple name in query parameters and in JSON.
+ */
+public enum CountStrategy {
+
+	/**
+	 * Determine the exact count by iterating over all elements.
+	 */
+	EXACT("exact"),
+
+	/**
+	 * Don't determine the count. The total count and page count will be -1.
+	 */
+	SKIP("skip"),
+
+	/**
+	 * Return the count which was cached by a previous request. The count may be outdated. The exact count will be determined if no count has been cached.
+	 */
+	ESTIMATE("estimate");
+
+	private String simpleName;
+
+	private CountStrategy(String simpleName) {
+		this.simpleName = simpleName;
+	}
+
+	/**
+	 * Return the human readable name of the strategy.
+	 * 
+	 * @return
+	 */
+	@JsonValue
+	public String getSimpleName() {
+		return simpleName;
+	}
+
+	/**
+	 * Convert the human readable name into a strategy.
+	 * 
+	 * @param name
+	 * @return Found strategy or null if the name is unknown
+	 */
+	@JsonCreator
+	public static CountStrategy valueOfName(String name) {
+		if (name == null) {
+			return null;
+		}
+		for (CountStrategy strategy : CountStrategy.values()) {
+			if (name.equalsIgnoreCase(strategy.getSimpleName())) {
+				return strategy;
+			}
+		}
+		return null;
+	}
+
+}
@@ -17,13 +17,21 @@ public class PagingMetaInfo {
 	private Long perPage;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of the pages which can be found for the given per page count.")
+	@JsonPropertyDescription("Number of the pages which can be found for the given per page count. The value will be -1 if the total count was not determined.")
 	private long pageCount;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of all elements which could be found.")
+	@JsonPropertyDescription("Number of all elements which could be found. The value will be -1 if the total count was not determined.")
 	private long totalCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Strategy which was used to determine the total count. The count of the estimate strategy may be outdated.")
+	private CountStrategy countStrategy;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Opaque cursor which can be passed via the 'after' query parameter to load the next page. The cursor is only set if a next page exists and the list supports cursor based paging.")
+	private String nextCursor;
+
 	public PagingMetaInfo() {
 	}
 
@@ -111,4 +119,44 @@ public class PagingMetaInfo {
 		return this;
 	}
 
+	/**
+	 * Return the strategy which was used to determine the total count.
+	 * 
+	 * @return
+	 */
+	public CountStrategy getCountStrategy() {
+		return countStrategy;
+	}
+
+	/**
+	 * Set the strategy which was used to determine the total count.
+	 * 
+	 * @param countStrategy
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setCountStrategy(CountStrategy countStrategy) {
+		this.countStrategy = countStrategy;
+		return this;
+	}
+
+	/**
+	 * Return the cursor which can be used to load the next page.
+	 * 
+	 * @return Cursor or null if there is no next page
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Set the cursor which can be used to load the next page.
+	 * 
+	 * @param nextCursor
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+		return this;
+	}
+
 }
@@ -16,6 +16,11 @@ public abstract class AbstractRestException extends RuntimeException {
 
 	private static final long serialVersionUID = 2209919403583173663L;
 
+	/**
+	 * Property which contains the delay in seconds after which the client may retry the request. The value will be returned via the Retry-After header.
+	 */
+	public static final String RETRY_AFTER_PROPERTY = "retryAfter";
+
 	protected HttpResponseStatus status;
 	protected String[] i18nParameters;
 	protected String i18nKey;
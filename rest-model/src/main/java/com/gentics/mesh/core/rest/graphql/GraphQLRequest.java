@@ -8,8 +8,8 @@ import io.vertx.core.json.JsonObject;
 
 public class GraphQLRequest implements RestModel {
 
-	@JsonProperty(required = true)
-	@JsonPropertyDescription("The actual GraphQL query.")
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The actual GraphQL query. The query can be omitted if a persisted query is referenced via the extensions.")
 	private String query;
 
 	@JsonProperty(required = false)
@@ -20,6 +20,10 @@ public class GraphQLRequest implements RestModel {
 	@JsonPropertyDescription("JSON object which contains the variables.")
 	private JsonObject variables;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("JSON object which contains the extensions of the request. The SHA-256 hash of a persisted query can be passed via persistedQuery.sha256Hash.")
+	private JsonObject extensions;
+
 	/**
 	 * Return the GraphQL query.
 	 * 
@@ -77,4 +81,24 @@ public class GraphQLRequest implements RestModel {
 		this.variables = variables;
 		return this;
 	}
+
+	/**
+	 * Return the request extensions.
+	 * 
+	 * @return
+	 */
+	public JsonObject getExtensions() {
+		return extensions;
+	}
+
+	/**
+	 * Set the request extensions.
+	 * 
+	 * @param extensions
+	 * @return Fluent API
+	 */
+	public GraphQLRequest setExtensions(JsonObject extensions) {
+		this.extensions = extensions;
+		return this;
+	}
 }
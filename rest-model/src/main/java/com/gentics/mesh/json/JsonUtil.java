@@ -4,6 +4,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -17,6 +19,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -160,11 +163,24 @@ public final class JsonUtil {
 	 * @throws GenericRestException
 	 */
 	public static <T> String toJson(T obj) throws GenericRestException {
+		return toJson(obj, false);
+	}
+
+	/**
+	 * Transform the given object into a JSON string.
+	 * 
+	 * @param obj
+	 * @param minify
+	 *            Whether the JSON should be written without any whitespace
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> String toJson(T obj, boolean minify) throws GenericRestException {
 		if (obj instanceof JSONObject) {
 			return ((JSONObject) obj).toString();
 		}
 		try {
-			return defaultMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+			return writer(minify).writeValueAsString(obj);
 		} catch (IOException e) {
 			// TODO i18n
 			String message = "Could not generate json from object";
@@ -173,6 +189,31 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Serialize the given object and write the JSON directly into the output stream. The stream will not be closed.
+	 * 
+	 * @param obj
+	 * @param out
+	 * @param minify
+	 *            Whether the JSON should be written without any whitespace
+	 * @throws GenericRestException
+	 */
+	public static <T> void writeJson(T obj, OutputStream out, boolean minify) throws GenericRestException {
+		try {
+			if (obj instanceof JSONObject) {
+				out.write(((JSONObject) obj).toString().getBytes(StandardCharsets.UTF_8));
+			} else {
+				writer(minify).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, obj);
+			}
+		} catch (IOException e) {
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, "Could not generate json from object", e);
+		}
+	}
+
+	private static ObjectWriter writer(boolean minify) {
+		return minify ? defaultMapper.writer() : defaultMapper.writerWithDefaultPrettyPrinter();
+	}
+
 	/**
 	 * Transform the given JSON content back into a POJO.
 	 * 
@@ -15,6 +15,11 @@ public interface GenericParameters extends ParameterProvider {
 	 */
 	public static final String ETAG_PARAM_KEY = "etag";
 
+	/**
+	 * Query parameter key: {@value #PRETTY_PARAM_KEY}
+	 */
+	public static final String PRETTY_PARAM_KEY = "pretty";
+
 	/**
 	 * Return the fields which should be included in the response.
 	 * 
@@ -63,4 +68,28 @@ public interface GenericParameters extends ParameterProvider {
 		setParameter(ETAG_PARAM_KEY, String.valueOf(includeEtag));
 		return this;
 	}
+
+	/**
+	 * Return whether the JSON of the response should be pretty printed.
+	 * 
+	 * @return Flag or null if the parameter has not been set
+	 */
+	default Boolean getPretty() {
+		String value = getParameter(PRETTY_PARAM_KEY);
+		if (value != null) {
+			return Boolean.valueOf(value);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Set the flag which controls whether the JSON of the response should be pretty printed.
+	 * 
+	 * @param pretty
+	 */
+	default GenericParameters setPretty(boolean pretty) {
+		setParameter(PRETTY_PARAM_KEY, String.valueOf(pretty));
+		return this;
+	}
 }
@@ -1,6 +1,7 @@
 package com.gentics.mesh.parameter;
 
 import com.gentics.mesh.core.rest.SortOrder;
+import com.gentics.mesh.core.rest.common.CountStrategy;
 import com.gentics.mesh.util.NumberUtils;
 
 public interface PagingParameters extends ParameterProvider {
@@ -9,6 +10,13 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String AFTER_PARAMETER_KEY = "after";
+	public static final String COUNT_PARAMETER_KEY = "count";
+
+	/**
+	 * Cursor which starts keyset paging with the first element.
+	 */
+	public static final String START_CURSOR = "start";
 
 	public static final int DEFAULT_PAGE = 1;
 
@@ -56,6 +64,52 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return the cursor after which the page should start. The cursor is returned by previous list responses via
+	 * {@link com.gentics.mesh.core.rest.common.PagingMetaInfo#getNextCursor()}. The first page can be loaded via {@link #START_CURSOR}. The page parameter
+	 * will be ignored when a cursor has been set.
+	 * 
+	 * @return Cursor or null if no cursor was set
+	 */
+	default String getAfter() {
+		return getParameter(AFTER_PARAMETER_KEY);
+	}
+
+	/**
+	 * Set the cursor after which the page should start.
+	 * 
+	 * @param after
+	 *            Cursor which was returned by the previous page
+	 * @return Fluent API
+	 */
+	default PagingParameters setAfter(String after) {
+		setParameter(AFTER_PARAMETER_KEY, after);
+		return this;
+	}
+
+	/**
+	 * Return the strategy which should be used to determine the total count of elements. Determining the exact count requires all elements to be loaded.
+	 * 
+	 * @return Strategy which is {@link CountStrategy#EXACT} by default
+	 */
+	default CountStrategy getCountStrategy() {
+		CountStrategy strategy = CountStrategy.valueOfName(getParameter(COUNT_PARAMETER_KEY));
+		return strategy == null ? CountStrategy.EXACT : strategy;
+	}
+
+	/**
+	 * Set the strategy which should be used to determine the total count of elements.
+	 * 
+	 * @param strategy
+	 * @return Fluent API
+	 */
+	default PagingParameters setCountStrategy(CountStrategy strategy) {
+		if (strategy != null) {
+			setParameter(COUNT_PARAMETER_KEY, strategy.getSimpleName());
+		}
+		return this;
+	}
+
 	/**
 	 * Return the sort by parameter value.
 	 * 
@@ -3,17 +3,20 @@ package com.gentics.mesh.image;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
@@ -33,10 +36,12 @@ import org.imgscalr.Scalr.Mode;
 
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.image.spi.AbstractImageManipulator;
+import com.gentics.mesh.core.image.spi.ImageOperationExecutor;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Supplier;
 import com.gentics.mesh.image.focalpoint.FocalPointModifier;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
@@ -47,7 +52,6 @@ import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.reactivex.core.Vertx;
-import io.vertx.reactivex.core.WorkerExecutor;
 
 /**
  * The ImgScalr Manipulator uses a pure java imageio image resizer.
@@ -56,19 +60,32 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	private static final Logger log = LoggerFactory.getLogger(ImgscalrImageManipulator.class);
 
+	/**
+	 * Minimum factor between the size of the decoded image and the target size when using source subsampling.
+	 */
+	private static final int MIN_RESAMPLE_FACTOR = 2;
+
 	private FocalPointModifier focalPointModifier;
 
-	private WorkerExecutor workerPool;
+	private ImageOperationExecutor executor;
+
+	/**
+	 * Resize operations which are currently running, keyed by the sha512sum of the binary and the cache key of the variant.
+	 */
+	private final Map<String, Single<String>> pendingResizes = new ConcurrentHashMap<>();
 
-	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options) {
-		this(vertx, options.getImageOptions());
+	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, MetricsService metrics) {
+		this(vertx, options.getImageOptions(), metrics);
 	}
 
 	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
-		super(vertx, options);
+		this(vertx, options, null);
+	}
+
+	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
+		super(vertx, options, metrics);
 		focalPointModifier = new FocalPointModifier(options);
-		// 10 seconds
-		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
+		executor = new ImageOperationExecutor(vertx, options, metrics);
 	}
 
 	/**
@@ -101,8 +118,51 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	 * @return Resized image or original image if no resize operation was requested
 	 */
 	protected BufferedImage resizeIfRequested(BufferedImage originalImage, ImageManipulationParameters parameters) {
-		int originalHeight = originalImage.getHeight();
-		int originalWidth = originalImage.getWidth();
+		return resizeIfRequested(originalImage, originalImage.getWidth(), originalImage.getHeight(), parameters);
+	}
+
+	/**
+	 * Resize the image if the request contains resize parameters. The image may have been decoded with source subsampling. The target size is thus
+	 * calculated from the dimensions of the source and not from the dimensions of the decoded image.
+	 *
+	 * @param image
+	 *            Decoded image
+	 * @param sourceWidth
+	 *            Width of the source image
+	 * @param sourceHeight
+	 *            Height of the source image
+	 * @param parameters
+	 * @return Resized image or the given image if no resize operation was requested
+	 */
+	protected BufferedImage resizeIfRequested(BufferedImage image, int sourceWidth, int sourceHeight, ImageManipulationParameters parameters) {
+		Resize resize = calculateResize(sourceWidth, sourceHeight, parameters);
+		if (resize == null) {
+			return image;
+		}
+
+		// if we want to use smart resizing we need to crop the original image to the correct format before resizing to avoid distortion
+		if (resize.crop != null) {
+			image = crop(image, scale(resize.crop, sourceWidth, sourceHeight, image.getWidth(), image.getHeight()));
+		}
+
+		try {
+			BufferedImage resizedImage = Scalr.apply(image, new ResampleOp(resize.width, resize.height, options.getResampleFilter().getFilter()));
+			image.flush();
+			return resizedImage;
+		} catch (IllegalArgumentException e) {
+			throw error(BAD_REQUEST, "image_error_resizing_failed", e);
+		}
+	}
+
+	/**
+	 * Calculate the resize operation for an image of the given size.
+	 *
+	 * @param originalWidth
+	 * @param originalHeight
+	 * @param parameters
+	 * @return Resize operation or null if no resize operation is needed
+	 */
+	protected Resize calculateResize(int originalWidth, int originalHeight, ImageManipulationParameters parameters) {
 		double aspectRatio = (double) originalWidth / (double) originalHeight;
 
 		// Resize if required and calculate missing parameters if needed
@@ -110,84 +170,159 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		Integer pWidth = NumberUtils.toInt(parameters.getWidth(), 0);
 
 		// Resizing is only needed when one of the parameters has been specified
-		if (pHeight != 0 || pWidth != 0) {
+		if (pHeight == 0 && pWidth == 0) {
+			return null;
+		}
 
-			// No operation needed when width is the same and no height was set
-			if (pHeight == 0 && pWidth == originalWidth) {
-				return originalImage;
-			}
+		// No operation needed when width is the same and no height was set
+		if (pHeight == 0 && pWidth == originalWidth) {
+			return null;
+		}
 
-			// No operation needed when height is the same and no width was set
-			if (pWidth == 0 && pHeight == originalHeight) {
-				return originalImage;
-			}
+		// No operation needed when height is the same and no width was set
+		if (pWidth == 0 && pHeight == originalHeight) {
+			return null;
+		}
 
-			// No operation needed when width and height match original image
-			if (pWidth != 0 && pWidth == originalWidth && pHeight != 0 && pHeight == originalHeight) {
-				return originalImage;
-			}
-			ResizeMode resizeMode = parameters.getResizeMode();
-			// if the mode used is smart, and one of the dimensions is auto then set this dimension to the original Value
-			if (resizeMode == ResizeMode.SMART) {
-				if (parameters.getWidth() != null && parameters.getWidth().equals("auto")) {
-					pWidth = originalWidth;
-				}
-				if (parameters.getHeight() != null && parameters.getHeight().equals("auto")) {
-					pHeight = originalHeight;
-				}
+		// No operation needed when width and height match original image
+		if (pWidth != 0 && pWidth == originalWidth && pHeight != 0 && pHeight == originalHeight) {
+			return null;
+		}
+		ResizeMode resizeMode = parameters.getResizeMode();
+		// if the mode used is smart, and one of the dimensions is auto then set this dimension to the original Value
+		if (resizeMode == ResizeMode.SMART) {
+			if (parameters.getWidth() != null && parameters.getWidth().equals("auto")) {
+				pWidth = originalWidth;
 			}
-			int width = pWidth == 0 ? (int) (pHeight * aspectRatio) : pWidth;
-			int height = pHeight == 0 ? (int) (width / aspectRatio) : pHeight;
-
-
-			// if we want to use smart resizing we need to crop the original image to the correct format before resizing to avoid distortion
-			if (pWidth != 0 && pHeight != 0 && resizeMode == ResizeMode.SMART) {
-
-				double pAspectRatio = (double) pWidth / (double) pHeight;
-				if (aspectRatio != pAspectRatio) {
-					if (aspectRatio < pAspectRatio) {
-						// crop height (top & bottom)
-						int resizeHeight = Math.max(1, (int) (originalWidth / pAspectRatio));
-						int startY = (int) (originalHeight * 0.5 - resizeHeight * 0.5);
-						originalImage = crop(originalImage, new ImageRect(0, startY, resizeHeight, originalWidth));
-					} else {
-						// crop width (left & right)
-						int resizeWidth = Math.max(1, (int) (originalHeight * pAspectRatio));
-						int startX = (int) (originalWidth * 0.5 - resizeWidth * 0.5);
-						originalImage = crop(originalImage, new ImageRect(startX, 0, originalHeight, resizeWidth));
-					}
-				}
+			if (parameters.getHeight() != null && parameters.getHeight().equals("auto")) {
+				pHeight = originalHeight;
 			}
+		}
+		int width = pWidth == 0 ? (int) (pHeight * aspectRatio) : pWidth;
+		int height = pHeight == 0 ? (int) (width / aspectRatio) : pHeight;
 
-			// if we want to use proportional resizing we need to make sure the destination dimension fits inside the provided dimensions
-			if (pWidth != 0 && pHeight != 0 && resizeMode == ResizeMode.PROP) {
-				double pAspectRatio = (double) pWidth / (double) pHeight;
+		ImageRect crop = null;
+		// if we want to use smart resizing we need to crop the original image to the correct format before resizing to avoid distortion
+		if (pWidth != 0 && pHeight != 0 && resizeMode == ResizeMode.SMART) {
+
+			double pAspectRatio = (double) pWidth / (double) pHeight;
+			if (aspectRatio != pAspectRatio) {
 				if (aspectRatio < pAspectRatio) {
-					// scale to pHeight
-					width = Math.max(1, (int) (pHeight * aspectRatio));
-					height = Math.max(1, pHeight);
+					// crop height (top & bottom)
+					int resizeHeight = Math.max(1, (int) (originalWidth / pAspectRatio));
+					int startY = (int) (originalHeight * 0.5 - resizeHeight * 0.5);
+					crop = new ImageRect(0, startY, resizeHeight, originalWidth);
 				} else {
-					// scale to pWidth
-					width = Math.max(1, pWidth);
-					height = Math.max(1, (int) (pWidth / aspectRatio));
+					// crop width (left & right)
+					int resizeWidth = Math.max(1, (int) (originalHeight * pAspectRatio));
+					int startX = (int) (originalWidth * 0.5 - resizeWidth * 0.5);
+					crop = new ImageRect(startX, 0, originalHeight, resizeWidth);
 				}
+			}
+		}
 
-				// Should the resulting format be the same as the original image we do not need to resize
-				if (width == originalWidth && height == originalHeight) {
-					return originalImage;
-				}
+		// if we want to use proportional resizing we need to make sure the destination dimension fits inside the provided dimensions
+		if (pWidth != 0 && pHeight != 0 && resizeMode == ResizeMode.PROP) {
+			double pAspectRatio = (double) pWidth / (double) pHeight;
+			if (aspectRatio < pAspectRatio) {
+				// scale to pHeight
+				width = Math.max(1, (int) (pHeight * aspectRatio));
+				height = Math.max(1, pHeight);
+			} else {
+				// scale to pWidth
+				width = Math.max(1, pWidth);
+				height = Math.max(1, (int) (pWidth / aspectRatio));
 			}
 
-			try {
-				BufferedImage image = Scalr.apply(originalImage, new ResampleOp(width, height, options.getResampleFilter().getFilter()));
-				originalImage.flush();
-				return image;
-			} catch (IllegalArgumentException e) {
-				throw error(BAD_REQUEST, "image_error_resizing_failed", e);
+			// Should the resulting format be the same as the original image we do not need to resize
+			if (width == originalWidth && height == originalHeight) {
+				return null;
 			}
 		}
+		return new Resize(crop, width, height);
+	}
 
-		return originalImage;
+	/**
+	 * Calculate the source subsampling for decoding an image of the given size. The decoded image is at least {@link #MIN_RESAMPLE_FACTOR} times larger
+	 * than the target size so that the resample filter still determines the quality of the result.
+	 *
+	 * @param sourceWidth
+	 * @param sourceHeight
+	 * @param parameters
+	 * @return Subsampling factor for both dimensions. 1 if every pixel needs to be decoded.
+	 */
+	protected int calculateSubsampling(int sourceWidth, int sourceHeight, ImageManipulationParameters parameters) {
+		if (!options.isSubsampling()) {
+			return 1;
+		}
+		Resize resize = calculateResize(sourceWidth, sourceHeight, parameters);
+		if (resize == null || resize.width <= 0 || resize.height <= 0) {
+			return 1;
+		}
+		int areaWidth = resize.crop != null ? resize.crop.getWidth() : sourceWidth;
+		int areaHeight = resize.crop != null ? resize.crop.getHeight() : sourceHeight;
+		int factor = Math.min(areaWidth / (MIN_RESAMPLE_FACTOR * resize.width), areaHeight / (MIN_RESAMPLE_FACTOR * resize.height));
+		return Math.max(1, factor);
+	}
+
+	/**
+	 * Scale the area of the source image to the corresponding area of the decoded image.
+	 *
+	 * @param area
+	 * @param sourceWidth
+	 * @param sourceHeight
+	 * @param imageWidth
+	 * @param imageHeight
+	 * @return
+	 */
+	private ImageRect scale(ImageRect area, int sourceWidth, int sourceHeight, int imageWidth, int imageHeight) {
+		if (sourceWidth == imageWidth && sourceHeight == imageHeight) {
+			return area;
+		}
+		int startX = (int) ((long) area.getStartX() * imageWidth / sourceWidth);
+		int startY = (int) ((long) area.getStartY() * imageHeight / sourceHeight);
+		int width = (int) Math.max(1, Math.min(Math.round((double) area.getWidth() * imageWidth / sourceWidth), imageWidth - startX));
+		int height = (int) Math.max(1, Math.min(Math.round((double) area.getHeight() * imageHeight / sourceHeight), imageHeight - startY));
+		return new ImageRect(startX, startY, height, width);
+	}
+
+	/**
+	 * Decode the image and apply the crop and resize operations. Only the requested crop area of the image is decoded. Images which are much larger than
+	 * the target size are subsampled while decoding, so that the resample filter only needs to process a much smaller raster.
+	 *
+	 * @param reader
+	 * @param parameters
+	 * @return
+	 * @throws IOException
+	 */
+	protected BufferedImage readAndManipulate(ImageReader reader, ImageManipulationParameters parameters) throws IOException {
+		CropMode cropMode = parameters.getCropMode();
+		if (cropMode == CropMode.FOCALPOINT) {
+			// The focal point calculations are based on the full image
+			return cropAndResize(reader.read(0), parameters);
+		}
+
+		int sourceWidth = reader.getWidth(0);
+		int sourceHeight = reader.getHeight(0);
+		// Source regions and subsampling are supported by all image readers
+		ImageReadParam readParam = reader.getDefaultReadParam();
+		ImageRect rect = parameters.getRect();
+		if (cropMode == CropMode.RECT && rect != null) {
+			rect.validateCropBounds(sourceWidth, sourceHeight);
+			readParam.setSourceRegion(new Rectangle(rect.getStartX(), rect.getStartY(), rect.getWidth(), rect.getHeight()));
+			sourceWidth = rect.getWidth();
+			sourceHeight = rect.getHeight();
+		}
+		int subsampling = calculateSubsampling(sourceWidth, sourceHeight, parameters);
+		if (subsampling > 1) {
+			readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Decoding area of " + sourceWidth + "x" + sourceHeight + " pixels with a subsampling of " + subsampling);
+		}
+
+		BufferedImage image = reader.read(0, readParam);
+		return resizeIfRequested(image, sourceWidth, sourceHeight, parameters);
 	}
 
 	/**
@@ -297,62 +432,137 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		parameters.validateLimits(options);
 
 		Supplier<InputStream> stream = binary.openBlockingStream();
+		String sha512sum = binary.getSHA512Sum();
+		long estimatedMemory = estimateMemory(binary.getImageWidth(), binary.getImageHeight(), parameters);
 
-		return getCacheFilePath(binary.getSHA512Sum(), parameters)
+		return getCacheFilePath(sha512sum, parameters)
 			.flatMap(cacheFileInfo -> {
 				if (cacheFileInfo.exists) {
 					return Single.just(cacheFileInfo.path);
 				} else {
-					// TODO handle execution timeout
-					// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the
-					// regular worker
-					// pool
-					return workerPool.<String>rxExecuteBlocking(bh -> {
-						try (
-							InputStream is = stream.get();
-							ImageInputStream ins = ImageIO.createImageInputStream(is)) {
-							BufferedImage image;
-							ImageReader reader = getImageReader(ins);
-
-							try {
-								image = reader.read(0);
-							} catch (IOException e) {
-								log.error("Could not read input image", e);
-
-								throw error(BAD_REQUEST, "image_error_reading_failed");
-							}
-
-							if (log.isDebugEnabled()) {
-								log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
-							}
-
-							image = cropAndResize(image, parameters);
-
-							String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-							String cacheFilePath = cacheFileInfo.path + "." + extension;
-							File outCacheFile = new File(cacheFilePath);
-
-							// Write image
-							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-								ImageWriteParam params = getImageWriteparams(extension);
-
-								// same as write(image), but with image parameters
-								getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
-							} catch (Exception e) {
-								throw error(BAD_REQUEST, "image_error_writing_failed");
-							}
-
-							// Return buffer to written cache file
-							bh.complete(cacheFilePath);
-						} catch (Exception e) {
-							bh.fail(e);
-						}
-					}, false).toSingle();
+					return resizeOnce(stream, sha512sum, parameters, cacheFileInfo.path, estimatedMemory);
 				}
 			});
 	}
 
+	/**
+	 * Create the image variant unless the same variant is currently being created. Concurrent requests for the same variant share a single resize
+	 * operation. Requests for a variant whose resize operation exceeded the timeout receive the timeout error along with a Retry-After delay until the
+	 * operation has finished in the background. Afterwards the variant is served from the cache.
+	 *
+	 * @param stream
+	 * @param sha512sum
+	 * @param parameters
+	 * @param basePath
+	 *            Path of the cache file without extension
+	 * @param estimatedMemory
+	 *            Estimated memory of the resize operation in bytes
+	 * @return Path of the cache file
+	 */
+	private Single<String> resizeOnce(Supplier<InputStream> stream, String sha512sum, ImageManipulationParameters parameters, String basePath,
+		long estimatedMemory) {
+		String key = sha512sum + "/" + parameters.getCacheKey();
+		return pendingResizes.computeIfAbsent(key, k -> {
+			AtomicReference<Single<String>> pending = new AtomicReference<>();
+			// The entry is kept until the resize operation is done, even if it exceeded the timeout and finishes in the background
+			Single<String> single = resize(stream, sha512sum, parameters, basePath, estimatedMemory, () -> pendingResizes.remove(k, pending.get()))
+				.cache();
+			pending.set(single);
+			return single;
+		});
+	}
+
+	/**
+	 * Resize the image and publish the result to the image cache.
+	 *
+	 * @param stream
+	 * @param sha512sum
+	 * @param parameters
+	 * @param basePath
+	 *            Path of the cache file without extension
+	 * @param estimatedMemory
+	 *            Estimated memory of the resize operation in bytes
+	 * @param onDone
+	 *            Invoked once the resize operation has been rejected, skipped or finished
+	 * @return Path of the cache file
+	 */
+	private Single<String> resize(Supplier<InputStream> stream, String sha512sum, ImageManipulationParameters parameters, String basePath,
+		long estimatedMemory, Runnable onDone) {
+		// Make sure to run that code in the dedicated executor since it may be CPU and memory intensive for larger images
+		return executor.execute(estimatedMemory, () -> {
+			try (
+				InputStream is = stream.get();
+				ImageInputStream ins = ImageIO.createImageInputStream(is)) {
+				BufferedImage image;
+				ImageReader reader = getImageReader(ins);
+
+				try {
+					image = readAndManipulate(reader, parameters);
+				} catch (IOException e) {
+					log.error("Could not read input image", e);
+
+					throw error(BAD_REQUEST, "image_error_reading_failed");
+				}
+
+				if (log.isDebugEnabled()) {
+					log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
+				}
+
+				String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
+				String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
+				String cacheFilePath = basePath + "." + extension;
+				File outCacheFile = new File(cacheFilePath);
+				// Write the image to a temporary file first so that other requests never read a partially written cache file
+				File tempFile = variantCache.createTempFile(outCacheFile);
+
+				// Write image
+				try (ImageOutputStream out = new FileImageOutputStream(tempFile)) {
+					ImageWriteParam params = getImageWriteparams(extension);
+
+					// same as write(image), but with image parameters
+					getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
+				} catch (Exception e) {
+					tempFile.delete();
+					throw error(BAD_REQUEST, "image_error_writing_failed");
+				}
+				variantCache.publish(sha512sum, parameters.getCacheKey(), tempFile, outCacheFile);
+
+				// Return buffer to written cache file
+				return cacheFilePath;
+			}
+		}, onDone);
+	}
+
+	/**
+	 * Estimate the memory which is needed to resize the image. Four bytes per pixel are assumed for the decoded image and the resized image.
+	 *
+	 * @param sourceWidth
+	 *            Width of the source image or null if unknown
+	 * @param sourceHeight
+	 *            Height of the source image or null if unknown
+	 * @param parameters
+	 * @return Estimated memory in bytes
+	 */
+	protected long estimateMemory(Integer sourceWidth, Integer sourceHeight, ImageManipulationParameters parameters) {
+		if (sourceWidth == null || sourceHeight == null || sourceWidth <= 0 || sourceHeight <= 0) {
+			// Assume an image of the maximum size which may be requested
+			return 4L * options.getMaxWidth() * options.getMaxHeight();
+		}
+		CropMode cropMode = parameters.getCropMode();
+		int width = sourceWidth;
+		int height = sourceHeight;
+		ImageRect rect = parameters.getRect();
+		if (cropMode == CropMode.RECT && rect != null) {
+			width = Math.min(rect.getWidth(), width);
+			height = Math.min(rect.getHeight(), height);
+		}
+		int subsampling = cropMode == CropMode.FOCALPOINT ? 1 : calculateSubsampling(width, height, parameters);
+		long decodedPixels = (long) ((width + subsampling - 1) / subsampling) * ((height + subsampling - 1) / subsampling);
+		Resize resize = calculateResize(width, height, parameters);
+		long targetPixels = resize == null ? 0 : (long) resize.width * resize.height;
+		return 4 * (decodedPixels + targetPixels);
+	}
+
 	private ImageWriteParam getImageWriteparams(String extension) {
 		if (isJpeg(extension)) {
 			JPEGImageWriteParam params = new JPEGImageWriteParam(null);
@@ -402,4 +612,25 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		});
 	}
 
+	/**
+	 * Resize operation in the coordinates of the source image.
+	 */
+	static class Resize {
+
+		/**
+		 * Area which needs to be cropped before resizing or null if the whole image is resized.
+		 */
+		final ImageRect crop;
+
+		final int width;
+
+		final int height;
+
+		Resize(ImageRect crop, int width, int height) {
+			this.crop = crop;
+			this.width = width;
+			this.height = height;
+		}
+	}
+
 }
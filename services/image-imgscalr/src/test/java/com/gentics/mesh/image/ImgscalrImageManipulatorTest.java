@@ -6,20 +6,37 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
-
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -29,11 +46,15 @@ import org.codehaus.jettison.json.JSONException;
 import org.codehaus.jettison.json.JSONObject;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.xml.sax.SAXException;
 
+import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.image.spi.ImageInfo;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ResizeMode;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
@@ -56,11 +77,13 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	private ImgscalrImageManipulator manipulator;
 
+	private ImageManipulatorOptions options;
+
 	@Before
 	public void setup() {
 		super.setup();
 
-		ImageManipulatorOptions options = new ImageManipulatorOptions();
+		options = new ImageManipulatorOptions();
 
 		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
 		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options);
@@ -68,6 +91,8 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	@Test
 	public void testResize() throws Exception {
+		// The reference images have been created from the fully decoded images
+		options.setSubsampling(false);
 		checkImages((imageName, width, height, color, refImage, path, bs) -> {
 			log.debug("Handling " + imageName);
 
@@ -104,8 +129,167 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	}
 
+	@Test
+	public void testConcurrentResize() throws Exception {
+		ImageManipulationParametersImpl params = new ImageManipulationParametersImpl().setWidth(150).setHeight(180);
+		// Wait until the cache directory has been scanned
+		manipulator.getCacheFilePath("concurrent", params).blockingGet();
+
+		AtomicInteger reads = new AtomicInteger();
+		CountDownLatch subscribed = new CountDownLatch(1);
+		Binary binary = mock(Binary.class);
+		when(binary.getSHA512Sum()).thenReturn("concurrent");
+		when(binary.openBlockingStream()).thenReturn(() -> {
+			reads.incrementAndGet();
+			subscribed.await();
+			return getClass().getResourceAsStream("/pictures/blume.jpg");
+		});
+
+		List<Single<String>> results = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			Single<String> result = manipulator.handleResize(binary, params).cache();
+			result.subscribe();
+			results.add(result);
+		}
+		subscribed.countDown();
+
+		Set<String> paths = new HashSet<>();
+		for (Single<String> result : results) {
+			paths.add(result.blockingGet());
+		}
+		assertEquals("The image should only have been resized once", 1, reads.get());
+		assertEquals(1, paths.size());
+		File cacheFile = new File(paths.iterator().next());
+		assertTrue(cacheFile.exists());
+		assertEquals("No temporary files should be left", 1, cacheFile.getParentFile().list().length);
+	}
+
+	@Test
+	public void testRequestAfterTimeout() throws Exception {
+		options.setOperationTimeout(200);
+		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options);
+		ImageManipulationParametersImpl params = new ImageManipulationParametersImpl().setWidth(150).setHeight(180);
+		// Wait until the cache directory has been scanned
+		manipulator.getCacheFilePath("timeout", params).blockingGet();
+
+		AtomicInteger reads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Binary binary = mock(Binary.class);
+		when(binary.getSHA512Sum()).thenReturn("timeout");
+		when(binary.openBlockingStream()).thenReturn(() -> {
+			reads.incrementAndGet();
+			release.await(10, TimeUnit.SECONDS);
+			return getClass().getResourceAsStream("/pictures/blume.jpg");
+		});
+
+		try {
+			manipulator.handleResize(binary, params).blockingGet();
+			fail("The resize operation should have exceeded the timeout");
+		} catch (GenericRestException e) {
+			assertEquals("image_error_operation_timeout", e.getI18nKey());
+		}
+
+		// The resize operation still runs in the background
+		try {
+			manipulator.handleResize(binary, params).blockingGet();
+			fail("The request should have received the error of the running resize operation");
+		} catch (GenericRestException e) {
+			assertEquals("image_error_operation_timeout", e.getI18nKey());
+			assertEquals("The client should be told when to retry", 1L, (long) e.getProperty(AbstractRestException.RETRY_AFTER_PROPERTY));
+		}
+		assertEquals("The image should not have been resized again", 1, reads.get());
+
+		// Once the resize operation has finished the variant is taken from the cache
+		release.countDown();
+		String path = null;
+		long deadline = System.currentTimeMillis() + 5000;
+		while (path == null && System.currentTimeMillis() < deadline) {
+			try {
+				path = manipulator.handleResize(binary, params).blockingGet();
+			} catch (GenericRestException e) {
+				Thread.sleep(10);
+			}
+		}
+		assertNotNull("The variant should have been created in the background", path);
+		assertTrue(new File(path).exists());
+		assertEquals("The image should only have been resized once", 1, reads.get());
+	}
+
+	@Test
+	public void testSubsampledDecoding() throws IOException {
+		BufferedImage source = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		ImageIO.write(source, "png", bos);
+		manipulator = spy(manipulator);
+
+		// Resize
+		BufferedImage image = readAndManipulate(bos.toByteArray(), new ImageManipulationParametersImpl().setWidth(100));
+		assertEquals(100, image.getWidth());
+		assertEquals(75, image.getHeight());
+		assertDecodedSize(200, 150);
+
+		// Smart resize
+		image = readAndManipulate(bos.toByteArray(), new ImageManipulationParametersImpl().setWidth(100).setHeight(100));
+		assertEquals(100, image.getWidth());
+		assertEquals(100, image.getHeight());
+		assertDecodedSize(267, 200);
+
+		// Crop and resize
+		image = readAndManipulate(bos.toByteArray(), new ImageManipulationParametersImpl().setCropMode(CropMode.RECT).setRect(200, 100, 800, 1000)
+			.setWidth(50));
+		assertEquals(50, image.getWidth());
+		assertEquals(40, image.getHeight());
+		assertDecodedSize(100, 80);
+
+		// Only crop
+		image = readAndManipulate(bos.toByteArray(), new ImageManipulationParametersImpl().setCropMode(CropMode.RECT).setRect(200, 100, 800, 1000));
+		assertEquals(1000, image.getWidth());
+		assertEquals(800, image.getHeight());
+		assertDecodedSize(1000, 800);
+	}
+
+	/**
+	 * Assert the size of the image which was decoded by the last manipulation.
+	 * 
+	 * @param width
+	 * @param height
+	 */
+	private void assertDecodedSize(int width, int height) {
+		ArgumentCaptor<BufferedImage> decoded = ArgumentCaptor.forClass(BufferedImage.class);
+		verify(manipulator).resizeIfRequested(decoded.capture(), anyInt(), anyInt(), any());
+		assertEquals("The width of the decoded image did not match", width, decoded.getValue().getWidth());
+		assertEquals("The height of the decoded image did not match", height, decoded.getValue().getHeight());
+		clearInvocations(manipulator);
+	}
+
+	@Test
+	public void testCalculateSubsampling() {
+		assertEquals(8, manipulator.calculateSubsampling(1600, 1200, new ImageManipulationParametersImpl().setWidth(100)));
+		assertEquals("The crop area of the smart resize should be used", 6,
+			manipulator.calculateSubsampling(1600, 1200, new ImageManipulationParametersImpl().setWidth(100).setHeight(100)));
+		assertEquals(1, manipulator.calculateSubsampling(1600, 1200, new ImageManipulationParametersImpl().setWidth(1000)));
+		assertEquals(1, manipulator.calculateSubsampling(1600, 1200, new ImageManipulationParametersImpl()));
+
+		options.setSubsampling(false);
+		assertEquals(1, manipulator.calculateSubsampling(1600, 1200, new ImageManipulationParametersImpl().setWidth(100)));
+	}
+
+	private BufferedImage readAndManipulate(byte[] data, ImageManipulationParameters parameters) throws IOException {
+		try (ImageInputStream ins = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+			ImageReader reader = ImageIO.getImageReaders(ins).next();
+			reader.setInput(ins, true);
+			try {
+				return manipulator.readAndManipulate(reader, parameters);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
 	@Test
 	public void testExtractImageInfo() throws IOException, JSONException {
+		// The reference colors have been determined from the fully decoded images
+		options.setSubsampling(false);
 		checkImages((imageName, width, height, color, refImage, origPath, stream) -> {
 			String path = RxUtil.readEntireData(stream).map(data -> {
 				File file = new File("/tmp/" + imageName + "reference.jpg");
@@ -121,6 +305,23 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 		});
 	}
 
+	@Test
+	public void testExtractImageInfoSubsampled() throws IOException {
+		BufferedImage source = new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = source.createGraphics();
+		graphics.setColor(new Color(0x33, 0x66, 0x99));
+		graphics.fillRect(0, 0, 3000, 2000);
+		graphics.dispose();
+		File file = new File(cacheDir, "solid.png");
+		file.getParentFile().mkdirs();
+		ImageIO.write(source, "png", file);
+
+		ImageInfo info = manipulator.readImageInfo(file.getAbsolutePath()).blockingGet();
+		assertEquals(3000, info.getWidth().intValue());
+		assertEquals(2000, info.getHeight().intValue());
+		assertEquals("#336699", info.getDominantColor());
+	}
+
 	/**
 	 * Get the corresponding reference filename for the given input filename.
 	 *
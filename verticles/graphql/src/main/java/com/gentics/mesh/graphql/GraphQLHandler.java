@@ -1,11 +1,19 @@
 package com.gentics.mesh.graphql;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_QUERY_REJECTED;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_QUERY_SLOW;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_QUERY_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_QUERY_TIMEOUT;
 import static graphql.GraphQL.newGraphQL;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -13,9 +21,16 @@ import javax.inject.Singleton;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.rest.error.AbstractUnavailableException;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLQueryCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
+import com.gentics.mesh.graphql.cache.PersistedQueryCache;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.limit.QueryLimitInstrumentation;
+import com.gentics.mesh.graphql.limit.QueryTimeoutInstrumentation;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.SearchWaitUtil;
 
 import graphql.ExceptionWhileDataFetching;
@@ -23,6 +38,7 @@ import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.language.SourceLocation;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -35,6 +51,14 @@ public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+
+	private static final String PERSISTED_QUERY_NOT_SUPPORTED = "PersistedQueryNotSupported";
+
+	private static final String QUERY_LIMIT_EXCEEDED = "QueryLimitExceeded";
+
+	private static final String QUERY_TIMEOUT = "QueryTimeout";
+
 	@Inject
 	public QueryTypeProvider typeProvider;
 
@@ -47,6 +71,21 @@ public class GraphQLHandler {
 	@Inject
 	public SearchWaitUtil waitUtil;
 
+	@Inject
+	public GraphQLSchemaCache schemaCache;
+
+	@Inject
+	public GraphQLQueryCache queryCache;
+
+	@Inject
+	public PersistedQueryCache persistedQueries;
+
+	@Inject
+	public MeshOptions options;
+
+	@Inject
+	public MetricsService metrics;
+
 	@Inject
 	public GraphQLHandler() {
 	}
@@ -62,17 +101,50 @@ public class GraphQLHandler {
 	public void handleQuery(GraphQLContext gc, String body) {
 		waitUtil.awaitSync(gc).andThen(vertx.rxExecuteBlocking(promise -> {
 			try {
-				db.tx(tx -> {
-					JsonObject queryJson = new JsonObject(body);
-					String query = queryJson.getString("query");
-					GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
+				JsonObject queryJson = new JsonObject(body);
+				String hash = extractPersistedQueryHash(queryJson);
+				String query = hash == null ? queryJson.getString("query") : resolvePersistedQuery(gc, queryJson, hash);
+				if (hash != null && query == null) {
+					// The error response has already been sent
+					promise.complete();
+					return;
+				}
+				db.readTx(tx -> {
+					GraphQL graphQL = schemaCache.get(GraphQLSchemaCache.createKey(gc), key -> newGraphQL(typeProvider.getRootSchema(gc))
+						.preparsedDocumentProvider(queryCache.createProvider(key))
+						.instrumentation(new ChainedInstrumentation(Arrays.asList(
+							new QueryLimitInstrumentation(options.getGraphQLOptions(), metrics),
+							new QueryTimeoutInstrumentation())))
+						.build());
+					Map<String, Object> variables = extractVariables(queryJson);
 					ExecutionInput executionInput = ExecutionInput
 						.newExecutionInput()
 						.query(query)
 						.context(gc)
-						.variables(extractVariables(queryJson))
+						.variables(variables)
 						.build();
+					long queryTimeout = options.getGraphQLOptions().getQueryTimeout();
+					long start = System.nanoTime();
+					if (queryTimeout > 0) {
+						gc.put(QueryTimeoutInstrumentation.DEADLINE_DATA_KEY, start + TimeUnit.MILLISECONDS.toNanos(queryTimeout));
+					}
 					ExecutionResult result = graphQL.execute(executionInput);
+					long duration = System.nanoTime() - start;
+					recordDuration(query, duration);
+					String limitError = gc.get(QueryLimitInstrumentation.LIMIT_ERROR_DATA_KEY);
+					if (limitError != null) {
+						metrics.counter(GRAPHQL_QUERY_REJECTED).increment();
+						sendError(gc, limitError, QUERY_LIMIT_EXCEEDED);
+						promise.complete();
+						return;
+					}
+					if (gc.get(QueryTimeoutInstrumentation.TIMED_OUT_DATA_KEY) != null) {
+						metrics.counter(GRAPHQL_QUERY_TIMEOUT).increment();
+						log.warn("Aborted query after {" + TimeUnit.NANOSECONDS.toMillis(duration) + "} ms since it exceeded the timeout {" + query + "}");
+						sendError(gc, "The query exceeded the timeout of " + queryTimeout + " ms.", QUERY_TIMEOUT);
+						promise.complete();
+						return;
+					}
 					List<GraphQLError> errors = result.getErrors();
 					JsonObject response = new JsonObject();
 					if (!errors.isEmpty()) {
@@ -92,7 +164,7 @@ public class GraphQLHandler {
 						Map<String, Object> data = result.getData();
 						response.put("data", new JsonObject(data));
 					}
-					gc.send(response.encodePrettily(), OK);
+					gc.sendJson(response, OK);
 					promise.complete();
 				});
 			} catch (Exception e) {
@@ -103,6 +175,98 @@ public class GraphQLHandler {
 		.subscribe();
 	}
 
+	/**
+	 * Record the execution time of the query. Queries which exceed the slow query threshold will be logged.
+	 *
+	 * @param query
+	 * @param duration
+	 *            Duration in nanoseconds
+	 */
+	private void recordDuration(String query, long duration) {
+		metrics.timer(GRAPHQL_QUERY_TIME).record(duration, TimeUnit.NANOSECONDS);
+		long threshold = options.getGraphQLOptions().getSlowQueryThreshold();
+		long durationMs = TimeUnit.NANOSECONDS.toMillis(duration);
+		if (threshold > 0 && durationMs > threshold) {
+			metrics.counter(GRAPHQL_QUERY_SLOW).increment();
+			log.warn("Slow query took {" + durationMs + "} ms {" + query + "}");
+		}
+	}
+
+	/**
+	 * Resolve the persisted query which is referenced by the given SHA-256 hash. The query will be registered if it was sent along with the hash. Otherwise
+	 * the previously registered query will be used. An error response will be sent if the query could not be resolved.
+	 *
+	 * @param gc
+	 *            Context
+	 * @param request
+	 *            The request body
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @return Query or null if an error response has been sent
+	 */
+	private String resolvePersistedQuery(GraphQLContext gc, JsonObject request, String hash) {
+		if (!options.getGraphQLOptions().isPersistedQueries()) {
+			sendError(gc, PERSISTED_QUERY_NOT_SUPPORTED);
+			return null;
+		}
+		String query = request.getString("query");
+		if (query == null) {
+			query = persistedQueries.getQuery(hash);
+			if (query == null) {
+				sendError(gc, PERSISTED_QUERY_NOT_FOUND);
+			}
+			return query;
+		}
+		if (!persistedQueries.register(hash, query)) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", hash);
+		}
+		return query;
+	}
+
+	/**
+	 * Extracts the hash of the persisted query from the extensions of the request. Returns null if no persisted query is referenced.
+	 *
+	 * @param request
+	 *            The request body
+	 * @return
+	 */
+	private String extractPersistedQueryHash(JsonObject request) {
+		JsonObject extensions = request.getJsonObject("extensions");
+		if (extensions == null) {
+			return null;
+		}
+		JsonObject persistedQuery = extensions.getJsonObject("persistedQuery");
+		if (persistedQuery == null) {
+			return null;
+		}
+		return persistedQuery.getString("sha256Hash");
+	}
+
+	/**
+	 * Send a response which only contains the given error. Clients which use persisted queries expect the errors in the body of a successful response.
+	 *
+	 * @param gc
+	 * @param message
+	 */
+	private void sendError(GraphQLContext gc, String message) {
+		sendError(gc, message, message);
+	}
+
+	/**
+	 * Send a response which only contains the given error.
+	 *
+	 * @param gc
+	 * @param message
+	 * @param type
+	 */
+	private void sendError(GraphQLContext gc, String message, String type) {
+		JsonObject error = new JsonObject()
+			.put("message", message)
+			.put("type", type);
+		JsonObject response = new JsonObject().put("errors", new JsonArray().add(error));
+		gc.sendJson(response, OK);
+	}
+
 	/**
 	 * Extracts the variables of a query as a map. Returns empty map if no variables are found.
 	 *
@@ -0,0 +1,49 @@
+package com.gentics.mesh.graphql.cache;
+
+import java.time.temporal.ChronoUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+/**
+ * LRU cache for parsed and validated GraphQL queries. Queries are validated against the schema of the project, branch and API version. The entries are
+ * thus stored per schema key (see {@link GraphQLSchemaCache#createKey(com.gentics.mesh.graphql.context.GraphQLContext)}) and will be invalidated by the same
+ * events which invalidate the schema cache.
+ */
+@Singleton
+public class GraphQLQueryCache extends AbstractMeshCache<String, PreparsedDocumentEntry> {
+
+	@Inject
+	public GraphQLQueryCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLQueryCacheSize());
+	}
+
+	private static EventAwareCache<String, PreparsedDocumentEntry> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, PreparsedDocumentEntry>builder()
+			.events(GraphQLSchemaCache.EVENTS)
+			.expireAfter(60, ChronoUnit.MINUTES)
+			.name("graphql_query")
+			.maxSize(config.getGraphQLQueryCacheSize())
+			.build();
+	}
+
+	/**
+	 * Create a document provider which caches the parsed and validated documents of the schema with the given key.
+	 *
+	 * @param schemaKey
+	 * @return
+	 */
+	public PreparsedDocumentProvider createProvider(String schemaKey) {
+		return (query, computeFunction) -> get(schemaKey + "\n" + query, key -> computeFunction.apply(query));
+	}
+}
@@ -0,0 +1,102 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_REGISTERED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_UNDEPLOYED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.REPAIR_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+
+import java.time.temporal.ChronoUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+import graphql.GraphQL;
+
+/**
+ * LRU cache for the built {@link GraphQL} instances. The GraphQL schema only depends on the project, the branch and the API version of the request. The
+ * data fetchers of the schema must thus always use the context of the execution instead of the context which was used to build the schema.
+ *
+ * Any schema, microschema, branch or plugin change will invalidate the whole cache.
+ */
+@Singleton
+public class GraphQLSchemaCache extends AbstractMeshCache<String, GraphQL> {
+
+	static final MeshEvent EVENTS[] = {
+		SCHEMA_CREATED,
+		SCHEMA_UPDATED,
+		SCHEMA_DELETED,
+		MICROSCHEMA_CREATED,
+		MICROSCHEMA_UPDATED,
+		MICROSCHEMA_DELETED,
+		PROJECT_SCHEMA_ASSIGNED,
+		PROJECT_SCHEMA_UNASSIGNED,
+		PROJECT_MICROSCHEMA_ASSIGNED,
+		PROJECT_MICROSCHEMA_UNASSIGNED,
+		SCHEMA_BRANCH_ASSIGN,
+		SCHEMA_BRANCH_UNASSIGN,
+		MICROSCHEMA_BRANCH_ASSIGN,
+		MICROSCHEMA_BRANCH_UNASSIGN,
+		BRANCH_CREATED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		PLUGIN_REGISTERED,
+		PLUGIN_UNDEPLOYED,
+		GRAPH_RESTORE_FINISHED,
+		GRAPH_IMPORT_FINISHED,
+		REPAIR_FINISHED };
+
+	@Inject
+	public GraphQLSchemaCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLSchemaCacheSize());
+	}
+
+	private static EventAwareCache<String, GraphQL> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, GraphQL>builder()
+			.events(EVENTS)
+			.expireAfter(60, ChronoUnit.MINUTES)
+			.name("graphql_schema")
+			.maxSize(config.getGraphQLSchemaCacheSize())
+			.build();
+	}
+
+	/**
+	 * Create the cache key for the schema which is used by the given context. Needs to be called within a transaction.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public static String createKey(GraphQLContext gc) {
+		return gc.getProject().getUuid() + ":" + gc.getBranch().getUuid() + ":" + gc.getApiVersion();
+	}
+}
@@ -0,0 +1,72 @@
+package com.gentics.mesh.graphql.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.google.common.hash.Hashing;
+
+/**
+ * LRU store for persisted queries which maps the SHA-256 hash of a query to the query. Queries are registered by the clients by sending the query along with
+ * its hash. Afterwards only the hash needs to be sent. Evicted queries need to be registered again.
+ */
+@Singleton
+public class PersistedQueryCache extends AbstractMeshCache<String, String> {
+
+	@Inject
+	public PersistedQueryCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getGraphQLOptions()), registry, options.getGraphQLOptions().getPersistedQueryCacheSize());
+	}
+
+	private static EventAwareCache<String, String> createCache(EventAwareCacheFactory factory, GraphQLOptions options) {
+		return factory.<String, String>builder()
+			.events()
+			.name("graphql_persisted_query")
+			.maxSize(options.getPersistedQueryCacheSize())
+			.build();
+	}
+
+	/**
+	 * Register the query under the given hash.
+	 *
+	 * @param hash
+	 * @param query
+	 * @return false if the hash does not match the query
+	 */
+	public boolean register(String hash, String query) {
+		if (!hash(query).equalsIgnoreCase(hash)) {
+			return false;
+		}
+		if (!isDisabled()) {
+			cache.put(hash.toLowerCase(), query);
+		}
+		return true;
+	}
+
+	/**
+	 * Return the query which was registered under the given hash.
+	 *
+	 * @param hash
+	 * @return Query or null if no query was registered
+	 */
+	public String getQuery(String hash) {
+		return get(hash.toLowerCase());
+	}
+
+	/**
+	 * Compute the hex encoded SHA-256 hash of the query.
+	 *
+	 * @param query
+	 * @return
+	 */
+	public static String hash(String query) {
+		return Hashing.sha256().hashString(query, UTF_8).toString();
+	}
+}
@@ -0,0 +1,272 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+/**
+ * Request scoped loader which batches the resolving of node related fields.
+ *
+ * Data fetchers which return lists of nodes register the elements as siblings. Once a field is resolved for one of the siblings, the field will be
+ * resolved for all siblings at once. Referenced nodes are deduplicated by their id, the permissions of the referenced elements are checked in bulk and
+ * the resolved parents and contents are reused for the whole request.
+ *
+ * The loader is not thread-safe since the query of a request is executed by a single thread.
+ */
+public class NodeDataLoader {
+
+	private static final String NAME = "nodeDataLoader";
+
+	private final GraphQLContext gc;
+
+	/**
+	 * Sibling groups keyed by the identity of the source elements.
+	 */
+	private final Map<Object, List<Object>> siblings = new IdentityHashMap<>();
+
+	/**
+	 * Loaded values per batch key and source element.
+	 */
+	private final Map<String, Map<Object, Object>> values = new HashMap<>();
+
+	private final Map<GraphPermission, Map<Object, Boolean>> permissions = new HashMap<>();
+
+	private final Map<Object, Node> parents = new HashMap<>();
+
+	private final Map<String, NodeGraphFieldContainer> containers = new HashMap<>();
+
+	private NodeDataLoader(GraphQLContext gc) {
+		this.gc = gc;
+	}
+
+	/**
+	 * Return the loader of the request.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public static NodeDataLoader get(GraphQLContext gc) {
+		return gc.getOrStore(NAME, () -> new NodeDataLoader(gc));
+	}
+
+	/**
+	 * Register the given elements as siblings. The fields of node contents are resolved via the containers of the contents. The containers are thus also
+	 * registered as siblings.
+	 *
+	 * @param elements
+	 * @return Fluent API
+	 */
+	public NodeDataLoader registerSiblings(Collection<?> elements) {
+		register(new ArrayList<>(elements));
+		List<Object> containerGroup = new ArrayList<>();
+		for (Object element : elements) {
+			if (element instanceof NodeContent && ((NodeContent) element).getContainer() != null) {
+				containerGroup.add(((NodeContent) element).getContainer());
+			}
+		}
+		register(containerGroup);
+		return this;
+	}
+
+	private void register(List<Object> group) {
+		if (group.size() < 2) {
+			return;
+		}
+		for (Object element : group) {
+			siblings.put(element, group);
+		}
+	}
+
+	/**
+	 * Load the value for the given source. The batch function will be invoked with the source and all of its registered siblings for which no value has
+	 * been loaded yet. The source is always the first element of the batch.
+	 *
+	 * @param key
+	 *            Key which identifies the loaded field including its arguments
+	 * @param source
+	 * @param batchFunction
+	 *            Function which returns the values in the order of the given sources
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <S, V> V load(String key, S source, Function<List<S>, List<V>> batchFunction) {
+		Map<Object, Object> loaded = values.computeIfAbsent(key, k -> new IdentityHashMap<>());
+		if (loaded.containsKey(source)) {
+			return (V) loaded.get(source);
+		}
+		List<S> batch = new ArrayList<>();
+		batch.add(source);
+		List<Object> group = siblings.get(source);
+		if (group != null) {
+			for (Object sibling : group) {
+				if (sibling != source && !loaded.containsKey(sibling)) {
+					batch.add((S) sibling);
+				}
+			}
+		}
+		List<V> results = batchFunction.apply(batch);
+		for (int i = 0; i < batch.size(); i++) {
+			loaded.put(batch.get(i), results.get(i));
+		}
+		return results.get(0);
+	}
+
+	/**
+	 * Check the permission on all given elements in bulk. The results are kept for the request.
+	 *
+	 * @param elements
+	 * @param permission
+	 * @return Fluent API
+	 */
+	public NodeDataLoader prefetchPermissions(Collection<? extends MeshVertex> elements, GraphPermission permission) {
+		Map<Object, Boolean> results = permissions.computeIfAbsent(permission, k -> new HashMap<>());
+		Set<Object> ids = new HashSet<>();
+		for (MeshVertex element : elements) {
+			if (element != null && !results.containsKey(element.id())) {
+				ids.add(element.id());
+			}
+		}
+		if (ids.isEmpty()) {
+			return this;
+		}
+		Set<Object> permitted = gc.getUser().filterPermittedIds(ids, permission);
+		for (Object id : ids) {
+			results.put(id, permitted.contains(id));
+		}
+		return this;
+	}
+
+	/**
+	 * Check the read permission on all given nodes in bulk. A node is readable if the user has either the read or the read published permission.
+	 *
+	 * @param nodes
+	 * @return Fluent API
+	 */
+	public NodeDataLoader prefetchReadPermissions(Collection<? extends Node> nodes) {
+		prefetchPermissions(nodes, READ_PERM);
+		List<Node> denied = new ArrayList<>();
+		for (Node node : nodes) {
+			if (node != null && !hasPermission(node, READ_PERM)) {
+				denied.add(node);
+			}
+		}
+		return prefetchPermissions(denied, READ_PUBLISHED_PERM);
+	}
+
+	/**
+	 * Check whether the user has the permission on the element. Uses the result of a previous bulk check if possible.
+	 *
+	 * @param element
+	 * @param permission
+	 * @return
+	 */
+	public boolean hasPermission(MeshVertex element, GraphPermission permission) {
+		Map<Object, Boolean> results = permissions.computeIfAbsent(permission, k -> new HashMap<>());
+		Boolean permitted = results.get(element.id());
+		if (permitted == null) {
+			User user = gc.getUser();
+			permitted = user.hasPermission(element, permission);
+			results.put(element.id(), permitted);
+		}
+		return permitted;
+	}
+
+	/**
+	 * Check whether the user is allowed to read the node. Otherwise a {@link com.gentics.mesh.core.rest.error.PermissionException} will be thrown.
+	 *
+	 * @param node
+	 * @return Provided node
+	 */
+	public Node requiresRead(Node node) {
+		if (hasPermission(node, READ_PERM) || hasPermission(node, READ_PUBLISHED_PERM)) {
+			return node;
+		}
+		throw missingPerm(node.getTypeInfo().getType().name().toLowerCase(), node.getUuid());
+	}
+
+	/**
+	 * Return the parent of the node in the branch of the request. Parents are only loaded once per request.
+	 *
+	 * @param node
+	 * @return Parent node or null for the project base node
+	 */
+	public Node getParent(Node node) {
+		Object id = node.id();
+		if (parents.containsKey(id)) {
+			return parents.get(id);
+		}
+		Node parent = node.getParentNode(gc.getBranch().getUuid());
+		parents.put(id, parent);
+		return parent;
+	}
+
+	/**
+	 * Return the breadcrumb of the node which starts with the project base node and ends with the node itself. Shared ancestors are only loaded once
+	 * per request.
+	 *
+	 * @param node
+	 * @return
+	 */
+	public List<Node> getBreadcrumb(Node node) {
+		List<Node> breadcrumb = new ArrayList<>();
+		Node current = node;
+		while (current != null) {
+			breadcrumb.add(0, current);
+			current = getParent(current);
+		}
+		return breadcrumb;
+	}
+
+	/**
+	 * Create the content of the node for the given languages. The version of a node is only looked up once per request and language fallback.
+	 *
+	 * @param node
+	 * @param languageTags
+	 * @return
+	 */
+	public NodeContent content(Node node, List<String> languageTags) {
+		String key = node.id() + ":" + languageTags;
+		NodeGraphFieldContainer container;
+		if (containers.containsKey(key)) {
+			container = containers.get(key);
+		} else {
+			container = node.findVersion(gc, languageTags);
+			containers.put(key, container);
+		}
+		return new NodeContent(node, container, languageTags);
+	}
+
+	/**
+	 * Return the distinct non-null nodes of the list.
+	 *
+	 * @param nodes
+	 * @return
+	 */
+	public static List<Node> distinct(List<? extends Node> nodes) {
+		Map<Object, Node> byId = new HashMap<>();
+		for (Node node : nodes) {
+			if (node != null) {
+				byId.putIfAbsent(node.id(), node);
+			}
+		}
+		return new ArrayList<>(byId.values());
+	}
+}
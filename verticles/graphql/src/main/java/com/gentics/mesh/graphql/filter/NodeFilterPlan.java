@@ -0,0 +1,208 @@
+package com.gentics.mesh.graphql.filter;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Plan which determines how the nodes which match a {@link NodeFilter} are loaded.
+ *
+ * Top level filter conditions on the uuid and on the schema of the nodes are resolved via the uuid and schema indices of the graph. Only the nodes which
+ * were found via the indices are loaded and all remaining conditions are evaluated in memory. Filters without supported conditions fall back to loading
+ * all nodes of the project.
+ */
+public class NodeFilterPlan {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeFilterPlan.class);
+
+	private static final String UUID_KEY = "uuid";
+
+	private static final String SCHEMA_KEY = "schema";
+
+	/**
+	 * Uuids of the nodes to load or null if the uuid is not restricted.
+	 */
+	private final Set<String> uuids;
+
+	/**
+	 * Uuids of the schemas of the nodes to load or null if the schema is not restricted.
+	 */
+	private final Set<String> schemaUuids;
+
+	/**
+	 * Filter conditions which could not be resolved via an index.
+	 */
+	private final Map<String, ?> residualFilter;
+
+	private NodeFilterPlan(Set<String> uuids, Set<String> schemaUuids, Map<String, ?> residualFilter) {
+		this.uuids = uuids;
+		this.schemaUuids = schemaUuids;
+		this.residualFilter = residualFilter;
+	}
+
+	/**
+	 * Create the plan for the given filter argument.
+	 *
+	 * @param gc
+	 * @param filter
+	 *            Filter argument of the query or null if no filter was specified
+	 * @return
+	 */
+	public static NodeFilterPlan create(GraphQLContext gc, Map<String, ?> filter) {
+		if (filter == null) {
+			return new NodeFilterPlan(null, null, Collections.emptyMap());
+		}
+		Map<String, Object> residual = new LinkedHashMap<>(filter);
+
+		Set<String> uuids = toValues(filter.get(UUID_KEY));
+		if (uuids != null) {
+			residual.remove(UUID_KEY);
+		}
+
+		Set<String> schemaUuids = toSchemaUuids(gc, filter.get(SCHEMA_KEY));
+		if (schemaUuids != null) {
+			residual.remove(SCHEMA_KEY);
+		}
+
+		NodeFilterPlan plan = new NodeFilterPlan(uuids, schemaUuids, residual);
+		if (log.isDebugEnabled()) {
+			log.debug("Using plan {" + plan + "} for node filter {" + filter + "}");
+		}
+		return plan;
+	}
+
+	/**
+	 * Resolve the schema condition into the uuids of the matching schemas. Supported are conditions on the schema enum, the uuid or the name of the schema.
+	 *
+	 * @param gc
+	 * @param schemaFilter
+	 * @return Uuids of the schemas or null if the condition can't be resolved
+	 */
+	private static Set<String> toSchemaUuids(GraphQLContext gc, Object schemaFilter) {
+		if (!(schemaFilter instanceof Map) || ((Map<?, ?>) schemaFilter).size() != 1) {
+			return null;
+		}
+		Map<?, ?> condition = (Map<?, ?>) schemaFilter;
+		Object is = condition.get("is");
+		if (is instanceof String) {
+			return Collections.singleton((String) is);
+		}
+		Set<String> uuids = toValues(condition.get(UUID_KEY));
+		if (uuids != null) {
+			return uuids;
+		}
+		Set<String> names = toValues(condition.get("name"));
+		if (names == null) {
+			return null;
+		}
+		Set<String> schemaUuids = new LinkedHashSet<>();
+		for (String name : names) {
+			SchemaContainer schema = gc.getProject().getSchemaContainerRoot().findByName(name);
+			// Nodes may still use schemas which have been unassigned from the project. Those can only be found by the in-memory filter.
+			if (schema == null) {
+				return null;
+			}
+			schemaUuids.add(schema.getUuid());
+		}
+		return schemaUuids;
+	}
+
+	/**
+	 * Return the values of a string filter which only consists of an equals or oneOf condition.
+	 *
+	 * @param stringFilter
+	 * @return Values or null if the filter contains other conditions
+	 */
+	private static Set<String> toValues(Object stringFilter) {
+		if (!(stringFilter instanceof Map) || ((Map<?, ?>) stringFilter).size() != 1) {
+			return null;
+		}
+		Map<?, ?> condition = (Map<?, ?>) stringFilter;
+		Object equals = condition.get("equals");
+		if (equals instanceof String) {
+			return Collections.singleton((String) equals);
+		}
+		Object oneOf = condition.get("oneOf");
+		if (oneOf instanceof Collection) {
+			Set<String> values = new LinkedHashSet<>();
+			for (Object value : (Collection<?>) oneOf) {
+				if (!(value instanceof String)) {
+					return null;
+				}
+				values.add((String) value);
+			}
+			return values;
+		}
+		return null;
+	}
+
+	/**
+	 * Load the readable nodes of the project which match the conditions that are resolved via the indices.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public Stream<? extends Node> findNodes(GraphQLContext gc) {
+		NodeRoot root = gc.getProject().getNodeRoot();
+		if (uuids != null) {
+			Stream<? extends Node> nodes = root.findByUuidsStream(gc, uuids);
+			if (schemaUuids != null) {
+				nodes = nodes.filter(node -> schemaUuids.contains(node.getSchemaContainer().getUuid()));
+			}
+			return nodes;
+		}
+		if (schemaUuids != null) {
+			return schemaUuids.stream().flatMap(schemaUuid -> root.findBySchemaStream(gc, schemaUuid));
+		}
+		return root.findAllStream(gc, READ_PUBLISHED_PERM);
+	}
+
+	/**
+	 * Create the predicate for the conditions which could not be resolved via the indices.
+	 *
+	 * @param gc
+	 * @return Predicate or null if all conditions have been resolved via the indices
+	 */
+	public Predicate<NodeContent> createPredicate(GraphQLContext gc) {
+		if (residualFilter.isEmpty()) {
+			return null;
+		}
+		return NodeFilter.filter(gc).createPredicate(residualFilter);
+	}
+
+	@Override
+	public String toString() {
+		List<String> steps = new ArrayList<>();
+		if (uuids != null) {
+			steps.add("uuid index lookup of " + uuids.size() + " node(s)");
+		}
+		if (schemaUuids != null) {
+			steps.add(uuids != null ? "schema check" : "schema index lookup of " + schemaUuids.size() + " schema(s)");
+		}
+		if (steps.isEmpty()) {
+			steps.add("project scan");
+		}
+		if (!residualFilter.isEmpty()) {
+			steps.add("in-memory filter on " + residualFilter.keySet());
+		}
+		return String.join(", ", steps);
+	}
+}
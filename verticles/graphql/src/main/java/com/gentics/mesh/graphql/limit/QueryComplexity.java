@@ -0,0 +1,222 @@
+package com.gentics.mesh.graphql.limit;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.math.LongMath;
+
+import graphql.language.Argument;
+import graphql.language.Definition;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.OperationDefinition;
+import graphql.language.OperationDefinition.Operation;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLModifiedType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+
+/**
+ * Static estimation of the depth and the cost of a GraphQL query. The estimation is done on the parsed query before it gets executed.
+ *
+ * Every field which needs to be resolved costs one point. The cost of the sub selection of a field which has a <code>perPage</code> argument is
+ * multiplied by the amount of requested elements, since the sub selection will be resolved for every element of the page. Paged fields without a
+ * <code>perPage</code> argument return all elements. The given estimated page size is assumed for them. The alternative selections of fragments are all
+ * taken into account. The estimated cost is thus an upper bound.
+ */
+public class QueryComplexity {
+
+	private static final String PER_PAGE_ARGUMENT = "perPage";
+
+	private final int depth;
+
+	private final long cost;
+
+	private QueryComplexity(int depth, long cost) {
+		this.depth = depth;
+		this.cost = cost;
+	}
+
+	/**
+	 * Analyze the operations of the given document. The values of the maximum depth and the maximum cost of all operations are returned.
+	 *
+	 * @param document
+	 *            Parsed query
+	 * @param schema
+	 *            Schema which is used to determine the paged fields
+	 * @param variables
+	 *            Variables of the query which are used to determine the page sizes
+	 * @param estimatedPageSize
+	 *            Page size which is assumed for paged fields without a perPage argument
+	 * @return
+	 */
+	public static QueryComplexity analyze(Document document, GraphQLSchema schema, Map<String, Object> variables, long estimatedPageSize) {
+		Map<String, FragmentDefinition> fragments = new HashMap<>();
+		for (Definition definition : document.getDefinitions()) {
+			if (definition instanceof FragmentDefinition) {
+				FragmentDefinition fragment = (FragmentDefinition) definition;
+				fragments.put(fragment.getName(), fragment);
+			}
+		}
+		Analyzer analyzer = new Analyzer(schema, fragments, variables, estimatedPageSize);
+		QueryComplexity result = new QueryComplexity(0, 0);
+		for (Definition definition : document.getDefinitions()) {
+			if (definition instanceof OperationDefinition) {
+				OperationDefinition operationDefinition = (OperationDefinition) definition;
+				GraphQLType rootType = rootType(schema, operationDefinition.getOperation());
+				QueryComplexity operation = analyzer.analyze(operationDefinition.getSelectionSet(), rootType, new HashSet<>());
+				result = new QueryComplexity(Math.max(result.depth, operation.depth), Math.max(result.cost, operation.cost));
+			}
+		}
+		return result;
+	}
+
+	private static GraphQLType rootType(GraphQLSchema schema, Operation operation) {
+		if (operation == Operation.MUTATION) {
+			return schema.getMutationType();
+		} else if (operation == Operation.SUBSCRIPTION) {
+			return schema.getSubscriptionType();
+		}
+		return schema.getQueryType();
+	}
+
+	/**
+	 * Return the maximum nesting depth of fields in the query.
+	 *
+	 * @return
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Return the estimated amount of field resolutions of the query.
+	 *
+	 * @return
+	 */
+	public long getCost() {
+		return cost;
+	}
+
+	private static class Analyzer {
+
+		private final GraphQLSchema schema;
+
+		private final Map<String, FragmentDefinition> fragments;
+
+		private final Map<String, Object> variables;
+
+		private final long estimatedPageSize;
+
+		Analyzer(GraphQLSchema schema, Map<String, FragmentDefinition> fragments, Map<String, Object> variables, long estimatedPageSize) {
+			this.schema = schema;
+			this.fragments = fragments;
+			this.variables = variables;
+			this.estimatedPageSize = estimatedPageSize;
+		}
+
+		/**
+		 * Analyze the selection set.
+		 *
+		 * @param selectionSet
+		 * @param parentType
+		 *            Type which contains the selected fields or null if the type is unknown
+		 * @param visitedFragments
+		 *            Fragments which are currently being analyzed. Used to prevent endless recursions for invalid queries.
+		 * @return
+		 */
+		QueryComplexity analyze(SelectionSet selectionSet, GraphQLType parentType, Set<String> visitedFragments) {
+			if (selectionSet == null) {
+				return new QueryComplexity(0, 0);
+			}
+			int depth = 0;
+			long cost = 0;
+			for (Selection selection : selectionSet.getSelections()) {
+				QueryComplexity child;
+				if (selection instanceof Field) {
+					Field field = (Field) selection;
+					GraphQLFieldDefinition fieldDefinition = fieldDefinition(parentType, field.getName());
+					GraphQLType fieldType = fieldDefinition == null ? null : fieldDefinition.getType();
+					QueryComplexity sub = analyze(field.getSelectionSet(), fieldType, visitedFragments);
+					child = new QueryComplexity(sub.depth + 1, LongMath.saturatedAdd(1, LongMath.saturatedMultiply(sub.cost, pageSize(field, fieldDefinition))));
+				} else if (selection instanceof InlineFragment) {
+					InlineFragment fragment = (InlineFragment) selection;
+					GraphQLType type = fragment.getTypeCondition() == null ? parentType : schema.getType(fragment.getTypeCondition().getName());
+					child = analyze(fragment.getSelectionSet(), type, visitedFragments);
+				} else if (selection instanceof FragmentSpread) {
+					String name = ((FragmentSpread) selection).getName();
+					FragmentDefinition fragment = fragments.get(name);
+					if (fragment == null || !visitedFragments.add(name)) {
+						continue;
+					}
+					GraphQLType type = schema.getType(fragment.getTypeCondition().getName());
+					child = analyze(fragment.getSelectionSet(), type, visitedFragments);
+					visitedFragments.remove(name);
+				} else {
+					continue;
+				}
+				depth = Math.max(depth, child.depth);
+				cost = LongMath.saturatedAdd(cost, child.cost);
+			}
+			return new QueryComplexity(depth, cost);
+		}
+
+		/**
+		 * Return the definition of the field within the given type.
+		 *
+		 * @param type
+		 * @param name
+		 * @return Field definition or null if the type is unknown or does not contain the field
+		 */
+		private GraphQLFieldDefinition fieldDefinition(GraphQLType type, String name) {
+			while (type instanceof GraphQLModifiedType) {
+				type = ((GraphQLModifiedType) type).getWrappedType();
+			}
+			if (type instanceof GraphQLFieldsContainer) {
+				return ((GraphQLFieldsContainer) type).getFieldDefinition(name);
+			}
+			return null;
+		}
+
+		/**
+		 * Return the amount of elements which are requested by the perPage argument of the field.
+		 *
+		 * @param field
+		 * @param fieldDefinition
+		 *            Definition of the field or null if it is unknown
+		 * @return Page size, the estimated page size if the field is paged but no page size has been requested or 1 if the field is not paged
+		 */
+		private long pageSize(Field field, GraphQLFieldDefinition fieldDefinition) {
+			for (Argument argument : field.getArguments()) {
+				if (PER_PAGE_ARGUMENT.equals(argument.getName())) {
+					Value value = argument.getValue();
+					if (value instanceof IntValue) {
+						BigInteger perPage = ((IntValue) value).getValue();
+						return Math.max(1, perPage.min(BigInteger.valueOf(Long.MAX_VALUE)).longValue());
+					} else if (value instanceof VariableReference) {
+						Object perPage = variables.get(((VariableReference) value).getName());
+						if (perPage instanceof Number) {
+							return Math.max(1, ((Number) perPage).longValue());
+						}
+					}
+				}
+			}
+			if (fieldDefinition != null && fieldDefinition.getArgument(PER_PAGE_ARGUMENT) != null) {
+				return estimatedPageSize;
+			}
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.gentics.mesh.graphql.limit;
+
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_QUERY_COST;
+
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.metric.MetricsService;
+
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+
+/**
+ * Instrumentation which checks the estimated depth and cost of a query against the configured limits before the query gets executed. The analysis is done on
+ * the document which has already been parsed and validated for the execution, so that cached documents are not parsed again. Every field of a query which
+ * exceeds the limits will fail immediately so that no data gets loaded.
+ */
+public class QueryLimitInstrumentation extends SimpleInstrumentation {
+
+	/**
+	 * Context data key for the error message which is set once the query has been rejected.
+	 */
+	public static final String LIMIT_ERROR_DATA_KEY = "graphQLQueryLimitError";
+
+	private final GraphQLOptions options;
+
+	private final MetricsService metrics;
+
+	public QueryLimitInstrumentation(GraphQLOptions options, MetricsService metrics) {
+		this.options = options;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public ExecutionContext instrumentExecutionContext(ExecutionContext executionContext, InstrumentationExecutionParameters parameters) {
+		int maxDepth = options.getMaxQueryDepth();
+		long maxCost = options.getMaxQueryCost();
+		if (maxDepth <= 0 && maxCost <= 0) {
+			return executionContext;
+		}
+		QueryComplexity complexity = QueryComplexity.analyze(executionContext.getDocument(), executionContext.getGraphQLSchema(),
+			executionContext.getVariables(), options.getEstimatedPageSize());
+		metrics.meter(GRAPHQL_QUERY_COST).record(complexity.getCost());
+		String error = null;
+		if (maxDepth > 0 && complexity.getDepth() > maxDepth) {
+			error = "The query depth of " + complexity.getDepth() + " exceeds the maximum depth of " + maxDepth + ".";
+		} else if (maxCost > 0 && complexity.getCost() > maxCost) {
+			error = "The estimated query cost of " + complexity.getCost() + " exceeds the maximum cost of " + maxCost + ".";
+		}
+		if (error != null) {
+			GraphQLContext gc = executionContext.getContext();
+			gc.put(LIMIT_ERROR_DATA_KEY, error);
+		}
+		return executionContext;
+	}
+
+	@Override
+	public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+		return env -> {
+			GraphQLContext gc = env.getContext();
+			String error = gc.get(LIMIT_ERROR_DATA_KEY);
+			if (error != null) {
+				throw new QueryLimitException(error);
+			}
+			return dataFetcher.get(env);
+		};
+	}
+
+	/**
+	 * Exception which is thrown for the fields of a query which exceeds the limits.
+	 */
+	public static class QueryLimitException extends RuntimeException {
+
+		private static final long serialVersionUID = -1728323451953466416L;
+
+		public QueryLimitException(String message) {
+			super(message, null, false, false);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.gentics.mesh.graphql.limit;
+
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+
+/**
+ * Instrumentation which aborts the execution of a query once the deadline of the query has been reached. The data fetchers run within the worker thread of
+ * the request and can't be interrupted. Instead every field which is resolved after the deadline will fail immediately so that the execution finishes
+ * quickly.
+ */
+public class QueryTimeoutInstrumentation extends SimpleInstrumentation {
+
+	/**
+	 * Context data key for the deadline of the query in terms of {@link System#nanoTime()}.
+	 */
+	public static final String DEADLINE_DATA_KEY = "graphQLQueryDeadline";
+
+	/**
+	 * Context data key for the flag which is set once the query has been aborted.
+	 */
+	public static final String TIMED_OUT_DATA_KEY = "graphQLQueryTimedOut";
+
+	@Override
+	public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+		return env -> {
+			GraphQLContext gc = env.getContext();
+			Long deadline = gc.get(DEADLINE_DATA_KEY);
+			if (deadline != null && System.nanoTime() - deadline > 0) {
+				gc.put(TIMED_OUT_DATA_KEY, true);
+				throw new QueryTimeoutException();
+			}
+			return dataFetcher.get(env);
+		};
+	}
+
+	/**
+	 * Exception which is thrown for fields that are resolved after the deadline.
+	 */
+	public static class QueryTimeoutException extends RuntimeException {
+
+		private static final long serialVersionUID = 3305417411406624530L;
+
+		public QueryTimeoutException() {
+			super("The query has been aborted since it exceeded the timeout.", null, false, false);
+		}
+	}
+}
@@ -1,7 +1,6 @@
 package com.gentics.mesh.graphql.type;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static graphql.Scalars.GraphQLLong;
 import static graphql.Scalars.GraphQLString;
 import static graphql.schema.GraphQLArgument.newArgument;
@@ -15,6 +14,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -26,7 +26,6 @@ import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
-import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -36,6 +35,7 @@ import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.filter.NodeFilter;
+import com.gentics.mesh.graphql.filter.NodeFilterPlan;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -478,7 +478,8 @@ public abstract class AbstractTypeProvider {
 	}
 
 	/**
-	 * Fetches nodes and applies filters
+	 * Fetches nodes and applies filters. Conditions on the uuid and the schema of the nodes are resolved via the indices of the graph. See
+	 * {@link NodeFilterPlan}.
 	 *
 	 * @param env
 	 *            the environment of the request
@@ -486,17 +487,23 @@ public abstract class AbstractTypeProvider {
 	 */
 	protected DynamicStreamPageImpl<NodeContent> fetchFilteredNodes(DataFetchingEnvironment env) {
 		GraphQLContext gc = env.getContext();
-		NodeRoot nodeRoot = gc.getProject().getNodeRoot();
+		Map<String, ?> filterArgument = env.getArgument("filter");
+		NodeFilterPlan plan = NodeFilterPlan.create(gc, filterArgument);
 
 		List<String> languageTags = getLanguageArgument(env);
 
-		Stream<NodeContent> contents = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM)
+		Stream<NodeContent> contents = plan.findNodes(gc)
 			// Now lets try to load the containers for those found nodes - apply the language fallback
 			.map(node -> new NodeContent(node, node.findVersion(gc, languageTags), languageTags))
 			// Filter nodes without a container
 			.filter(content -> content.getContainer() != null);
 
-		return applyNodeFilter(env, contents);
+		Predicate<NodeContent> predicate = plan.createPredicate(gc);
+		if (predicate != null) {
+			return new DynamicStreamPageImpl<>(contents, getPagingInfo(env), predicate);
+		} else {
+			return new DynamicStreamPageImpl<>(contents, getPagingInfo(env));
+		}
 	}
 
 	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream) {
@@ -35,6 +35,7 @@ import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
@@ -51,6 +52,7 @@ import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.model.NodeReferenceIn;
 import com.gentics.mesh.graphql.type.field.FieldDefinitionProvider;
@@ -116,16 +118,55 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 		GraphQLContext gc = env.getContext();
-		String uuid = gc.getBranch().getUuid();
-		Node parentNode = content.getNode().getParentNode(uuid);
+		NodeDataLoader loader = NodeDataLoader.get(gc);
+		Node parentNode = loader.load("parent", content, contents -> loadParents(loader, contents));
 		// The project root node can have no parent. Lets check this and exit early.
 		if (parentNode == null) {
 			return null;
 		}
-		gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
+		loader.requiresRead(parentNode);
 
 		List<String> languageTags = getLanguageArgument(env, content);
-		return new NodeContent(parentNode, parentNode.findVersion(gc, languageTags), languageTags);
+		return loader.content(parentNode, languageTags);
+	}
+
+	/**
+	 * Load the parents of the given contents. The read permissions of the distinct parents are checked in bulk.
+	 *
+	 * @param loader
+	 * @param contents
+	 * @return Parent nodes in the order of the contents
+	 */
+	private List<Node> loadParents(NodeDataLoader loader, List<NodeContent> contents) {
+		List<Node> parents = new ArrayList<>(contents.size());
+		for (NodeContent content : contents) {
+			parents.add(content.getNode() == null ? null : loader.getParent(content.getNode()));
+		}
+		loader.prefetchReadPermissions(NodeDataLoader.distinct(parents));
+		return parents;
+	}
+
+	/**
+	 * Load the tags of the nodes of the given contents. The read permissions of the distinct tags are checked in bulk.
+	 *
+	 * @param loader
+	 * @param gc
+	 * @param contents
+	 * @return Readable tags in the order of the contents
+	 */
+	private List<List<Tag>> loadTags(NodeDataLoader loader, GraphQLContext gc, List<NodeContent> contents) {
+		List<List<Tag>> tagsPerContent = new ArrayList<>(contents.size());
+		List<Tag> allTags = new ArrayList<>();
+		for (NodeContent content : contents) {
+			List<Tag> tags = new ArrayList<>(content.getNode().getTags(gc.getBranch()).list());
+			tagsPerContent.add(tags);
+			allTags.addAll(tags);
+		}
+		loader.prefetchPermissions(allTags, READ_PERM);
+		for (List<Tag> tags : tagsPerContent) {
+			tags.removeIf(tag -> !loader.hasPermission(tag, READ_PERM));
+		}
+		return tagsPerContent;
 	}
 
 	public Object nodeLanguageFetcher(DataFetchingEnvironment env) {
@@ -162,10 +203,13 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 
-		return content.getNode().getBreadcrumbNodes(gc).stream().map(node -> {
-			List<String> languageTags = getLanguageArgument(env, content);
-			return new NodeContent(node, node.findVersion(gc, languageTags), languageTags);
-		}).collect(Collectors.toList());
+		NodeDataLoader loader = NodeDataLoader.get(gc);
+		List<String> languageTags = getLanguageArgument(env, content);
+		List<NodeContent> breadcrumb = loader.getBreadcrumb(content.getNode()).stream()
+			.map(node -> loader.content(node, languageTags))
+			.collect(Collectors.toList());
+		loader.registerSiblings(breadcrumb);
+		return breadcrumb;
 	}
 
 	public Object languagesFetcher(DataFetchingEnvironment env) {
@@ -324,8 +368,9 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 				if (content == null) {
 					return null;
 				}
-				Node node = content.getNode();
-				return node.getTags(gc.getUser(), getPagingInfo(env), gc.getBranch());
+				NodeDataLoader loader = NodeDataLoader.get(gc);
+				List<Tag> tags = loader.load("tags", content, contents -> loadTags(loader, gc, contents));
+				return new DynamicStreamPageImpl<>(tags.stream(), getPagingInfo(env));
 			}).build(),
 
 			// TODO Fix name confusion and check what version of schema should be used to determine this type
@@ -349,11 +394,12 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 				.type(new GraphQLTypeReference(NODE_REFERENCE_PAGE_TYPE_NAME))
 				.dataFetcher(env -> {
 					NodeContent content = env.getSource();
+					GraphQLContext gc = env.getContext();
 
-					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(context, content);
+					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(gc, content);
 					Map<String, ?> filterInput = env.getArgument("filter");
 					if (filterInput != null) {
-						stream = stream.filter(nodeReferenceFilter(context).createPredicate(filterInput));
+						stream = stream.filter(nodeReferenceFilter(gc).createPredicate(filterInput));
 					}
 
 					return new DynamicStreamPageImpl<>(stream, getPagingInfo(env));
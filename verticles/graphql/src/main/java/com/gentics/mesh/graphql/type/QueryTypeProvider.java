@@ -59,6 +59,7 @@ import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.core.rest.error.UuidNotFoundException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.GroupFilter;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.filter.RoleFilter;
@@ -482,7 +483,13 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 
 		Builder type = newObject().name(pageTypeName).description("Paged result");
 		type.field(newFieldDefinition().name("elements").type(new GraphQLList(new GraphQLTypeReference(elementType))).dataFetcher(env -> {
-			return env.getSource();
+			Object source = env.getSource();
+			if (NODE_TYPE_NAME.equals(elementType) && source instanceof Page) {
+				// Fields of the nodes will be resolved for all elements of the page at once
+				GraphQLContext gc = env.getContext();
+				NodeDataLoader.get(gc).registerSiblings(((Page<?>) source).getWrappedList());
+			}
+			return source;
 		}));
 
 		type.field(newFieldDefinition().name("totalCount").description("Return the total item count which the resource could provide.")
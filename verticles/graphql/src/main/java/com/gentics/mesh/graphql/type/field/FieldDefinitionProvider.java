@@ -28,6 +28,7 @@ import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.ListFieldSchema;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.type.AbstractTypeProvider;
 import com.gentics.mesh.parameter.LinkType;
@@ -42,14 +43,13 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.graphql.type.NodeTypeProvider.NODE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.field.MicronodeFieldTypeProvider.MICRONODE_TYPE_NAME;
@@ -246,7 +246,6 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 		GraphQLType type = getElementTypeOfList(schema);
 		graphql.schema.GraphQLFieldDefinition.Builder fieldType = newFieldDefinition().name(schema.getName()).description(schema.getLabel())
 			.type(new GraphQLList(type)).argument(createPagingArgs());
-		NodeFilter nodeFilter = NodeFilter.filter(context);
 
 		// Add link resolving arg to html and string lists
 		switch (schema.getListType()) {
@@ -255,7 +254,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			fieldType.argument(createLinkTypeArg());
 			break;
 		case "node":
-			fieldType.argument(nodeFilter.createFilterArgument());
+			fieldType.argument(NodeFilter.filter(context).createFilterArgument());
 			break;
 		}
 
@@ -308,6 +307,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					return null;
 				}
 				Map<String, ?> filterArgument = env.getArgument("filter");
+				NodeDataLoader loader = NodeDataLoader.get(gc);
 				Stream<NodeContent> nodes = nodeList.getList().stream().map(item -> {
 					Node node = item.getNode();
 					List<String> languageTags;
@@ -320,13 +320,14 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 						throw error(HttpResponseStatus.INTERNAL_SERVER_ERROR, "container can only be NodeGraphFieldContainer or Micronode");
 					}
 					// TODO we need to add more assertions and check what happens if the itemContainer is null
-					NodeGraphFieldContainer itemContainer = node.findVersion(gc, languageTags);
-					return new NodeContent(node, itemContainer, languageTags);
+					return loader.content(node, languageTags);
 				});
 				if (filterArgument != null) {
-					nodes = nodes.filter(nodeFilter.createPredicate(filterArgument));
+					nodes = nodes.filter(NodeFilter.filter(gc).createPredicate(filterArgument));
 				}
-				return nodes.collect(Collectors.toList());
+				List<NodeContent> contents = nodes.collect(Collectors.toList());
+				loader.registerSiblings(contents);
+				return contents;
 			case "micronode":
 				MicronodeGraphFieldList micronodeList = container.getMicronodeList(schema.getName());
 				if (micronodeList == null) {
@@ -390,21 +391,36 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			.type(new GraphQLTypeReference(NODE_TYPE_NAME)).dataFetcher(env -> {
 				GraphQLContext gc = env.getContext();
 				GraphFieldContainer source = env.getSource();
+				NodeDataLoader loader = NodeDataLoader.get(gc);
 				// TODO decide whether we want to reference the default content by default
-				NodeGraphField nodeField = source.getNode(schema.getName());
-				if (nodeField != null) {
-					Node node = nodeField.getNode();
-					if (node != null) {
-						//Note that we would need to check for micronodes which are not language specific!
-						List<String> languageTags = getLanguageArgument(env, source);
-						// Check permissions for the linked node
-						gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-						return new NodeContent(node, container, languageTags);
-					}
+				Node node = loader.load("node:" + schema.getName(), source, sources -> loadReferencedNodes(loader, sources, schema.getName()));
+				if (node != null) {
+					//Note that we would need to check for micronodes which are not language specific!
+					List<String> languageTags = getLanguageArgument(env, source);
+					// Check permissions for the linked node
+					loader.requiresRead(node);
+					return loader.content(node, languageTags);
 				}
 				return null;
 			}).build();
 	}
 
+	/**
+	 * Load the nodes which are referenced by the node field of the given containers. The read permissions of the distinct nodes are checked in bulk.
+	 *
+	 * @param loader
+	 * @param sources
+	 * @param fieldName
+	 * @return Referenced nodes in the order of the containers
+	 */
+	private List<Node> loadReferencedNodes(NodeDataLoader loader, List<GraphFieldContainer> sources, String fieldName) {
+		List<Node> nodes = new ArrayList<>(sources.size());
+		for (GraphFieldContainer source : sources) {
+			NodeGraphField nodeField = source.getNode(fieldName);
+			nodes.add(nodeField == null ? null : nodeField.getNode());
+		}
+		loader.prefetchReadPermissions(NodeDataLoader.distinct(nodes));
+		return nodes;
+	}
+
 }